@@ -4,7 +4,9 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import ru.tdd.author.application.enums.Role;
+import ru.tdd.core.controller.security.GatewayPrincipal;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
@@ -12,32 +14,36 @@ import java.util.UUID;
 /**
  * @author Tribushko Danil
  * @since 22.02.2026
- * DTO пользователя
+ * DTO пользователя, собранный из проверенного токена. Неизменяемый, роли преобразуются в права один раз
  */
-public class UserDTO implements UserDetails {
+public final class UserDTO implements UserDetails {
 
-    private UUID id;
+    private final UUID id;
 
-    private Long chatId;
+    private final Long chatId;
 
-    private String username;
+    private final String username;
 
-    private List<Role> roles;
+    private final List<Role> roles;
 
-    public UserDTO() {}
+    private final Instant expiration;
 
-    public UserDTO(UUID id, Long chatId, String username, List<Role> roles) {
+    private final List<GrantedAuthority> authorities;
+
+    public UserDTO(UUID id, Long chatId, String username, List<Role> roles, Instant expiration) {
         this.id = id;
         this.chatId = chatId;
         this.username = username;
-        this.roles = roles;
+        this.roles = List.copyOf(roles);
+        this.expiration = expiration;
+        this.authorities = this.roles.stream()
+                .map(r -> (GrantedAuthority) new SimpleGrantedAuthority(r.name()))
+                .toList();
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return roles.stream()
-                .map(r -> new SimpleGrantedAuthority(r.name()))
-                .toList();
+        return authorities;
     }
 
     @Override
@@ -50,31 +56,30 @@ public class UserDTO implements UserDetails {
         return username;
     }
 
-    public UUID getId() {
-        return id;
+    public static UserDTO fromPrincipal(GatewayPrincipal<Role> principal) {
+        return new UserDTO(
+                principal.id(),
+                principal.chatId(),
+                principal.username(),
+                principal.roles(),
+                principal.expiration()
+        );
     }
 
-    public void setId(UUID id) {
-        this.id = id;
+    public UUID getId() {
+        return id;
     }
 
     public Long getChatId() {
         return chatId;
     }
 
-    public void setChatId(Long chatId) {
-        this.chatId = chatId;
-    }
-
-    public void setUsername(String username) {
-        this.username = username;
-    }
-
     public List<Role> getRoles() {
         return roles;
     }
 
-    public void setRoles(List<Role> roles) {
-        this.roles = roles;
+    /** Момент истечения токена, из которого получен пользователь */
+    public Instant getExpiration() {
+        return expiration;
     }
 }
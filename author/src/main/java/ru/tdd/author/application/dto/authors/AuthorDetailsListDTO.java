@@ -11,12 +11,19 @@ public class AuthorDetailsListDTO {
 
     private List<AuthorDetailsDTO> data;
 
+    private String next;
+
     public AuthorDetailsListDTO() {}
 
     public AuthorDetailsListDTO(List<AuthorDetailsDTO> data) {
         this.data = data;
     }
 
+    public AuthorDetailsListDTO(List<AuthorDetailsDTO> data, String next) {
+        this.data = data;
+        this.next = next;
+    }
+
     public List<AuthorDetailsDTO> getData() {
         return data;
     }
@@ -24,4 +31,12 @@ public class AuthorDetailsListDTO {
     public void setData(List<AuthorDetailsDTO> data) {
         this.data = data;
     }
+
+    public String getNext() {
+        return next;
+    }
+
+    public void setNext(String next) {
+        this.next = next;
+    }
 }
@@ -11,12 +11,19 @@ public class AuthorListDTO {
 
     private List<AuthorDTO> data;
 
+    private String next;
+
     public AuthorListDTO() {}
 
     public AuthorListDTO(List<AuthorDTO> data) {
         this.data = data;
     }
 
+    public AuthorListDTO(List<AuthorDTO> data, String next) {
+        this.data = data;
+        this.next = next;
+    }
+
     public List<AuthorDTO> getData() {
         return data;
     }
@@ -24,4 +31,12 @@ public class AuthorListDTO {
     public void setData(List<AuthorDTO> data) {
         this.data = data;
     }
+
+    public String getNext() {
+        return next;
+    }
+
+    public void setNext(String next) {
+        this.next = next;
+    }
 }
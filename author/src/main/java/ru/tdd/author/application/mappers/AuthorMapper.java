@@ -7,6 +7,11 @@ import ru.tdd.author.application.dto.authors.AuthorDetailsDTO;
 import ru.tdd.author.application.dto.countries.CountryDTO;
 import ru.tdd.author.database.entitites.Author;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 /**
  * @author Tribushko Danil
  * @since 19.02.2026
@@ -22,4 +27,18 @@ public interface AuthorMapper {
     @Mapping(target = "id", source = "author.id")
     @Mapping(target = "country", source = "countryDto")
     AuthorDetailsDTO toDetailsDto(Author author, CountryDTO countryDto);
+
+    /** Маппинг страницы авторов по заранее загруженным странам */
+    default List<AuthorDTO> toDtoList(Collection<Author> authors, Map<UUID, CountryDTO> countries) {
+        return authors.stream()
+                .map(author -> toDto(author, countries.get(author.getCountry())))
+                .toList();
+    }
+
+    /** Маппинг страницы авторов с версиями по заранее загруженным странам */
+    default List<AuthorDetailsDTO> toDetailsDtoList(Collection<Author> authors, Map<UUID, CountryDTO> countries) {
+        return authors.stream()
+                .map(author -> toDetailsDto(author, countries.get(author.getCountry())))
+                .toList();
+    }
 }
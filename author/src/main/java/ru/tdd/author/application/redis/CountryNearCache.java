@@ -0,0 +1,90 @@
+package ru.tdd.author.application.redis;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import ru.tdd.author.application.dto.countries.CountryDTO;
+import ru.tdd.core.application.utils.CacheLoading;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Ограниченный кэш стран в памяти процесса перед redis.
+ * Записи сбрасываются по сообщениям канала инвалидации redis, которые рассылает экземпляр,
+ * применивший изменение стран из кафки, поэтому кэши всех экземпляров author сбрасываются одновременно
+ */
+@Component
+public class CountryNearCache implements MessageListener {
+
+    public static final String CACHE_NAME = "country.near";
+
+    private final AsyncCache<UUID, CountryDTO> cache;
+
+    @Autowired
+    public CountryNearCache(
+            @Value("${cache.country.near.max-size:1000}") long maxSize,
+            @Value("${cache.country.near.expire-after-write:10m}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /** Получение страны из кэша или загрузка из следующего уровня на вызывающем потоке */
+    public CountryDTO get(UUID id, Function<UUID, CountryDTO> loader) {
+        return CacheLoading.get(cache, id, loader);
+    }
+
+    /** Получение набора стран из кэша, недостающие загружаются из следующего уровня одним вызовом */
+    public Map<UUID, CountryDTO> getAll(
+            Collection<UUID> ids,
+            Function<Set<? extends UUID>, Map<UUID, CountryDTO>> loader
+    ) {
+        return cache.getAll(ids, (missing, executor) -> CompletableFuture.completedFuture(loader.apply(missing)))
+                .join();
+    }
+
+    public void put(CountryDTO dto) {
+        cache.put(dto.getId(), CompletableFuture.completedFuture(dto));
+    }
+
+    public void invalidateAll(Collection<UUID> ids) {
+        cache.synchronous().invalidateAll(ids);
+    }
+
+    /**
+     * Сообщение инвалидации содержит идентификаторы стран через запятую
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        invalidateAll(
+                Arrays.stream(body.split(","))
+                        .filter(id -> !id.isBlank())
+                        .map(UUID::fromString)
+                        .toList()
+        );
+    }
+}
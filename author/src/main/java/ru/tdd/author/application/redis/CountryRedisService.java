@@ -2,6 +2,8 @@ package ru.tdd.author.application.redis;
 
 import ru.tdd.author.application.dto.countries.CountryDTO;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -11,4 +13,12 @@ import java.util.UUID;
  */
 public interface CountryRedisService extends RedisService<UUID, CountryDTO> {
 
+    /** Получение набора стран за постоянное число обращений к redis и бд */
+    Map<UUID, CountryDTO> getAll(Collection<UUID> keys);
+
+    /** Сброс стран во всех уровнях кэша на всех экземплярах, после сброса увеличивает версию стран */
+    void evictAll(Collection<UUID> keys);
+
+    /** Версия стран: общий для всех экземпляров счетчик в redis, 0 если стран еще не сбрасывали */
+    long revision();
 }
@@ -1,54 +1,202 @@
 package ru.tdd.author.application.redis;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Service;
 import ru.tdd.author.application.dto.countries.CountryDTO;
+import ru.tdd.author.application.exceptions.country.CountryByIdNotFoundException;
 import ru.tdd.author.application.services.CountryService;
 
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * @author Tribushko Danil
  * @since 21.02.2026
+ * Двухуровневый кэш стран: кэш в памяти процесса, затем redis, затем сервис стран
  */
 @Service
 public class CountryRedisServiceImp implements CountryRedisService {
 
+    public static final String CACHE_NAME = "country.redis";
+
+    public static final String REVISION_KEY = "country.revision";
+
+    @Value("${cache.country.redis.invalidation-channel:bc.country.invalidation}")
+    private String invalidationChannel;
+
     private final RedisTemplate<String, CountryDTO> redisTemplate;
 
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final CountryNearCache nearCache;
+
     private final CountryService countryService;
 
+    private final Counter hits;
+
+    private final Counter misses;
+
+    private final Counter evictions;
+
     @Autowired
     public CountryRedisServiceImp(
             RedisTemplate<String, CountryDTO> redisTemplate,
-            CountryService countryService
+            StringRedisTemplate stringRedisTemplate,
+            CountryNearCache nearCache,
+            CountryService countryService,
+            MeterRegistry meterRegistry
     ) {
         this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.nearCache = nearCache;
         this.countryService = countryService;
+        this.hits = cacheCounter(meterRegistry, "cache.gets", "hit");
+        this.misses = cacheCounter(meterRegistry, "cache.gets", "miss");
+        this.evictions = cacheCounter(meterRegistry, "cache.evictions", null);
+    }
+
+    private static Counter cacheCounter(MeterRegistry meterRegistry, String name, String result) {
+        Counter.Builder builder = Counter.builder(name).tag("cache", CACHE_NAME);
+
+        if (result != null) {
+            builder.tag("result", result);
+        }
+
+        return builder.register(meterRegistry);
     }
 
     @Override
     public CountryDTO get(UUID key) {
-        return Optional.ofNullable(redisTemplate.opsForValue().get(key.toString()))
-                .orElseGet(() -> {
-                            CountryDTO countryDTO = countryService.getById(key);
-                            redisTemplate.opsForValue().set(
-                                    key.toString(),
-                                    countryDTO,
-                                    15,
-                                    TimeUnit.MINUTES
-                            );
-                            return countryDTO;
-                        }
-                );
+        return nearCache.get(key, this::getFromRedis);
+    }
+
+    private CountryDTO getFromRedis(UUID key) {
+        CountryDTO cached = redisTemplate.opsForValue().get(key.toString());
+
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+
+        CountryDTO countryDTO = countryService.getById(key);
+        redisTemplate.opsForValue().set(
+                key.toString(),
+                countryDTO,
+                15,
+                TimeUnit.MINUTES
+        );
+
+        return countryDTO;
+    }
+
+    @Override
+    public Map<UUID, CountryDTO> getAll(Collection<UUID> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+
+        return nearCache.getAll(keys, this::getAllFromRedis);
+    }
+
+    /**
+     * Получение стран из redis одним MGET, промахи загружаются из бд одним запросом
+     * и записываются обратно в redis через конвейер.
+     * Как и при получении одной страны, отсутствующая в бд страна - ошибка CountryByIdNotFoundException
+     */
+    private Map<UUID, CountryDTO> getAllFromRedis(Set<? extends UUID> keys) {
+        List<UUID> ids = List.copyOf(keys);
+        List<CountryDTO> cached = redisTemplate.opsForValue().multiGet(ids.stream().map(UUID::toString).toList());
+
+        Map<UUID, CountryDTO> result = new HashMap<>();
+        List<UUID> missed = new ArrayList<>();
+
+        for (int i = 0; i < ids.size(); i++) {
+            CountryDTO country = cached == null ? null : cached.get(i);
+
+            if (country != null) {
+                result.put(ids.get(i), country);
+            } else {
+                missed.add(ids.get(i));
+            }
+        }
+
+        hits.increment(result.size());
+        misses.increment(missed.size());
+
+        if (!missed.isEmpty()) {
+            Map<UUID, CountryDTO> loaded = countryService.getAllById(missed);
+
+            if (!loaded.isEmpty()) {
+                redisTemplate.executePipelined(new SessionCallback<>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> Object execute(RedisOperations<K, V> operations) {
+                        ValueOperations<String, CountryDTO> valueOperations =
+                                (ValueOperations<String, CountryDTO>) operations.opsForValue();
+                        loaded.values().forEach(country ->
+                                valueOperations.set(country.getId().toString(), country, 15, TimeUnit.MINUTES)
+                        );
+                        return null;
+                    }
+                });
+            }
+
+            result.putAll(loaded);
+
+            missed.stream()
+                    .filter(id -> !loaded.containsKey(id))
+                    .findFirst()
+                    .ifPresent(id -> {
+                        throw new CountryByIdNotFoundException(id);
+                    });
+        }
+
+        return result;
     }
 
     @Override
     public void delete(UUID key) {
-        redisTemplate.delete(key.toString());
+        evictAll(List.of(key));
+    }
+
+    @Override
+    public void evictAll(Collection<UUID> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        Long deleted = redisTemplate.delete(keys.stream().map(UUID::toString).toList());
+        evictions.increment(deleted == null ? 0 : deleted);
+
+        nearCache.invalidateAll(keys);
+        stringRedisTemplate.opsForValue().increment(REVISION_KEY);
+        stringRedisTemplate.convertAndSend(
+                invalidationChannel,
+                keys.stream().map(UUID::toString).collect(Collectors.joining(","))
+        );
+    }
+
+    @Override
+    public long revision() {
+        String revision = stringRedisTemplate.opsForValue().get(REVISION_KEY);
+        return revision == null ? 0 : Long.parseLong(revision);
     }
 
     @Override
@@ -59,5 +207,6 @@ public class CountryRedisServiceImp implements CountryRedisService {
                 15,
                 TimeUnit.MINUTES
         );
+        nearCache.put(dto);
     }
 }
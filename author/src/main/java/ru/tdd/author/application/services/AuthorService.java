@@ -2,6 +2,7 @@ package ru.tdd.author.application.services;
 
 import org.springframework.transaction.annotation.Transactional;
 import ru.tdd.author.application.dto.authors.*;
+import ru.tdd.core.controller.dto.ConditionalDTO;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -22,11 +23,23 @@ public interface AuthorService {
     @Transactional
     AuthorDetailsDTO getById(UUID id);
 
+    /**
+     * Условное получение автора: если версия клиента совпадает с текущей, маппинг не выполняется
+     *
+     * @param ifNoneMatch значение заголовка If-None-Match, может быть null
+     */
+    @Transactional(readOnly = true)
+    ConditionalDTO<AuthorDetailsDTO> getById(UUID id, String ifNoneMatch);
+
+    /** Версия списков авторов, меняется при любом изменении авторов или стран */
+    @Transactional(readOnly = true)
+    String getListTag(String resource);
+
     @Transactional
     void delete(UUID id);
 
     @Transactional
-    AuthorListDTO getAll(String fio, String countryName, int page, int perPage);
+    AuthorListDTO getAll(String fio, String countryName, String after, int page, int perPage);
 
     @Transactional
     AuthorDetailsListDTO getAllDetails(
@@ -36,6 +49,7 @@ public interface AuthorService {
             LocalDateTime creationTimeEnd,
             LocalDateTime updateTimeStart,
             LocalDateTime updateTimeEnd,
+            String after,
             int page,
             int perPage
     );
@@ -3,6 +3,8 @@ package ru.tdd.author.application.services;
 import ru.tdd.author.application.dto.countries.CountryDTO;
 import ru.tdd.author.application.dto.countries.CountryListDTO;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -15,4 +17,7 @@ public interface CountryService {
     CountryListDTO getAll(String name, int page, int perPage);
 
     CountryDTO getById(UUID id);
+
+    /** Получение стран по набору идентификаторов одним запросом, отсутствующие страны в результат не попадают */
+    Map<UUID, CountryDTO> getAllById(Collection<UUID> ids);
 }
@@ -2,6 +2,7 @@ package ru.tdd.author.application.services.imp;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import ru.tdd.author.application.dto.authors.*;
 import ru.tdd.author.application.dto.countries.CountryDTO;
@@ -13,10 +14,17 @@ import ru.tdd.author.application.utils.TextUtils;
 import ru.tdd.author.database.entitites.Author;
 import ru.tdd.author.database.repositories.AuthorRepository;
 import ru.tdd.author.database.specifications.AuthorSpecification;
+import ru.tdd.core.application.utils.EntityTag;
+import ru.tdd.core.application.utils.KeysetPage;
+import ru.tdd.core.application.utils.PageCursor;
+import ru.tdd.core.controller.dto.ConditionalDTO;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * @author Tribushko Danil
@@ -89,10 +97,12 @@ public class AuthorServiceImp implements AuthorService {
 
         if (countryId != null && !Objects.equals(author.getCountry(), countryId)) {
             author.setCountry(countryId);
+            isUpdate = true;
         }
 
-        if (isUpdate)
+        if (isUpdate) {
             author.setUpdateTime(LocalDateTime.now());
+        }
 
         authorRepository.save(author);
 
@@ -101,12 +111,41 @@ public class AuthorServiceImp implements AuthorService {
 
     @Override
     public AuthorDetailsDTO getById(UUID id) {
+        return getById(id, null).body();
+    }
+
+    @Override
+    public ConditionalDTO<AuthorDetailsDTO> getById(UUID id, String ifNoneMatch) {
         Author author = authorRepository.findById(id)
                 .orElseThrow(() -> new AuthorByIdNotFoundException(id));
-        return authorMapper.toDetailsDto(
-                author,
-                countryService.get(author.getCountry())
-        );
+        CountryDTO country = countryService.get(author.getCountry());
+
+        String etag = EntityTag.of("author")
+                .add(author.getId())
+                .add(author.getUpdateTime())
+                .add(country.getId())
+                .add(country.getName())
+                .value();
+
+        if (EntityTag.matches(ifNoneMatch, etag)) {
+            return ConditionalDTO.notModified(etag);
+        }
+
+        return new ConditionalDTO<>(etag, authorMapper.toDetailsDto(author, country));
+    }
+
+    /**
+     * Версия строится из данных, которые и так поддерживаются записью: время последнего изменения
+     * и число авторов (удаление меняет число), а также версия стран из redis, которая увеличивается
+     * только после сброса кэшей стран. Общей строки-счетчика нет, поэтому записи не ждут друг друга
+     */
+    @Override
+    public String getListTag(String resource) {
+        return EntityTag.of(resource)
+                .add(authorRepository.findLastUpdateTime().orElse(null))
+                .add(authorRepository.count())
+                .add(countryService.revision())
+                .value();
     }
 
     @Override
@@ -118,14 +157,26 @@ public class AuthorServiceImp implements AuthorService {
     }
 
     @Override
-    public AuthorListDTO getAll(String fio, String countryName, int page, int perPage) {
+    public AuthorListDTO getAll(String fio, String countryName, String after, int page, int perPage) {
+        Specification<Author> specification = AuthorSpecification.byFioAndCountryNameDate(fio, countryName);
+
+        if (after != null) {
+            KeysetPage<Author> keysetPage = KeysetPage.byCreationTime(authorRepository, specification, after, perPage);
+            List<Author> authors = keysetPage.content();
+
+            return new AuthorListDTO(
+                    authorMapper.toDtoList(authors, getCountries(authors)),
+                    keysetPage.next()
+            );
+        }
+
+        List<Author> authors = authorRepository.findAll(
+                specification,
+                PageRequest.of(page, PageCursor.perPage(perPage))
+        ).getContent();
+
         return new AuthorListDTO(
-                authorRepository.findAll(
-                                AuthorSpecification.byFioAndCountryNameDate(fio, countryName),
-                                PageRequest.of(page, perPage)
-                        ).stream()
-                        .map(author -> authorMapper.toDto(author, countryService.get(author.getCountry())))
-                        .toList()
+                authorMapper.toDtoList(authors, getCountries(authors))
         );
     }
 
@@ -137,28 +188,47 @@ public class AuthorServiceImp implements AuthorService {
             LocalDateTime creationTimeEnd,
             LocalDateTime updateTimeStart,
             LocalDateTime updateTimeEnd,
+            String after,
             int page,
             int perPage
     ) {
+        Specification<Author> specification = AuthorSpecification.byFioAndCountryNameAndVersionsDate(
+                fio,
+                countryName,
+                creationTimeStart,
+                creationTimeEnd,
+                updateTimeStart,
+                updateTimeEnd
+        );
+
+        if (after != null) {
+            KeysetPage<Author> keysetPage = KeysetPage.byCreationTime(authorRepository, specification, after, perPage);
+            List<Author> authors = keysetPage.content();
+
+            return new AuthorDetailsListDTO(
+                    authorMapper.toDetailsDtoList(authors, getCountries(authors)),
+                    keysetPage.next()
+            );
+        }
+
+        List<Author> authors = authorRepository.findAll(
+                specification,
+                PageRequest.of(page, PageCursor.perPage(perPage))
+        ).getContent();
+
         return new AuthorDetailsListDTO(
-                authorRepository.findAll(
-                                AuthorSpecification.byFioAndCountryNameAndVersionsDate(
-                                        fio,
-                                        countryName,
-                                        creationTimeStart,
-                                        creationTimeEnd,
-                                        updateTimeStart,
-                                        updateTimeEnd
-                                ),
-                                PageRequest.of(page, perPage)
-                        ).stream()
-                        .map(author ->
-                                authorMapper.toDetailsDto(
-                                        author,
-                                        countryService.get(author.getCountry())
-                                )
-                        )
-                        .toList()
+                authorMapper.toDetailsDtoList(authors, getCountries(authors))
+        );
+    }
+
+    /**
+     * Загрузка стран всей страницы авторов одним обращением к кэшу
+     */
+    private Map<UUID, CountryDTO> getCountries(List<Author> authors) {
+        return countryService.getAll(
+                authors.stream()
+                        .map(Author::getCountry)
+                        .collect(Collectors.toSet())
         );
     }
 }
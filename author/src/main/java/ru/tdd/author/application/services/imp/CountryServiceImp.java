@@ -11,7 +11,11 @@ import ru.tdd.author.application.services.CountryService;
 import ru.tdd.author.database.repositories.CountryRepository;
 import ru.tdd.author.database.specifications.CountrySpecification;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * @author Tribushko Danil
@@ -53,4 +57,12 @@ public class CountryServiceImp implements CountryService {
                         .orElseThrow(() -> new CountryByIdNotFoundException(id))
         );
     }
+
+    @Override
+    public Map<UUID, CountryDTO> getAllById(Collection<UUID> ids) {
+        return countryRepository.findAllById(ids)
+                .stream()
+                .map(countryMapper::toDto)
+                .collect(Collectors.toMap(CountryDTO::getId, Function.identity()));
+    }
 }
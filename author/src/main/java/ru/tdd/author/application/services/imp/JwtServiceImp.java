@@ -1,9 +1,12 @@
 package ru.tdd.author.application.services.imp;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import ru.tdd.author.application.dto.UserDTO;
@@ -11,30 +14,37 @@ import ru.tdd.author.application.enums.Role;
 import ru.tdd.author.application.exceptions.ForbiddenException;
 import ru.tdd.author.application.services.JwtService;
 
-import javax.crypto.SecretKey;
-import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * @author Tribushko Danil
  * @since 22.02.2026
+ * Ключ подписи декодируется, а парсер собирается один раз при создании сервиса, парсер потокобезопасен
  */
 @Component
 public class JwtServiceImp implements JwtService {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final JwtParser parser;
+
+    @Autowired
+    public JwtServiceImp(@Value("${jwt.secret}") String secret) {
+        this.parser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)))
+                .build();
+    }
 
     @Override
     public UserDTO parse(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSecret())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims;
+
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new ForbiddenException("Токен не валидный");
+        }
 
-        if (claims.getExpiration().before(new Date()))
+        if (claims.getExpiration() == null)
             throw new ForbiddenException("Токен не валидный");
 
         List<String> rolesString = claims.get("roles", List.class);
@@ -44,12 +54,9 @@ public class JwtServiceImp implements JwtService {
                 claims.get("chatId", Long.class),
                 claims.getSubject(),
                 rolesString.stream().map(Role::valueOf)
-                        .toList()
+                        .toList(),
+                claims.getExpiration().toInstant()
 
         );
     }
-
-    private SecretKey getSecret() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
-    }
 }
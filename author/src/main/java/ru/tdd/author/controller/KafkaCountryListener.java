@@ -2,72 +2,125 @@ package ru.tdd.author.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
 import ru.tdd.author.application.dto.OutboxEventDTO;
 import ru.tdd.author.application.dto.countries.CountryDTO;
 import ru.tdd.author.application.enums.OutboxEventType;
 import ru.tdd.author.application.enums.events.CountryOutboxEvent;
-import ru.tdd.author.application.exceptions.country.CountryByIdNotFoundException;
 import ru.tdd.author.application.mappers.CountryMapper;
-import ru.tdd.author.application.utils.JsonUtils;
+import ru.tdd.author.application.redis.CountryRedisService;
 import ru.tdd.author.database.entitites.Country;
-import ru.tdd.author.database.repositories.CountryRepository;
+import ru.tdd.author.database.service.CountryDbService;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
  * @author Tribushko Danil
  * @since 24.02.2026
- * Слушатель событий кафка стран
+ * Слушатель событий кафка стран.
+ * События принимаются пачками, внутри пачки по каждой стране остается только последнее событие,
+ * результат применяется к реплике стран одним JDBC батчем, после чего измененные страны сбрасываются из кэшей.
+ * Версия стран, из которой строится ETag списков авторов, увеличивается только внутри сброса кэшей,
+ * поэтому новый ETag не может быть выдан вместе со старыми названиями стран
  */
 @Component
 public class KafkaCountryListener {
 
-    private final CountryRepository countryRepository;
+    private final CountryDbService countryDbService;
+
+    private final CountryRedisService countryRedisService;
 
     private final CountryMapper countryMapper;
 
-    private final ObjectMapper objectMapper;
+    private final ObjectReader eventReader;
+
+    private final ObjectReader countryReader;
 
     public KafkaCountryListener(
-            CountryRepository countryRepository,
+            CountryDbService countryDbService,
+            CountryRedisService countryRedisService,
             CountryMapper countryMapper,
             ObjectMapper objectMapper
     ) {
-        this.countryRepository = countryRepository;
+        this.countryDbService = countryDbService;
+        this.countryRedisService = countryRedisService;
         this.countryMapper = countryMapper;
-        this.objectMapper = objectMapper;
+        this.eventReader = objectMapper.readerFor(OutboxEventDTO.class);
+        this.countryReader = objectMapper.readerFor(CountryDTO.class);
     }
 
-    @KafkaListener(topics = "${apache-kafka.topics.country}", groupId = "country")
-    public void listenCountry(String data) throws JsonProcessingException {
-        OutboxEventDTO event = objectMapper.readValue(data, OutboxEventDTO.class);
-
-        switch (OutboxEventType.valueOf(event.getEventType(), CountryOutboxEvent.class)) {
-            case CountryOutboxEvent.CREATE ->
-                countryRepository.save(
-                        countryMapper.toEntity(
-                                JsonUtils.fromJson(event.getPayload(), CountryDTO.class)
-                        )
-                );
-            case CountryOutboxEvent.UPDATE -> {
-                CountryDTO countryDTO = JsonUtils.fromJson(event.getPayload(), CountryDTO.class);
-                UUID countryId = countryDTO.getId();
-
-                Country country = countryRepository.findById(countryId)
-                        .orElseThrow(() -> new CountryByIdNotFoundException(countryId));
-                country.setName(countryDTO.getName());
-
-                countryRepository.save(country);
+    @KafkaListener(
+            topics = "${apache-kafka.topics.country}",
+            groupId = "country",
+            containerFactory = "batchKafkaListenerContainerFactory"
+    )
+    public void listenCountries(List<ConsumerRecord<String, String>> records) {
+        Map<UUID, CountryChange> changes = new LinkedHashMap<>();
+
+        for (int i = 0; i < records.size(); i++) {
+            CountryChange change = parse(records.get(i), i);
+            changes.merge(change.country().getId(), change, CountryChange::latest);
+        }
+
+        List<Country> upserted = new ArrayList<>();
+        List<UUID> deletedIds = new ArrayList<>();
+
+        changes.forEach((id, change) -> {
+            if (change.type() == CountryOutboxEvent.DELETE) {
+                deletedIds.add(id);
+            } else {
+                upserted.add(countryMapper.toEntity(change.country()));
             }
-            case CountryOutboxEvent.DELETE -> {
-                CountryDTO countryDTO = JsonUtils.fromJson(event.getPayload(), CountryDTO.class);
-                Country country = countryRepository.findById(countryDTO.getId())
-                        .orElseThrow(() -> new CountryByIdNotFoundException(countryDTO.getId()));
+        });
+
+        if (changes.isEmpty()) {
+            return;
+        }
 
-                countryRepository.delete(country);
+        countryDbService.applyChanges(upserted, deletedIds);
+        countryRedisService.evictAll(changes.keySet());
+    }
+
+    private CountryChange parse(ConsumerRecord<String, String> record, int index) {
+        try {
+            OutboxEventDTO event = eventReader.readValue(record.value());
+            CountryDTO country = countryReader.readValue(event.getPayload());
+
+            return new CountryChange(
+                    OutboxEventType.valueOf(event.getEventType(), CountryOutboxEvent.class),
+                    country,
+                    event,
+                    index
+            );
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new BatchListenerFailedException("Не удалось разобрать событие страны", e, index);
+        }
+    }
+
+    /**
+     * Изменение страны из одного события кафки
+     */
+    private record CountryChange(CountryOutboxEvent type, CountryDTO country, OutboxEventDTO event, int index) {
+
+        /** Выбор более позднего из двух изменений одной страны: по времени создания события, затем по позиции в пачке */
+        static CountryChange latest(CountryChange first, CountryChange second) {
+            if (first.event().getCreatedTime() != null && second.event().getCreatedTime() != null) {
+                int compare = first.event().getCreatedTime().compareTo(second.event().getCreatedTime());
+
+                if (compare != 0) {
+                    return compare > 0 ? first : second;
+                }
             }
+
+            return first.index() > second.index() ? first : second;
         }
     }
 }
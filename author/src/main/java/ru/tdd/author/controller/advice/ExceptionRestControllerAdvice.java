@@ -27,6 +27,13 @@ public class ExceptionRestControllerAdvice {
                 .body(new ExceptionDTO(ex.getStatusCode(), ex.getMessage(), ex.getTimestamp()));
     }
 
+    /** Исключения общих классов из core */
+    @ExceptionHandler(value = ru.tdd.core.application.exceptions.ApiException.class)
+    public ResponseEntity<ExceptionDTO> coreApiException(ru.tdd.core.application.exceptions.ApiException ex) {
+        return ResponseEntity.status(ex.getStatusCode())
+                .body(new ExceptionDTO(ex.getStatusCode().value(), ex.getMessage(), ex.getTimestamp()));
+    }
+
     @ExceptionHandler(value = MethodArgumentNotValidException.class)
     public ResponseEntity<ExceptionDTO> methodArgumentNotValidException(MethodArgumentNotValidException ex) {
         return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
@@ -0,0 +1,19 @@
+package ru.tdd.author.controller.confing;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.tdd.core.controller.http.ConditionalResponses;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Конфигурация условных ответов
+ */
+@Configuration
+public class ConditionalResponsesConfig {
+
+    @Bean
+    public ConditionalResponses conditionalResponses() {
+        return new ConditionalResponses();
+    }
+}
@@ -1,12 +1,16 @@
 package ru.tdd.author.controller.confing;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import ru.tdd.author.application.dto.countries.CountryDTO;
+import ru.tdd.author.application.redis.CountryNearCache;
 
 /**
  * @author Tribushko Danil
@@ -25,4 +29,20 @@ public class RedisConfig {
 
         return redisTemplate;
     }
+
+    /**
+     * Подписка кэша стран в памяти процесса на канал инвалидации
+     */
+    @Bean
+    public RedisMessageListenerContainer countryInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            CountryNearCache countryNearCache,
+            @Value("${cache.country.redis.invalidation-channel:bc.country.invalidation}") String invalidationChannel
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(countryNearCache, new ChannelTopic(invalidationChannel));
+
+        return container;
+    }
 }
@@ -37,7 +37,9 @@ public class SecurityConfig {
                         auth
                                 .requestMatchers(
                                         "/docs/**",
-                                        "/docs/swagger-ui.html"
+                                        "/docs/swagger-ui.html",
+                                        "/actuator/health",
+                                        "/actuator/health/**"
                                 ).permitAll()
                                 .anyRequest()
                                 .authenticated()
@@ -14,16 +14,20 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import ru.tdd.author.application.dto.UserDTO;
+import ru.tdd.author.application.enums.Role;
 import ru.tdd.author.application.exceptions.ApiException;
 import ru.tdd.author.application.services.JwtService;
 import ru.tdd.author.application.utils.TextUtils;
+import ru.tdd.core.controller.security.GatewayPrincipalVerifier;
+import ru.tdd.core.controller.security.VerifiedTokenCache;
 
 import java.io.IOException;
 
 /**
  * @author Tribushko Danil
  * @since 22.02.2026
- * Фильтер jwt токена
+ * Фильтер jwt токена.
+ * Если шлюз передал подписанный заголовок с пользователем, токен повторно не разбирается
  */
 @Component
 public class JwtFilter extends OncePerRequestFilter {
@@ -34,11 +38,19 @@ public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
 
+    private final VerifiedTokenCache<UserDTO> verifiedTokenCache;
+
+    private final GatewayPrincipalVerifier gatewayPrincipalVerifier;
+
     @Autowired
     public JwtFilter(
-            JwtService jwtService
+            JwtService jwtService,
+            VerifiedTokenCache<UserDTO> verifiedTokenCache,
+            GatewayPrincipalVerifier gatewayPrincipalVerifier
     ) {
         this.jwtService = jwtService;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.gatewayPrincipalVerifier = gatewayPrincipalVerifier;
     }
 
     @Override
@@ -51,7 +63,9 @@ public class JwtFilter extends OncePerRequestFilter {
         if (TextUtils.isNonEmpty(authorisationHeader) && authorisationHeader.startsWith(BEARER_PREFIX)) {
             String token = authorisationHeader.substring(BEARER_PREFIX.length() + 1);
             if (TextUtils.isNonEmpty(token) && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDTO user = jwtService.parse(token);
+                UserDTO user = gatewayPrincipalVerifier.verify(request.getHeader(GatewayPrincipalVerifier.HEADER), Role.class)
+                        .map(UserDTO::fromPrincipal)
+                        .orElseGet(() -> verifiedTokenCache.get(token, jwtService::parse));
                 SecurityContext emptyContext = SecurityContextHolder.createEmptyContext();
                 emptyContext.setAuthentication(
                         new UsernamePasswordAuthenticationToken(
@@ -63,8 +77,9 @@ public class JwtFilter extends OncePerRequestFilter {
                 SecurityContextHolder.setContext(emptyContext);
             } else
                 throw new ApiException(HttpStatus.FORBIDDEN.value(), "") {};
-        } else
-            filterChain.doFilter(request, response);
+        }
+
+        filterChain.doFilter(request, response);
     }
 
     @Bean
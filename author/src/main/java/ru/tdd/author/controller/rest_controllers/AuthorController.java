@@ -8,6 +8,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -92,7 +93,11 @@ public interface AuthorController {
             }
     )
     @GetMapping("/{id}")
-    ResponseEntity<AuthorDetailsDTO> getById(@PathVariable UUID id);
+    ResponseEntity<AuthorDetailsDTO> getById(
+            @PathVariable UUID id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch
+    );
 
     @Operation(summary = "Delete", description = "Удаление пользователя, доступно только для администратора")
     @ApiResponses(
@@ -130,10 +135,14 @@ public interface AuthorController {
             String fio,
             @RequestParam(name = "country_name", required = false)
             String countryName,
+            @RequestParam(name = "after", required = false)
+            String after,
             @RequestParam(name = "page", required = false, defaultValue = "0")
             int page,
             @RequestParam(name = "per_page", required = false, defaultValue = "100")
-            int perPage
+            int perPage,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch
     );
 
     @Operation(summary = "Get All Details", description = "Получение списка авторов с подробной информацией")
@@ -162,9 +171,13 @@ public interface AuthorController {
             LocalDateTime updateTimeStart,
             @RequestParam(name = "update_time_end", required = false)
             LocalDateTime updateTimeEnd,
+            @RequestParam(name = "after", required = false)
+            String after,
             @RequestParam(name = "page", required = false, defaultValue = "0")
             int page,
             @RequestParam(name = "per_page", required = false, defaultValue = "100")
-            int perPage
+            int perPage,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch
     );
 }
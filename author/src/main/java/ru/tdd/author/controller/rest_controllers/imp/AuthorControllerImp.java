@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.RestController;
 import ru.tdd.author.application.dto.authors.*;
 import ru.tdd.author.application.services.AuthorService;
 import ru.tdd.author.controller.rest_controllers.AuthorController;
+import ru.tdd.core.controller.http.ConditionalResponses;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -22,11 +23,15 @@ public class AuthorControllerImp implements AuthorController {
 
     private final AuthorService authorService;
 
+    private final ConditionalResponses conditionalResponses;
+
     @Autowired
     public AuthorControllerImp(
-            AuthorService authorService
+            AuthorService authorService,
+            ConditionalResponses conditionalResponses
     ) {
         this.authorService = authorService;
+        this.conditionalResponses = conditionalResponses;
     }
 
     @Override
@@ -43,8 +48,8 @@ public class AuthorControllerImp implements AuthorController {
 
     @Override
     @Secured("ROLE_USER")
-    public ResponseEntity<AuthorDetailsDTO> getById(UUID id) {
-        return ResponseEntity.status(HttpStatus.OK).body(authorService.getById(id));
+    public ResponseEntity<AuthorDetailsDTO> getById(UUID id, String ifNoneMatch) {
+        return conditionalResponses.of(authorService.getById(id, ifNoneMatch));
     }
 
     @Override
@@ -55,8 +60,19 @@ public class AuthorControllerImp implements AuthorController {
     }
 
     @Override
-    public ResponseEntity<AuthorListDTO> getAll(String fio, String countryName, int page, int perPage) {
-        return ResponseEntity.status(HttpStatus.OK).body(authorService.getAll(fio, countryName, page, perPage));
+    public ResponseEntity<AuthorListDTO> getAll(
+            String fio,
+            String countryName,
+            String after,
+            int page,
+            int perPage,
+            String ifNoneMatch
+    ) {
+        return conditionalResponses.of(
+                authorService.getListTag("authors"),
+                ifNoneMatch,
+                () -> authorService.getAll(fio, countryName, after, page, perPage)
+        );
     }
 
     @Override
@@ -68,21 +84,25 @@ public class AuthorControllerImp implements AuthorController {
             LocalDateTime creationTimeEnd,
             LocalDateTime updateTimeStart,
             LocalDateTime updateTimeEnd,
+            String after,
             int page,
-            int perPage
+            int perPage,
+            String ifNoneMatch
     ) {
-        return ResponseEntity.status(HttpStatus.OK)
-                .body(
-                        authorService.getAllDetails(
-                                fio,
-                                countryName,
-                                creationTimeStart,
-                                creationTimeEnd,
-                                updateTimeStart,
-                                updateTimeEnd,
-                                page,
-                                perPage
-                        )
-                );
+        return conditionalResponses.of(
+                authorService.getListTag("authors-details"),
+                ifNoneMatch,
+                () -> authorService.getAllDetails(
+                        fio,
+                        countryName,
+                        creationTimeStart,
+                        creationTimeEnd,
+                        updateTimeStart,
+                        updateTimeEnd,
+                        after,
+                        page,
+                        perPage
+                )
+        );
     }
 }
@@ -2,6 +2,7 @@ package ru.tdd.author.database.entitites;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 import java.util.UUID;
@@ -12,7 +13,13 @@ import java.util.UUID;
  * Сущность автора книги
  */
 @Entity
-@Table(name = "author")
+@Table(
+        name = "author",
+        indexes = {
+                @Index(name = "author_creation_time_id_idx", columnList = "creation_time, id"),
+                @Index(name = "author_update_time_idx", columnList = "update_time")
+        }
+)
 public class Author extends EntityVersion {
 
     @Column(name = "last_name", nullable = false)
@@ -1,6 +1,7 @@
 package ru.tdd.author.database.entitites;
 
 import jakarta.persistence.MappedSuperclass;
+import ru.tdd.core.database.entities.CreatedEntity;
 
 import java.time.LocalDateTime;
 
@@ -10,12 +11,13 @@ import java.time.LocalDateTime;
  * Сущность с временем создания и последним обновлением
  */
 @MappedSuperclass
-public abstract class EntityVersion extends BaseEntity {
+public abstract class EntityVersion extends BaseEntity implements CreatedEntity {
 
     protected LocalDateTime creationTime = LocalDateTime.now();
 
     protected LocalDateTime updateTime = LocalDateTime.now();
 
+    @Override
     public LocalDateTime getCreationTime() {
         return creationTime;
     }
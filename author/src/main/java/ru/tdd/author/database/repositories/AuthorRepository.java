@@ -2,9 +2,12 @@ package ru.tdd.author.database.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ru.tdd.author.database.entitites.Author;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -14,4 +17,8 @@ import java.util.UUID;
  */
 @Repository
 public interface AuthorRepository extends JpaRepository<Author, UUID>, JpaSpecificationExecutor<Author> {
+
+    /** Время последнего изменения авторов, читается по индексу без блокировок */
+    @Query("select max(a.updateTime) from Author a")
+    Optional<LocalDateTime> findLastUpdateTime();
 }
@@ -2,6 +2,7 @@ package ru.tdd.author.database.service;
 
 import ru.tdd.author.database.entitites.Country;
 
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -14,4 +15,7 @@ public interface CountryDbService {
     Country getById(UUID id);
 
     void checkCountryExists(UUID id);
+
+    /** Применение пачки изменений стран одним JDBC батчем: вставка или обновление и удаление */
+    void applyChanges(Collection<Country> upserted, Collection<UUID> deletedIds);
 }
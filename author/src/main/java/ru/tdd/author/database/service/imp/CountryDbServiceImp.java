@@ -1,12 +1,15 @@
 package ru.tdd.author.database.service.imp;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import ru.tdd.author.application.exceptions.country.CountryByIdNotFoundException;
 import ru.tdd.author.database.entitites.Country;
 import ru.tdd.author.database.repositories.CountryRepository;
 import ru.tdd.author.database.service.CountryDbService;
 
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -16,13 +19,24 @@ import java.util.UUID;
 @Component
 public class CountryDbServiceImp implements CountryDbService {
 
+    private static final String UPSERT_SQL = """
+            INSERT INTO country (id, name) VALUES (?, ?)
+            ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM country WHERE id = ?";
+
     private final CountryRepository countryRepository;
 
+    private final JdbcTemplate jdbcTemplate;
+
     @Autowired
     public CountryDbServiceImp(
-            CountryRepository countryRepository
+            CountryRepository countryRepository,
+            JdbcTemplate jdbcTemplate
     ) {
         this.countryRepository = countryRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -35,4 +49,26 @@ public class CountryDbServiceImp implements CountryDbService {
         if (!countryRepository.existsById(id))
             throw new CountryByIdNotFoundException(id);
     }
+
+    @Override
+    @Transactional
+    public void applyChanges(Collection<Country> upserted, Collection<UUID> deletedIds) {
+        if (!upserted.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    UPSERT_SQL,
+                    upserted.stream()
+                            .map(country -> new Object[]{country.getId(), country.getName()})
+                            .toList()
+            );
+        }
+
+        if (!deletedIds.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    DELETE_SQL,
+                    deletedIds.stream()
+                            .map(id -> new Object[]{id})
+                            .toList()
+            );
+        }
+    }
 }
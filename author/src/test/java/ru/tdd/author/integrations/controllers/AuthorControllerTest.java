@@ -9,6 +9,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.testcontainers.context.ImportTestcontainers;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -411,6 +412,43 @@ public class AuthorControllerTest {
                 );
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("Условное получение по идентификатору: 304 для актуальной версии, 200 после изменения")
+    void getByIdNotModifiedTest() throws Exception {
+        Country country = new Country("Россия");
+
+        country.setId(UUID.randomUUID());
+
+        countryRepository.save(country);
+
+        Author author = authorRepository.save(
+                new Author(
+                        "1",
+                        null,
+                        "1",
+                        country.getId()
+                )
+        );
+
+        String etag = mockMvc.perform(get(BASE_URL + "/" + author.getId()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(BASE_URL + "/" + author.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        author.setLastName("2");
+        author.setUpdateTime(author.getUpdateTime().plusSeconds(1));
+        authorRepository.save(author);
+
+        mockMvc.perform(get(BASE_URL + "/" + author.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lastName", is("2")));
+    }
+
     @Test
     @WithMockUser
     @DisplayName("Неудачное получение по идентификатору - автор по идентификатору не найден")
@@ -0,0 +1,147 @@
+package ru.tdd.author.unit.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import ru.tdd.author.application.dto.OutboxEventDTO;
+import ru.tdd.author.application.dto.countries.CountryDTO;
+import ru.tdd.author.application.enums.events.CountryOutboxEvent;
+import ru.tdd.author.application.mappers.CountryMapperImpl;
+import ru.tdd.author.application.redis.CountryRedisService;
+import ru.tdd.author.controller.KafkaCountryListener;
+import ru.tdd.author.database.entitites.Country;
+import ru.tdd.author.database.service.CountryDbService;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Набор модульных тестов слушателя событий стран
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Модульное тестирование слушателя событий стран")
+class KafkaCountryListenerTest {
+
+    @Mock
+    private CountryDbService countryDbService;
+
+    @Mock
+    private CountryRedisService countryRedisService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private KafkaCountryListener kafkaCountryListener;
+
+    @BeforeEach
+    void setUp() {
+        kafkaCountryListener = new KafkaCountryListener(
+                countryDbService,
+                countryRedisService,
+                new CountryMapperImpl(),
+                objectMapper
+        );
+    }
+
+    private ConsumerRecord<String, String> record(CountryOutboxEvent type, UUID id, String name, LocalDateTime time)
+            throws JsonProcessingException {
+        OutboxEventDTO event = new OutboxEventDTO(
+                type.getType(),
+                objectMapper.writeValueAsString(new CountryDTO(id, name)),
+                time
+        );
+
+        return new ConsumerRecord<>("bc.country", 0, 0, null, objectMapper.writeValueAsString(event));
+    }
+
+    @Test
+    @DisplayName("По каждой стране применяется только последнее событие пачки")
+    @SuppressWarnings("unchecked")
+    void collapseBatchTest() throws JsonProcessingException {
+        UUID renamedId = UUID.randomUUID();
+        UUID deletedId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+
+        kafkaCountryListener.listenCountries(List.of(
+                record(CountryOutboxEvent.CREATE, renamedId, "Россия", now),
+                record(CountryOutboxEvent.CREATE, deletedId, "Франция", now),
+                record(CountryOutboxEvent.UPDATE, renamedId, "Российская Федерация", now.plusSeconds(1)),
+                record(CountryOutboxEvent.DELETE, deletedId, "Франция", now.plusSeconds(1))
+        ));
+
+        ArgumentCaptor<Collection<Country>> upserted = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Collection<UUID>> deleted = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(countryDbService).applyChanges(upserted.capture(), deleted.capture());
+
+        Assertions.assertEquals(1, upserted.getValue().size());
+        Country country = upserted.getValue().iterator().next();
+        Assertions.assertEquals(renamedId, country.getId());
+        Assertions.assertEquals("Российская Федерация", country.getName());
+        Assertions.assertEquals(List.of(deletedId), List.copyOf(deleted.getValue()));
+        Mockito.verify(countryRedisService).evictAll(Set.of(renamedId, deletedId));
+    }
+
+    @Test
+    @DisplayName("Более позднее по времени событие побеждает независимо от порядка в пачке")
+    @SuppressWarnings("unchecked")
+    void latestByCreatedTimeTest() throws JsonProcessingException {
+        UUID id = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+
+        kafkaCountryListener.listenCountries(List.of(
+                record(CountryOutboxEvent.UPDATE, id, "Новое имя", now.plusSeconds(1)),
+                record(CountryOutboxEvent.UPDATE, id, "Старое имя", now)
+        ));
+
+        ArgumentCaptor<Collection<Country>> upserted = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(countryDbService).applyChanges(upserted.capture(), Mockito.anyCollection());
+
+        Assertions.assertEquals("Новое имя", upserted.getValue().iterator().next().getName());
+    }
+
+    @Test
+    @DisplayName("Неразборчивое событие указывает на свою позицию в пачке")
+    void invalidRecordTest() throws JsonProcessingException {
+        List<ConsumerRecord<String, String>> records = List.of(
+                record(CountryOutboxEvent.CREATE, UUID.randomUUID(), "Россия", LocalDateTime.now()),
+                new ConsumerRecord<>("bc.country", 0, 1, null, "not a json")
+        );
+
+        BatchListenerFailedException exception = Assertions.assertThrows(
+                BatchListenerFailedException.class,
+                () -> kafkaCountryListener.listenCountries(records)
+        );
+
+        Assertions.assertEquals(1, exception.getIndex());
+        Mockito.verifyNoInteractions(countryDbService, countryRedisService);
+    }
+
+    @Test
+    @DisplayName("Кэши стран сбрасываются только после применения изменений к реплике")
+    void evictionAfterApplyTest() throws JsonProcessingException {
+        UUID id = UUID.randomUUID();
+
+        kafkaCountryListener.listenCountries(List.of(
+                record(CountryOutboxEvent.UPDATE, id, "Россия", LocalDateTime.now())
+        ));
+
+        InOrder inOrder = Mockito.inOrder(countryDbService, countryRedisService);
+        inOrder.verify(countryDbService).applyChanges(Mockito.anyCollection(), Mockito.anyCollection());
+        inOrder.verify(countryRedisService).evictAll(Set.of(id));
+    }
+}
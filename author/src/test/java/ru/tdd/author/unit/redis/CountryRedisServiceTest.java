@@ -0,0 +1,177 @@
+package ru.tdd.author.unit.redis;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.tdd.author.application.dto.countries.CountryDTO;
+import ru.tdd.author.application.exceptions.country.CountryByIdNotFoundException;
+import ru.tdd.author.application.redis.CountryNearCache;
+import ru.tdd.author.application.redis.CountryRedisServiceImp;
+import ru.tdd.author.application.services.CountryService;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Набор модульных тестов двухуровневого кэша стран
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Модульное тестирование двухуровневого кэша стран")
+class CountryRedisServiceTest {
+
+    @Mock
+    private RedisTemplate<String, CountryDTO> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, CountryDTO> valueOperations;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> stringValueOperations;
+
+    @Mock
+    private CountryService countryService;
+
+    private MeterRegistry meterRegistry;
+
+    private CountryRedisServiceImp countryRedisService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        countryRedisService = new CountryRedisServiceImp(
+                redisTemplate,
+                stringRedisTemplate,
+                new CountryNearCache(100, Duration.ofMinutes(10), meterRegistry),
+                countryService,
+                meterRegistry
+        );
+
+        ReflectionTestUtils.setField(countryRedisService, "invalidationChannel", "bc.country.invalidation");
+    }
+
+    private double nearCacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", CountryNearCache.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    @Test
+    @DisplayName("Повторное получение обслуживается из памяти без обращения к redis")
+    void nearCacheHitTest() {
+        CountryDTO country = new CountryDTO(UUID.randomUUID(), "Россия");
+
+        Mockito.when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        Mockito.when(valueOperations.get(country.getId().toString())).thenReturn(country);
+
+        Assertions.assertEquals("Россия", countryRedisService.get(country.getId()).getName());
+        Assertions.assertEquals("Россия", countryRedisService.get(country.getId()).getName());
+
+        Mockito.verify(valueOperations, Mockito.times(1)).get(anyString());
+        Assertions.assertEquals(1, nearCacheGets("hit"));
+        Assertions.assertEquals(1, nearCacheGets("miss"));
+        Assertions.assertEquals(
+                1,
+                meterRegistry.get("cache.gets")
+                        .tag("cache", CountryRedisServiceImp.CACHE_NAME)
+                        .tag("result", "hit")
+                        .counter()
+                        .count()
+        );
+    }
+
+    @Test
+    @DisplayName("Сброс удаляет страну из памяти, из redis, затем увеличивает версию стран и рассылает инвалидацию")
+    void evictTest() {
+        CountryDTO country = new CountryDTO(UUID.randomUUID(), "Россия");
+
+        Mockito.when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        Mockito.when(stringRedisTemplate.opsForValue()).thenReturn(stringValueOperations);
+        Mockito.when(valueOperations.get(country.getId().toString())).thenReturn(country);
+        Mockito.when(redisTemplate.delete(anyCollection())).thenReturn(1L);
+
+        countryRedisService.get(country.getId());
+        countryRedisService.evictAll(List.of(country.getId()));
+        countryRedisService.get(country.getId());
+
+        Mockito.verify(valueOperations, Mockito.times(2)).get(anyString());
+
+        InOrder inOrder = Mockito.inOrder(redisTemplate, stringValueOperations, stringRedisTemplate);
+        inOrder.verify(redisTemplate).delete(anyCollection());
+        inOrder.verify(stringValueOperations).increment(CountryRedisServiceImp.REVISION_KEY);
+        inOrder.verify(stringRedisTemplate).convertAndSend(Mockito.eq("bc.country.invalidation"), Mockito.eq(country.getId().toString()));
+    }
+
+    @Test
+    @DisplayName("Набор стран загружается одним MGET, промахи одним запросом к бд")
+    void getAllTest() {
+        CountryDTO cached = new CountryDTO(UUID.randomUUID(), "Россия");
+        CountryDTO missed = new CountryDTO(UUID.randomUUID(), "Китай");
+
+        Mockito.when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        Mockito.when(valueOperations.multiGet(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.stream()
+                    .map(key -> key.equals(cached.getId().toString()) ? cached : null)
+                    .toList();
+        });
+        Mockito.when(countryService.getAllById(List.of(missed.getId())))
+                .thenReturn(Map.of(missed.getId(), missed));
+
+        Map<UUID, CountryDTO> actual = countryRedisService.getAll(Set.of(cached.getId(), missed.getId()));
+
+        Assertions.assertEquals(Map.of(cached.getId(), cached, missed.getId(), missed), actual);
+        Mockito.verify(valueOperations, Mockito.never()).get(anyString());
+        Mockito.verify(redisTemplate).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("Страна, которой нет ни в redis, ни в бд, приводит к ошибке, как и при получении одной страны")
+    void getAllNotFoundTest() {
+        CountryDTO found = new CountryDTO(UUID.randomUUID(), "Россия");
+        UUID unknownId = UUID.randomUUID();
+
+        Mockito.when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        Mockito.when(valueOperations.multiGet(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.stream().map(key -> (CountryDTO) null).toList();
+        });
+        Mockito.when(countryService.getAllById(anyCollection())).thenReturn(Map.of(found.getId(), found));
+
+        Assertions.assertThrows(
+                CountryByIdNotFoundException.class,
+                () -> countryRedisService.getAll(Set.of(found.getId(), unknownId))
+        );
+
+        Mockito.when(valueOperations.get(found.getId().toString())).thenReturn(found);
+
+        Assertions.assertEquals(found, countryRedisService.get(found.getId()));
+    }
+}
@@ -8,9 +8,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import ru.tdd.author.application.dto.authors.AuthorDTO;
 import ru.tdd.author.application.dto.authors.AuthorDetailsDTO;
+import ru.tdd.author.application.dto.authors.AuthorListDTO;
 import ru.tdd.author.application.dto.authors.CreateAuthorDTO;
 import ru.tdd.author.application.dto.authors.UpdateAuthorDTO;
 import ru.tdd.author.application.dto.countries.CountryDTO;
@@ -20,10 +24,17 @@ import ru.tdd.author.application.redis.CountryRedisService;
 import ru.tdd.author.application.services.imp.AuthorServiceImp;
 import ru.tdd.author.database.entitites.Author;
 import ru.tdd.author.database.repositories.AuthorRepository;
+import ru.tdd.core.application.exceptions.BadRequestException;
+import ru.tdd.core.application.utils.PageCursor;
+import ru.tdd.core.controller.dto.ConditionalDTO;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.mockito.ArgumentMatchers.any;
 
@@ -173,6 +184,35 @@ class AuthorServiceTest {
         Assertions.assertNotNull(actual.getUpdateTime());
     }
 
+    @Test
+    @DisplayName("Получение по идентификатору с актуальной версией клиента не выполняет маппинг")
+    void getByIdNotModifiedTest() {
+        UUID authorId = UUID.randomUUID();
+        UUID countryId = UUID.randomUUID();
+
+        Author author = new Author(
+                "Иванов",
+                null,
+                "Иван",
+                countryId
+        );
+        author.setId(authorId);
+
+        Mockito.when(countryService.get(countryId)).thenReturn(new CountryDTO(countryId, "Россия"));
+        Mockito.when(authorRepository.findById(authorId)).thenReturn(Optional.of(author));
+
+        String etag = authorService.getById(authorId, null).etag();
+        ConditionalDTO<AuthorDetailsDTO> actual = authorService.getById(authorId, etag);
+
+        Assertions.assertTrue(actual.isNotModified());
+        Assertions.assertEquals(etag, actual.etag());
+        Mockito.verify(authorMapper, Mockito.times(1)).toDetailsDto(any(Author.class), any(CountryDTO.class));
+
+        author.setUpdateTime(author.getUpdateTime().plusSeconds(1));
+
+        Assertions.assertNotEquals(etag, authorService.getById(authorId, etag).etag());
+    }
+
     @Test
     @DisplayName("Не удачное получение по идентификатору - автор по идентификатору не найден")
     void getByIdNotFoundTest() {
@@ -227,4 +267,96 @@ class AuthorServiceTest {
                 actual.getMessage()
         );
     }
+
+    @Test
+    @DisplayName("Удачное получение списка - страны загружаются одним обращением на страницу")
+    void getAllSuccessTest() {
+        UUID countryId = UUID.randomUUID();
+        CountryDTO country = new CountryDTO(countryId, "Россия");
+        List<Author> authors = List.of(
+                new Author("Иванов", "Иванович", "Иван", countryId),
+                new Author("Петров", "Петрович", "Петр", countryId)
+        );
+        List<AuthorDTO> expected = List.of(
+                new AuthorDTO(UUID.randomUUID(), "Иванов", "Иванович", "Иван", country),
+                new AuthorDTO(UUID.randomUUID(), "Петров", "Петрович", "Петр", country)
+        );
+
+        Mockito.when(authorRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(authors));
+        Mockito.when(countryService.getAll(Set.of(countryId))).thenReturn(Map.of(countryId, country));
+        Mockito.when(authorMapper.toDtoList(authors, Map.of(countryId, country))).thenReturn(expected);
+
+        AuthorListDTO actual = authorService.getAll(null, null, null, 0, 10);
+
+        Assertions.assertEquals(expected, actual.getData());
+        Mockito.verify(countryService, Mockito.never()).get(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Удачное получение списка по курсору - курсор указывает на последнего автора страницы")
+    void getAllByCursorSuccessTest() {
+        UUID countryId = UUID.randomUUID();
+        CountryDTO country = new CountryDTO(countryId, "Россия");
+        List<Author> authors = List.of(
+                new Author("Иванов", "Иванович", "Иван", countryId),
+                new Author("Петров", "Петрович", "Петр", countryId),
+                new Author("Сидоров", "Сидорович", "Сидор", countryId)
+        );
+        authors.forEach(author -> author.setId(UUID.randomUUID()));
+        List<AuthorDTO> expected = List.of(
+                new AuthorDTO(authors.get(0).getId(), "Иванов", "Иванович", "Иван", country),
+                new AuthorDTO(authors.get(1).getId(), "Петров", "Петрович", "Петр", country)
+        );
+
+        Mockito.when(authorRepository.findBy(any(Specification.class), any(Function.class)))
+                .thenReturn(authors);
+        Mockito.when(countryService.getAll(Set.of(countryId))).thenReturn(Map.of(countryId, country));
+        Mockito.when(authorMapper.toDtoList(authors.subList(0, 2), Map.of(countryId, country))).thenReturn(expected);
+
+        AuthorListDTO actual = authorService.getAll(null, null, "", 0, 2);
+
+        Assertions.assertEquals(expected, actual.getData());
+        Assertions.assertEquals(
+                PageCursor.of(authors.get(1).getCreationTime(), authors.get(1).getId()),
+                PageCursor.decode(actual.getNext())
+        );
+    }
+
+    @Test
+    @DisplayName("Неудачное получение списка по курсору - некорректный курсор")
+    void getAllByCursorFailTest() {
+        BadRequestException actual = Assertions.assertThrows(
+                BadRequestException.class,
+                () -> authorService.getAll(null, null, "not a cursor", 0, 2)
+        );
+
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST, actual.getStatusCode());
+        Assertions.assertEquals("Некорректный курсор страницы", actual.getMessage());
+    }
+
+    @Test
+    @DisplayName("Версия списков меняется при изменении, удалении авторов и сбросе стран")
+    void listTagTest() {
+        LocalDateTime updateTime = LocalDateTime.now();
+
+        Mockito.when(authorRepository.findLastUpdateTime()).thenReturn(Optional.of(updateTime));
+        Mockito.when(authorRepository.count()).thenReturn(10L);
+        Mockito.when(countryService.revision()).thenReturn(3L);
+
+        String actual1 = authorService.getListTag("authors");
+        String actual2 = authorService.getListTag("authors");
+
+        Mockito.when(authorRepository.findLastUpdateTime()).thenReturn(Optional.of(updateTime.plusNanos(1_000)));
+        String actual3 = authorService.getListTag("authors");
+
+        Mockito.when(authorRepository.count()).thenReturn(9L);
+        String actual4 = authorService.getListTag("authors");
+
+        Mockito.when(countryService.revision()).thenReturn(4L);
+        String actual5 = authorService.getListTag("authors");
+
+        Assertions.assertEquals(actual1, actual2);
+        Assertions.assertEquals(5, Set.of(actual1, actual3, actual4, actual5, authorService.getListTag("authors-details")).size());
+    }
 }
@@ -0,0 +1,14 @@
+package ru.tdd.core.application.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Некорректный параметр запроса
+ */
+public class BadRequestException extends ApiException {
+    public BadRequestException(String message) {
+        super(HttpStatus.BAD_REQUEST, message);
+    }
+}
@@ -0,0 +1,50 @@
+package ru.tdd.core.application.utils;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Загрузка значения в асинхронный кэш caffeine на вызывающем потоке.
+ * Синхронный Cache.get вызывает загрузчик внутри ConcurrentHashMap.compute под synchronized,
+ * и виртуальный поток, ждущий бд или redis, удерживает поток-носитель. Здесь под блокировкой
+ * в кэш кладется только незавершенный future, загрузка идет снаружи, остальные потоки ждут тот же future.
+ * Исключения и null не кэшируются. Future завершается при любой ошибке загрузчика, включая Error,
+ * иначе ожидающие его потоки зависли бы навсегда
+ */
+public final class CacheLoading {
+
+    private CacheLoading() {}
+
+    public static <K, V> V get(AsyncCache<K, V> cache, K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> loading);
+
+        if (future == loading) {
+            try {
+                loading.complete(loader.apply(key));
+            } catch (Throwable e) {
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package ru.tdd.core.application.utils;
+
+import ru.tdd.core.database.entities.VersionedEntity;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Построение ETag из версий или времени обновления объектов, попадающих в ответ, и сравнение с заголовком If-None-Match.
+ * Значение - 64-битный FNV-1a хэш добавленных значений, коллекции хэшируются без учета порядка
+ */
+public final class EntityTag {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final String type;
+
+    private long hash = FNV_OFFSET;
+
+    private EntityTag(String type) {
+        this.type = type;
+    }
+
+    public static EntityTag of(String type) {
+        return new EntityTag(type);
+    }
+
+    public EntityTag add(long value) {
+        hash = mix(hash, value);
+        return this;
+    }
+
+    public EntityTag add(UUID value) {
+        return value == null ?
+                add(0) :
+                add(value.getMostSignificantBits()).add(value.getLeastSignificantBits());
+    }
+
+    /** Время с точностью до микросекунд, с которой оно хранится в бд */
+    public EntityTag add(LocalDateTime value) {
+        if (value == null) {
+            return add(0);
+        }
+
+        return add(value.toEpochSecond(ZoneOffset.UTC)).add(value.getNano() / 1_000);
+    }
+
+    public EntityTag add(String value) {
+        return add(value == null ? 0 : value.hashCode());
+    }
+
+    /** Объект с версией, отсутствующий объект тоже меняет хэш */
+    public EntityTag add(VersionedEntity entity) {
+        hash = mix(hash, entity == null ? 0 : element(entity));
+        return this;
+    }
+
+    /** Коллекция объектов с версиями: сумма хэшей элементов и их количество */
+    public EntityTag addAll(Collection<? extends VersionedEntity> entities) {
+        long sum = 0;
+
+        for (VersionedEntity entity : entities) {
+            sum += element(entity);
+        }
+
+        hash = mix(mix(hash, sum), entities.size());
+        return this;
+    }
+
+    public String value() {
+        return "\"" + type + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Совпадает ли один из тегов заголовка If-None-Match с текущим. Слабые теги сравниваются как сильные
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+
+            if (candidate.equals("*")) {
+                return true;
+            }
+
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+
+            if (candidate.equals(etag)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static long element(VersionedEntity entity) {
+        UUID id = entity.getId();
+        long hash = id == null ? mix(FNV_OFFSET, 0) : mix(mix(FNV_OFFSET, id.getMostSignificantBits()), id.getLeastSignificantBits());
+
+        return mix(hash, entity.getVersion());
+    }
+
+    private static long mix(long hash, long value) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= FNV_PRIME;
+        }
+
+        return hash;
+    }
+}
@@ -0,0 +1,55 @@
+package ru.tdd.core.application.utils;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import ru.tdd.core.database.entities.CreatedEntity;
+import ru.tdd.core.database.specifications.KeysetSpecification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Страница, полученная по курсору, и курсор следующей страницы
+ *
+ * @param next курсор следующей страницы, null если страница последняя
+ */
+public record KeysetPage<T>(List<T> content, String next) {
+
+    /**
+     * Страница из строк, прочитанных на одну больше размера страницы: лишняя строка означает, что есть следующая
+     *
+     * @param cursor курсор по последней строке страницы
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, int limit, Function<? super T, PageCursor> cursor) {
+        if (rows.size() <= limit) {
+            return new KeysetPage<>(rows, null);
+        }
+
+        return new KeysetPage<>(rows.subList(0, limit), cursor.apply(rows.get(limit - 1)).encode());
+    }
+
+    /**
+     * Страница в порядке (creationTime, id) после курсора
+     */
+    public static <T extends CreatedEntity> KeysetPage<T> byCreationTime(
+            JpaSpecificationExecutor<T> repository,
+            Specification<T> specification,
+            String after,
+            int perPage
+    ) {
+        int limit = PageCursor.perPage(perPage);
+        PageCursor cursor = PageCursor.decode(after);
+        LocalDateTime creationTime = cursor == null ? null : cursor.time();
+
+        List<T> rows = repository.findBy(
+                specification.and(KeysetSpecification.after("creationTime", creationTime, cursor == null ? null : cursor.id())),
+                query -> query.sortBy(Sort.by("creationTime", "id")).limit(limit + 1).all()
+        );
+
+        return of(rows, limit, row -> PageCursor.of(row.getCreationTime(), row.getId()));
+    }
+}
@@ -0,0 +1,71 @@
+package ru.tdd.core.application.utils;
+
+import ru.tdd.core.application.exceptions.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Непрозрачный курсор постраничного вывода по ключу (key, id).
+ * Следующая страница начинается со строк, идущих после последней строки предыдущей страницы,
+ * поэтому запрос не пропускает offset строк и его время не зависит от глубины страницы
+ */
+public record PageCursor(String key, UUID id) {
+
+    /** Максимальный размер страницы */
+    public static final int MAX_PER_PAGE = 500;
+
+    private static final char SEPARATOR = '|';
+
+    private static final String INVALID_CURSOR = "Некорректный курсор страницы";
+
+    /** Курсор по времени создания */
+    public static PageCursor of(LocalDateTime creationTime, UUID id) {
+        return new PageCursor(creationTime.toString(), id);
+    }
+
+    /** Ключ курсора по времени создания */
+    public LocalDateTime time() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException(INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((key + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Разбор курсора из параметра запроса
+     *
+     * @return курсор или null, если передан пустой курсор - первая страница
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(SEPARATOR);
+
+            return new PageCursor(value.substring(0, separator), UUID.fromString(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BadRequestException(INVALID_CURSOR);
+        }
+    }
+
+    /** Размер страницы, ограниченный сверху */
+    public static int perPage(int perPage) {
+        return Math.max(1, Math.min(perPage, MAX_PER_PAGE));
+    }
+}
@@ -0,0 +1,20 @@
+package ru.tdd.core.controller.dto;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Результат условного чтения: версия объекта и тело, если у клиента устаревшая версия
+ *
+ * @param etag версия объекта для заголовка ETag
+ * @param body тело ответа, null если версия клиента совпала с текущей
+ */
+public record ConditionalDTO<T>(String etag, T body) {
+
+    public static <T> ConditionalDTO<T> notModified(String etag) {
+        return new ConditionalDTO<>(etag, null);
+    }
+
+    public boolean isNotModified() {
+        return body == null;
+    }
+}
@@ -0,0 +1,43 @@
+package ru.tdd.core.controller.http;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import ru.tdd.core.application.utils.EntityTag;
+import ru.tdd.core.controller.dto.ConditionalDTO;
+
+import java.util.function.Supplier;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Ответы на условные GET запросы: 304 без тела, если версия клиента актуальна, иначе 200 с ETag.
+ * Оба ответа несут заданный сервисом Cache-Control, без него заголовок не выставляется
+ */
+public class ConditionalResponses {
+
+    private final CacheControl cacheControl;
+
+    public ConditionalResponses() {
+        this(CacheControl.empty());
+    }
+
+    public ConditionalResponses(CacheControl cacheControl) {
+        this.cacheControl = cacheControl;
+    }
+
+    public <T> ResponseEntity<T> of(ConditionalDTO<T> result) {
+        return result.isNotModified() ?
+                ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(result.etag()).cacheControl(cacheControl).build() :
+                ResponseEntity.status(HttpStatus.OK).eTag(result.etag()).cacheControl(cacheControl).body(result.body());
+    }
+
+    /**
+     * Ответ для списка: версия известна заранее, тело читается, только если версия клиента устарела
+     */
+    public <T> ResponseEntity<T> of(String etag, String ifNoneMatch, Supplier<T> body) {
+        return EntityTag.matches(ifNoneMatch, etag) ?
+                ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build() :
+                ResponseEntity.status(HttpStatus.OK).eTag(etag).cacheControl(cacheControl).body(body.get());
+    }
+}
@@ -0,0 +1,26 @@
+package ru.tdd.core.controller.security;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Пользователь из подписанного заголовка шлюза
+ *
+ * @param id идентификатор пользователя
+ * @param chatId идентификатор чата, null если не задан
+ * @param username имя пользователя
+ * @param roles роли пользователя
+ * @param issuedAt время выпуска токена, null если шлюз его не передал
+ * @param expiration время истечения токена
+ */
+public record GatewayPrincipal<R extends Enum<R>>(
+        UUID id,
+        Long chatId,
+        String username,
+        List<R> roles,
+        Instant issuedAt,
+        Instant expiration
+) {}
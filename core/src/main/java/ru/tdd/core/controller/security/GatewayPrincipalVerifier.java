@@ -0,0 +1,100 @@
+package ru.tdd.core.controller.security;
+
+import ru.tdd.core.application.utils.TextUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Проверка заголовка с пользователем, который выставляет шлюз после проверки токена.
+ * Значение - base64url(id|chatId|roles|iat|exp|username) и base64url(HMAC-SHA256) этой строки через точку.
+ * Сверка короткой подписи заменяет разбор JSON утверждений и проверку подписи токена.
+ * Заголовок без подписи, с неверной подписью, истекший или с неизвестной ролью игнорируется,
+ * запрос проверяется по токену. Сервисы объявляют проверку бином и переводят пользователя в свой DTO
+ */
+public class GatewayPrincipalVerifier {
+
+    public static final String HEADER = "X-Gateway-Principal";
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    public GatewayPrincipalVerifier(boolean enabled, String secret) {
+        this.key = enabled && !TextUtils.isEmpty(secret) ?
+                new SecretKeySpec(Base64.getDecoder().decode(secret), ALGORITHM) :
+                null;
+    }
+
+    public <R extends Enum<R>> Optional<GatewayPrincipal<R>> verify(String header, Class<R> roleType) {
+        if (key == null || TextUtils.isEmpty(header))
+            return Optional.empty();
+
+        int separator = header.indexOf('.');
+
+        if (separator <= 0)
+            return Optional.empty();
+
+        String payload = header.substring(0, separator);
+
+        try {
+            byte[] signature = DECODER.decode(header.substring(separator + 1));
+            byte[] expected = macs.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+
+            if (!MessageDigest.isEqual(expected, signature))
+                return Optional.empty();
+
+            String[] fields = new String(DECODER.decode(payload), StandardCharsets.UTF_8).split("\\|", 6);
+
+            if (fields.length != 6)
+                return Optional.empty();
+
+            Instant expiration = Instant.ofEpochSecond(Long.parseLong(fields[4]));
+
+            if (!expiration.isAfter(Instant.now()))
+                return Optional.empty();
+
+            return Optional.of(new GatewayPrincipal<>(
+                    UUID.fromString(fields[0]),
+                    fields[1].isEmpty() ? null : Long.valueOf(fields[1]),
+                    fields[5],
+                    roles(fields[2], roleType),
+                    fields[3].isEmpty() ? null : Instant.ofEpochSecond(Long.parseLong(fields[3])),
+                    expiration
+            ));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static <R extends Enum<R>> List<R> roles(String value, Class<R> roleType) {
+        return value.isEmpty() ?
+                List.of() :
+                Arrays.stream(value.split(",")).map(role -> Enum.valueOf(roleType, role)).toList();
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package ru.tdd.core.controller.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Ограниченный кэш проверенных токенов: повторный токен не проходит проверку подписи заново.
+ * Ключ - SHA-256 токена, сам токен в памяти не хранится. Запись удаляется в момент истечения токена
+ *
+ * @param <T> пользователь, полученный из токена
+ */
+public class VerifiedTokenCache<T> {
+
+    public static final String CACHE_NAME = "jwt.tokens";
+
+    private final Cache<String, T> cache;
+
+    /**
+     * @param expiration время истечения токена пользователя
+     */
+    public VerifiedTokenCache(long maxSize, MeterRegistry meterRegistry, Function<? super T, Instant> expiration) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry<T>(expiration))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /** Получение пользователя по токену из кэша или проверка токена при промахе */
+    public T get(String token, Function<String, T> verifier) {
+        return cache.get(digest(token), key -> verifier.apply(token));
+    }
+
+    private static String digest(String token) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8))
+            );
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Время жизни записи - до истечения токена, чтение и перезапись его не продлевают
+     */
+    private record TokenExpiry<T>(Function<? super T, Instant> expiration) implements Expiry<String, T> {
+
+        @Override
+        public long expireAfterCreate(String key, T user, long currentTime) {
+            return Math.max(Duration.between(Instant.now(), expiration.apply(user)).toNanos(), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, T user, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, T user, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
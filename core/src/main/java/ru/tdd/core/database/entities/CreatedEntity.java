@@ -0,0 +1,16 @@
+package ru.tdd.core.database.entities;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Сущность с временем создания, по ключу (creationTime, id) строится постраничный вывод по курсору
+ */
+public interface CreatedEntity {
+
+    UUID getId();
+
+    LocalDateTime getCreationTime();
+}
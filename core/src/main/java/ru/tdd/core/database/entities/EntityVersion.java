@@ -12,7 +12,7 @@ import java.time.LocalDateTime;
  * Сущность с временем создания и последним обновлением
  */
 @MappedSuperclass
-public abstract class EntityVersion extends BaseEntity {
+public abstract class EntityVersion extends BaseEntity implements CreatedEntity {
 
     @NotNull
     @Column(name = "creation_time", nullable = false)
@@ -21,6 +21,7 @@ public abstract class EntityVersion extends BaseEntity {
     @Column(name = "update_time")
     protected LocalDateTime updateTime = LocalDateTime.now();
 
+    @Override
     public LocalDateTime getCreationTime() {
         return creationTime;
     }
@@ -0,0 +1,15 @@
+package ru.tdd.core.database.entities;
+
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Сущность с версией, которая увеличивается при каждом изменении
+ */
+public interface VersionedEntity {
+
+    UUID getId();
+
+    long getVersion();
+}
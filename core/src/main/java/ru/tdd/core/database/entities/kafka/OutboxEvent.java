@@ -2,6 +2,7 @@ package ru.tdd.core.database.entities.kafka;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import ru.tdd.core.database.entities.BaseEntity;
@@ -9,7 +10,10 @@ import ru.tdd.core.database.entities.BaseEntity;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "outbox_event")
+@Table(
+        name = "outbox_event",
+        indexes = @Index(name = "outbox_event_entity_name_created_time_idx", columnList = "entity_name, created_time")
+)
 public class OutboxEvent extends BaseEntity {
 
     @Column(name = "entity_name", nullable = false)
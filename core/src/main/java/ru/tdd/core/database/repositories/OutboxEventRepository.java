@@ -1,6 +1,8 @@
 package ru.tdd.core.database.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.tdd.core.database.entities.kafka.OutboxEvent;
 
 import java.util.List;
@@ -14,4 +16,21 @@ import java.util.UUID;
 public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
 
     List<OutboxEvent> findAllByEntityName(String entityName);
+
+    /**
+     * Захват пачки самых старых событий сущности.
+     * Строки блокируются до конца текущей транзакции, уже заблокированные другими
+     * транзакциями строки пропускаются, поэтому несколько отправителей не получат одно событие дважды
+     */
+    @Query(
+            value = """
+                    SELECT * FROM outbox_event
+                    WHERE entity_name = :entityName
+                    ORDER BY created_time
+                    LIMIT :limit
+                    FOR UPDATE SKIP LOCKED
+                    """,
+            nativeQuery = true
+    )
+    List<OutboxEvent> claimBatchByEntityName(@Param("entityName") String entityName, @Param("limit") int limit);
 }
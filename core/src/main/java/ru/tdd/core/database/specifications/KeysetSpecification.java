@@ -0,0 +1,32 @@
+package ru.tdd.core.database.specifications;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Набор спецификаций постраничного вывода по курсору
+ */
+public interface KeysetSpecification {
+
+    /**
+     * Строки после ключа (key, id) в порядке (property, id).
+     * Условие property >= key позволяет искать по индексу (property, id)
+     *
+     * @param key ключ последней строки предыдущей страницы, без него - первая страница
+     */
+    static <T, K extends Comparable<? super K>> Specification<T> after(String property, K key, UUID id) {
+        return (root, cr, cb) ->
+                key == null ?
+                        cb.conjunction() :
+                        cb.and(
+                                cb.greaterThanOrEqualTo(root.get(property), key),
+                                cb.or(
+                                        cb.greaterThan(root.get(property), key),
+                                        cb.greaterThan(root.get("id"), id)
+                                )
+                        );
+    }
+}
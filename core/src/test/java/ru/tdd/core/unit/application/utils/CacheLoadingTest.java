@@ -0,0 +1,133 @@
+package ru.tdd.core.unit.application.utils;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.tdd.core.application.exceptions.NotFoundException;
+import ru.tdd.core.application.utils.CacheLoading;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Набор модульных тестов загрузки значений в асинхронный кэш
+ */
+@DisplayName("Модульное тестирование загрузки в асинхронный кэш")
+class CacheLoadingTest {
+
+    @Test
+    @DisplayName("Параллельные промахи по одному ключу загружают значение один раз")
+    void singleLoadTest() throws Exception {
+        AsyncCache<UUID, String> cache = Caffeine.newBuilder().buildAsync();
+        UUID key = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> first = executor.submit(() -> CacheLoading.get(cache, key, k -> {
+                loads.incrementAndGet();
+                await(release);
+                return "Россия";
+            }));
+
+            while (loads.get() == 0) {
+                Thread.onSpinWait();
+            }
+
+            Future<String> second = executor.submit(() -> CacheLoading.get(cache, key, k -> {
+                loads.incrementAndGet();
+                return "Другое значение";
+            }));
+
+            release.countDown();
+
+            Assertions.assertEquals("Россия", first.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals("Россия", second.get(5, TimeUnit.SECONDS));
+        }
+
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Исключение загрузчика пробрасывается без обертки и не кэшируется")
+    void exceptionNotCachedTest() {
+        AsyncCache<UUID, String> cache = Caffeine.newBuilder().buildAsync();
+        UUID key = UUID.randomUUID();
+
+        Assertions.assertThrows(
+                NotFoundException.class,
+                () -> CacheLoading.get(cache, key, k -> {
+                    throw new NotFoundException("Страна с идентификатором " + k + " не найдена");
+                })
+        );
+
+        Assertions.assertEquals("Россия", CacheLoading.get(cache, key, k -> "Россия"));
+    }
+
+    @Test
+    @DisplayName("Error загрузчика завершает future для ожидающих потоков и не кэшируется")
+    void errorCompletesFutureTest() throws Exception {
+        AsyncCache<UUID, String> cache = Caffeine.newBuilder().buildAsync();
+        UUID key = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> first = executor.submit(() -> CacheLoading.get(cache, key, k -> {
+                loads.incrementAndGet();
+                await(release);
+                throw new StackOverflowError();
+            }));
+
+            while (loads.get() == 0) {
+                Thread.onSpinWait();
+            }
+
+            Future<String> second = executor.submit(() -> CacheLoading.get(cache, key, k -> "Другое значение"));
+
+            release.countDown();
+
+            ExecutionException actual1 = Assertions.assertThrows(
+                    ExecutionException.class,
+                    () -> first.get(5, TimeUnit.SECONDS)
+            );
+            Assertions.assertInstanceOf(StackOverflowError.class, actual1.getCause());
+
+            Object actual2;
+
+            try {
+                actual2 = second.get(5, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                actual2 = e.getCause();
+            }
+
+            Assertions.assertTrue(
+                    actual2 instanceof StackOverflowError || "Другое значение".equals(actual2),
+                    "Ожидающий поток должен получить ошибку или загрузить значение заново, а не зависнуть"
+            );
+        }
+
+        CompletableFuture<String> cached = cache.getIfPresent(key);
+
+        Assertions.assertTrue(cached == null || !cached.isCompletedExceptionally());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
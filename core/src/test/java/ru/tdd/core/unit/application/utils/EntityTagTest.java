@@ -0,0 +1,98 @@
+package ru.tdd.core.unit.application.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.tdd.core.application.utils.EntityTag;
+import ru.tdd.core.database.entities.VersionedEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Набор тестов построения ETag
+ */
+@DisplayName("Unit-тест ETag")
+class EntityTagTest {
+
+    @Test
+    @DisplayName("Порядок элементов коллекции не влияет на тег, состав влияет")
+    void collectionOrderTest() {
+        VersionedEntity country = versioned(UUID.randomUUID(), 0);
+
+        VersionedEntity first = versioned(UUID.randomUUID(), 0);
+        VersionedEntity second = versioned(UUID.randomUUID(), 0);
+        VersionedEntity third = versioned(UUID.randomUUID(), 0);
+
+        String actual = EntityTag.of("country").add(country).addAll(List.of(first, second)).value();
+
+        Assertions.assertEquals(actual, EntityTag.of("country").add(country).addAll(List.of(second, first)).value());
+        Assertions.assertNotEquals(actual, EntityTag.of("country").add(country).addAll(List.of(first, third)).value());
+        Assertions.assertNotEquals(actual, EntityTag.of("country").add(country).addAll(List.of(first)).value());
+        Assertions.assertNotEquals(actual, EntityTag.of("region").add(country).addAll(List.of(first, second)).value());
+    }
+
+    @Test
+    @DisplayName("Изменение версии меняет тег")
+    void versionChangeTest() {
+        UUID id = UUID.randomUUID();
+
+        Assertions.assertNotEquals(
+                EntityTag.of("city").add(versioned(id, 1)).value(),
+                EntityTag.of("city").add(versioned(id, 2)).value()
+        );
+        Assertions.assertNotEquals(
+                EntityTag.of("city").add(versioned(id, 1)).add((VersionedEntity) null).value(),
+                EntityTag.of("city").add(versioned(id, 1)).value()
+        );
+    }
+
+    @Test
+    @DisplayName("Изменение времени обновления меняет тег")
+    void updateTimeChangeTest() {
+        UUID id = UUID.randomUUID();
+        LocalDateTime updateTime = LocalDateTime.of(2026, 10, 17, 12, 0, 0, 1_000);
+
+        Assertions.assertEquals(
+                EntityTag.of("author").add(id).add(updateTime).value(),
+                EntityTag.of("author").add(id).add(updateTime).value()
+        );
+        Assertions.assertNotEquals(
+                EntityTag.of("author").add(id).add(updateTime).value(),
+                EntityTag.of("author").add(id).add(updateTime.plusNanos(1_000)).value()
+        );
+        Assertions.assertNotEquals(
+                EntityTag.of("author").add(id).add((LocalDateTime) null).value(),
+                EntityTag.of("author").add(id).value()
+        );
+    }
+
+    @Test
+    @DisplayName("Сравнение с заголовком If-None-Match")
+    void matchesTest() {
+        String etag = EntityTag.of("countries").add(42).value();
+
+        Assertions.assertTrue(EntityTag.matches(etag, etag));
+        Assertions.assertTrue(EntityTag.matches("\"other\", W/" + etag, etag));
+        Assertions.assertTrue(EntityTag.matches("*", etag));
+        Assertions.assertFalse(EntityTag.matches("\"other\"", etag));
+        Assertions.assertFalse(EntityTag.matches(null, etag));
+    }
+
+    private static VersionedEntity versioned(UUID id, long version) {
+        return new VersionedEntity() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public long getVersion() {
+                return version;
+            }
+        };
+    }
+}
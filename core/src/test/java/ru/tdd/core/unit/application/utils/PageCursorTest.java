@@ -0,0 +1,59 @@
+package ru.tdd.core.unit.application.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import ru.tdd.core.application.exceptions.BadRequestException;
+import ru.tdd.core.application.utils.PageCursor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Набор тестов курсора постраничного вывода
+ */
+@DisplayName("Unit-тест курсора страницы")
+class PageCursorTest {
+
+    @Test
+    @DisplayName("Кодирование и разбор курсора")
+    void encodeDecodeTest() {
+        PageCursor cursor = new PageCursor("Санкт-Петербург | 2", UUID.randomUUID());
+
+        Assertions.assertEquals(cursor, PageCursor.decode(cursor.encode()));
+        Assertions.assertNull(PageCursor.decode(""));
+    }
+
+    @Test
+    @DisplayName("Неудачный разбор курсора")
+    void decodeFailTest() {
+        BadRequestException actual = Assertions.assertThrows(
+                BadRequestException.class,
+                () -> PageCursor.decode("not a cursor")
+        );
+
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST, actual.getStatusCode());
+        Assertions.assertEquals("Некорректный курсор страницы", actual.getMessage());
+    }
+
+    @Test
+    @DisplayName("Курсор по времени создания")
+    void creationTimeTest() {
+        LocalDateTime creationTime = LocalDateTime.of(2026, 10, 17, 12, 30, 15, 123_456_000);
+        PageCursor cursor = PageCursor.decode(PageCursor.of(creationTime, UUID.randomUUID()).encode());
+
+        Assertions.assertEquals(creationTime, cursor.time());
+        Assertions.assertThrows(BadRequestException.class, () -> new PageCursor("name", UUID.randomUUID()).time());
+    }
+
+    @Test
+    @DisplayName("Ограничение размера страницы")
+    void perPageTest() {
+        Assertions.assertEquals(100, PageCursor.perPage(100));
+        Assertions.assertEquals(PageCursor.MAX_PER_PAGE, PageCursor.perPage(100_000));
+        Assertions.assertEquals(1, PageCursor.perPage(0));
+    }
+}
@@ -0,0 +1,142 @@
+package ru.tdd.core.unit.controller.security;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.tdd.core.controller.security.GatewayPrincipal;
+import ru.tdd.core.controller.security.GatewayPrincipalVerifier;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Набор тестов проверки заголовка пользователя от шлюза
+ */
+@DisplayName("Unit-тест проверки заголовка пользователя от шлюза")
+class GatewayPrincipalVerifierTest {
+
+    private enum Role { USER, ADMIN }
+
+    private static final String SECRET = "Z2F0ZXdheS1wcmluY2lwYWwtaGVhZGVyLXNpZ25pbmcta2V5LTAx";
+
+    /** Заголовок, который выпускает PrincipalSigner шлюза в своем тесте для тех же данных */
+    private static final String GATEWAY_HEADER =
+            "MGM2YjdhNGUtNWQxZi00YjhhLTllMmMtM2YxZDJhNGI1YzZkfDE1fFVTRVIsQURNSU58MTc5MjE5NTIwMHw0MTAyNDQ0ODAwfHVzZXJ8bmFtZQ" +
+                    ".4on-j6N8SuT5hTjkkSLb7pg2KsTJILc6T5z-bAB_wFc";
+
+    private final GatewayPrincipalVerifier verifier = new GatewayPrincipalVerifier(true, SECRET);
+
+    private static String header(String principal) throws Exception {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(Base64.getDecoder().decode(SECRET), "HmacSHA256"));
+
+        String payload = encoder.encodeToString(principal.getBytes(StandardCharsets.UTF_8));
+        return payload + "." + encoder.encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static String principal(UUID id, long expiration) {
+        return principal(id, "USER,ADMIN", String.valueOf(Instant.now().getEpochSecond()), expiration);
+    }
+
+    private static String principal(UUID id, String roles, String issuedAt, long expiration) {
+        return id + "|15|" + roles + "|" + issuedAt + "|" + expiration + "|user|name";
+    }
+
+    @Test
+    @DisplayName("Подписанный заголовок превращается в пользователя")
+    void verifyTest() throws Exception {
+        UUID id = UUID.randomUUID();
+        long expiration = Instant.now().plusSeconds(60).getEpochSecond();
+
+        long issuedAt = Instant.now().getEpochSecond();
+
+        Optional<GatewayPrincipal<Role>> result = verifier.verify(
+                header(principal(id, "USER,ADMIN", String.valueOf(issuedAt), expiration)),
+                Role.class
+        );
+
+        Assertions.assertTrue(result.isPresent());
+        GatewayPrincipal<Role> user = result.get();
+        Assertions.assertEquals(id, user.id());
+        Assertions.assertEquals(15L, user.chatId());
+        Assertions.assertEquals("user|name", user.username());
+        Assertions.assertEquals(List.of(Role.USER, Role.ADMIN), user.roles());
+        Assertions.assertEquals(Instant.ofEpochSecond(issuedAt), user.issuedAt());
+        Assertions.assertEquals(Instant.ofEpochSecond(expiration), user.expiration());
+    }
+
+    @Test
+    @DisplayName("Заголовок, подписанный шлюзом, принимается без изменений формата")
+    void gatewayHeaderTest() throws Exception {
+        Optional<GatewayPrincipal<Role>> result = verifier.verify(GATEWAY_HEADER, Role.class);
+
+        Assertions.assertEquals(
+                header("0c6b7a4e-5d1f-4b8a-9e2c-3f1d2a4b5c6d|15|USER,ADMIN|1792195200|4102444800|user|name"),
+                GATEWAY_HEADER
+        );
+        Assertions.assertTrue(result.isPresent());
+        GatewayPrincipal<Role> user = result.get();
+        Assertions.assertEquals(UUID.fromString("0c6b7a4e-5d1f-4b8a-9e2c-3f1d2a4b5c6d"), user.id());
+        Assertions.assertEquals(15L, user.chatId());
+        Assertions.assertEquals("user|name", user.username());
+        Assertions.assertEquals(List.of(Role.USER, Role.ADMIN), user.roles());
+        Assertions.assertEquals(Instant.ofEpochSecond(1792195200L), user.issuedAt());
+        Assertions.assertEquals(Instant.ofEpochSecond(4102444800L), user.expiration());
+    }
+
+    @Test
+    @DisplayName("Заголовок с чужой подписью игнорируется")
+    void forgedSignatureTest() throws Exception {
+        String valid = header(principal(UUID.randomUUID(), Instant.now().plusSeconds(60).getEpochSecond()));
+        String forged = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                principal(UUID.randomUUID(), Instant.now().plusSeconds(60).getEpochSecond())
+                        .getBytes(StandardCharsets.UTF_8)
+        ) + valid.substring(valid.indexOf('.'));
+
+        Assertions.assertTrue(verifier.verify(forged, Role.class).isEmpty());
+        Assertions.assertTrue(verifier.verify("garbage", Role.class).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Истекший заголовок игнорируется")
+    void expiredTest() throws Exception {
+        String header = header(principal(UUID.randomUUID(), Instant.now().minusSeconds(1).getEpochSecond()));
+
+        Assertions.assertTrue(verifier.verify(header, Role.class).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Заголовок без времени выпуска принимается с пустым iat, с неизвестной ролью игнорируется")
+    void issuedAtAndRolesTest() throws Exception {
+        long expiration = Instant.now().plusSeconds(60).getEpochSecond();
+
+        Optional<GatewayPrincipal<Role>> withoutIssuedAt = verifier.verify(
+                header(principal(UUID.randomUUID(), "USER", "", expiration)),
+                Role.class
+        );
+
+        Assertions.assertTrue(withoutIssuedAt.isPresent());
+        Assertions.assertNull(withoutIssuedAt.get().issuedAt());
+        Assertions.assertTrue(
+                verifier.verify(header(principal(UUID.randomUUID(), "ROOT", "", expiration)), Role.class).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("Выключенная проверка не доверяет заголовку")
+    void disabledTest() throws Exception {
+        String header = header(principal(UUID.randomUUID(), Instant.now().plusSeconds(60).getEpochSecond()));
+
+        Assertions.assertTrue(new GatewayPrincipalVerifier(false, SECRET).verify(header, Role.class).isEmpty());
+        Assertions.assertTrue(new GatewayPrincipalVerifier(true, "").verify(header, Role.class).isEmpty());
+    }
+}
@@ -0,0 +1,70 @@
+package ru.tdd.core.unit.controller.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.tdd.core.controller.security.VerifiedTokenCache;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Набор тестов кэша проверенных токенов
+ */
+@DisplayName("Unit-тест кэша проверенных токенов")
+class VerifiedTokenCacheTest {
+
+    private record TokenUser(String username, Instant expiration) {}
+
+    private final VerifiedTokenCache<TokenUser> verifiedTokenCache =
+            new VerifiedTokenCache<>(100, new SimpleMeterRegistry(), TokenUser::expiration);
+
+    private Function<String, TokenUser> verifier(AtomicInteger calls, Instant expiration) {
+        return token -> {
+            calls.incrementAndGet();
+            return new TokenUser("user", expiration);
+        };
+    }
+
+    @Test
+    @DisplayName("Повторный токен не проверяется заново")
+    void cachedTokenTest() {
+        AtomicInteger calls = new AtomicInteger();
+        Function<String, TokenUser> verifier = verifier(calls, Instant.now().plusSeconds(60));
+
+        TokenUser first = verifiedTokenCache.get("token", verifier);
+        TokenUser second = verifiedTokenCache.get("token", verifier);
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("Запись истекшего токена не переиспользуется")
+    void expiredTokenTest() {
+        AtomicInteger calls = new AtomicInteger();
+        Function<String, TokenUser> verifier = verifier(calls, Instant.now().minusSeconds(1));
+
+        verifiedTokenCache.get("expired", verifier);
+        verifiedTokenCache.get("expired", verifier);
+
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    @Test
+    @DisplayName("Ошибка проверки не кэшируется")
+    void failedVerificationTest() {
+        Assertions.assertThrows(IllegalStateException.class, () -> verifiedTokenCache.get("bad", token -> {
+            throw new IllegalStateException();
+        }));
+
+        AtomicInteger calls = new AtomicInteger();
+        verifiedTokenCache.get("bad", verifier(calls, Instant.now().plusSeconds(60)));
+
+        Assertions.assertEquals(1, calls.get());
+    }
+}
@@ -1,22 +1,41 @@
 package ru.tdd
 
+import ru.tdd.controller.cache.ResponseCache
 import ru.tdd.controller.configs.AppConfig
-import ru.tdd.controller.routes.GatewayRoute
-import zio.http.{Client, Server}
-import zio.{ZIOAppDefault, ZLayer}
+import ru.tdd.controller.limits.{RateLimiter, TrafficLimits}
+import ru.tdd.controller.routes.{GatewayRoute, MetricsRoute}
+import ru.tdd.controller.security.{JwtVerifier, PrincipalSigner}
+import ru.tdd.controller.upstream.UpstreamRegistry
+import zio.http.Server
+import zio.{ZIO, ZIOAppDefault, ZLayer}
 
 object GatewayApp extends ZIOAppDefault {
 
   override def run = {
     val config = AppConfig()
+    val cache = new ResponseCache(config.responseCache)
+    val jwtVerifier = new JwtVerifier(config.jwt.secret)
+    val principalSigner = new PrincipalSigner(config.jwt.principalSecret)
+    val limits = new TrafficLimits(config.limits)
+    val rateLimiter = new RateLimiter(config.limits.maxKeys)
 
-    (for {
-      _ <- Server.serve(GatewayRoute(config.servicesConfig))
-    } yield ())
+    ZIO.scoped {
+      for {
+        upstreams <- UpstreamRegistry.make(config.servicesConfig)
+        _ <- limits.reloading.forkScoped
+        _ <- Server.serve(
+          GatewayRoute(upstreams, cache, jwtVerifier, principalSigner, limits, rateLimiter) ++
+            MetricsRoute(upstreams, cache, rateLimiter)
+        )
+      } yield ()
+    }
       .provide(
-        ZLayer.succeed(Server.Config.default.binding(config.server.url, config.server.port)),
-        Server.live,
-        Client.default
+        ZLayer.succeed(
+          Server.Config.default
+            .binding(config.server.url, config.server.port)
+            .enableRequestStreaming
+        ),
+        Server.live
       )
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package ru.tdd.controller.cache
+
+import java.util.Locale
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Директивы Cache-Control, которые учитывает кэш шлюза
+ */
+final case class CacheDirectives(
+                                  noStore: Boolean,
+                                  isPrivate: Boolean,
+                                  noCache: Boolean,
+                                  maxAgeSeconds: Option[Long]
+                                )
+
+object CacheDirectives {
+
+  val Empty: CacheDirectives = CacheDirectives(noStore = false, isPrivate = false, noCache = false, None)
+
+  /** s-maxage предназначен разделяемым кэшам и имеет приоритет над max-age */
+  def parse(value: Option[String]): CacheDirectives =
+    value.fold(Empty) { header =>
+      val directives = header.split(',').iterator
+        .map(_.trim.toLowerCase(Locale.ROOT))
+        .filter(_.nonEmpty)
+        .map { directive =>
+          directive.indexOf('=') match {
+            case -1 => directive -> ""
+            case index => directive.substring(0, index).trim -> directive.substring(index + 1).trim.stripPrefix("\"").stripSuffix("\"")
+          }
+        }
+        .toMap
+
+      def seconds(name: String): Option[Long] = directives.get(name).flatMap(_.toLongOption).map(math.max(_, 0L))
+
+      CacheDirectives(
+        noStore = directives.contains("no-store"),
+        isPrivate = directives.contains("private"),
+        noCache = directives.contains("no-cache"),
+        maxAgeSeconds = seconds("s-maxage").orElse(seconds("max-age"))
+      )
+    }
+}
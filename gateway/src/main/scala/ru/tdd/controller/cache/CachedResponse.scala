@@ -0,0 +1,59 @@
+package ru.tdd.controller.cache
+
+import zio.Chunk
+import zio.http.{Body, Header, Headers, Response, Status}
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Ответ сервиса, собранный в памяти. Запись свежая до expiresAt (System.nanoTime),
+ *        после этого она отдается только после перепроверки по ETag
+ */
+final case class CachedResponse(
+                                 status: Status,
+                                 headers: Headers,
+                                 body: Chunk[Byte],
+                                 etag: Option[String],
+                                 expiresAt: Long
+                               ) {
+
+  def isFresh(now: Long): Boolean = expiresAt - now > 0
+
+  /** Примерный объем записи в байтах, по нему ограничивается размер кэша */
+  def weight: Int =
+    headers.foldLeft(body.length + CachedResponse.Overhead) { (size, header) =>
+      size + header.headerName.length + header.renderedValue.length
+    }
+
+  /**
+   * Ответ клиенту из записи. Если клиент прислал совпадающий If-None-Match, отдается 304 без тела
+   *
+   * @param cacheStatus значение заголовка X-Cache: HIT, MISS или REVALIDATED
+   */
+  def toResponse(ifNoneMatch: Option[String], cacheStatus: String): Response = {
+    val responseHeaders = headers.addHeader(CachedResponse.CacheStatusHeader, cacheStatus)
+
+    if (etag.exists(tag => CachedResponse.matches(ifNoneMatch, tag)))
+      Response(Status.NotModified, responseHeaders.removeHeader(Header.ContentLength.name), Body.empty)
+    else
+      Response(status, responseHeaders, Body.fromChunk(body))
+  }
+}
+
+object CachedResponse {
+
+  val CacheStatusHeader = "x-cache"
+
+  private val Overhead = 128
+
+  /** Слабое сравнение ETag, как в сервисах: W/ префикс не учитывается, "*" совпадает с любым тегом */
+  def matches(ifNoneMatch: Option[String], etag: String): Boolean =
+    ifNoneMatch.exists { value =>
+      val tag = withoutWeakPrefix(etag)
+
+      value.split(',').iterator.map(_.trim).exists(candidate => candidate == "*" || withoutWeakPrefix(candidate) == tag)
+    }
+
+  private def withoutWeakPrefix(tag: String): String =
+    if (tag.startsWith("W/")) tag.substring(2) else tag
+}
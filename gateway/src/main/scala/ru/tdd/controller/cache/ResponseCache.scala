@@ -0,0 +1,295 @@
+package ru.tdd.controller.cache
+
+import com.github.benmanes.caffeine.cache.{Cache, Caffeine, RemovalCause}
+import ru.tdd.controller.configs.ResponseCacheConfig
+import ru.tdd.controller.security.JwtClaims
+import zio.http.{Body, Header, Headers, Method, Request, Response, Status}
+import zio.json.{DeriveJsonEncoder, JsonEncoder}
+import zio.stream.ZStream
+import zio.{Chunk, Promise, UIO, ZIO}
+
+import java.util.concurrent.{ConcurrentHashMap, TimeUnit}
+import java.util.concurrent.atomic.{AtomicReference, LongAdder}
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Кэш ответов шлюза на GET запросы к настроенным маршрутам.
+ *        Ключ - метод, путь с параметрами и класс доступа (набор ролей из проверенного токена),
+ *        поэтому ответы не смешиваются между ролями, а поддельный токен не получает чужую запись.
+ *        Запрос с заголовком Authorization, который шлюз не подтвердил, идет мимо кэша: его должен отклонить сервис.
+ *        Учитываются Cache-Control и ETag сервиса: устаревшая запись перепроверяется запросом с If-None-Match.
+ *        Одновременные промахи по одному ключу объединяются в один запрос к сервису.
+ *        Размер ограничен суммарным объемом записей, вытесняются редко используемые
+ */
+final class ResponseCache(config: ResponseCacheConfig) {
+
+  private val hits = new LongAdder()
+
+  private val coalesced = new LongAdder()
+
+  private val misses = new LongAdder()
+
+  private val revalidated = new LongAdder()
+
+  private val stores = new LongAdder()
+
+  private val evictions = new LongAdder()
+
+  private val entries: Cache[CacheKey, CachedResponse] =
+    Caffeine.newBuilder()
+      .maximumWeight(config.maxBytes)
+      .weigher[CacheKey, CachedResponse]((_: CacheKey, value: CachedResponse) => value.weight)
+      .expireAfterWrite(config.maxStale)
+      .removalListener[CacheKey, CachedResponse] { (_: CacheKey, _: CachedResponse, cause: RemovalCause) =>
+        if (cause.wasEvicted()) evictions.increment()
+      }
+      .build[CacheKey, CachedResponse]()
+
+  /** Загрузки в работе: ожидающие получат Some(запись) или None, если ответ нельзя разделять */
+  private val loading = new ConcurrentHashMap[CacheKey, Promise[Nothing, Option[CachedResponse]]]()
+
+  /**
+   * Запрос может обслуживаться кэшем: GET к настроенному маршруту без Range и без Cache-Control: no-store.
+   * Недействительный или просроченный токен не должен получить анонимный ответ из кэша
+   *
+   * @param claims утверждения токена, проверенного на шлюзе
+   */
+  def cacheable(req: Request, claims: Option[JwtClaims]): Boolean = {
+    lazy val path = req.url.path.encode
+
+    config.enabled &&
+      req.method == Method.GET &&
+      (claims.isDefined || req.rawHeader(Header.Authorization.name).isEmpty) &&
+      req.rawHeader(Header.Range.name).isEmpty &&
+      !CacheDirectives.parse(req.rawHeader(Header.CacheControl.name)).noStore &&
+      config.routes.exists(route => path == route || path.startsWith(route + "/"))
+  }
+
+  /**
+   * Ответ из кэша либо через forward с сохранением результата
+   *
+   * @param claims  утверждения токена, проверенного на шлюзе
+   * @param forward отправка запроса сервису
+   */
+  def serve(req: Request, claims: Option[JwtClaims], forward: Request => UIO[Response]): UIO[Response] = {
+    val key = CacheKey(req.method.name, req.url.encode, claims.fold(ResponseCache.Anonymous)(_.roleClass))
+    val ifNoneMatch = req.rawHeader(Header.IfNoneMatch.name)
+
+    Option(entries.getIfPresent(key)) match {
+      case Some(entry) if entry.isFresh(java.lang.System.nanoTime()) =>
+        ZIO.succeed {
+          hits.increment()
+          entry.toResponse(ifNoneMatch, "HIT")
+        }
+
+      case stale =>
+        Promise.make[Nothing, Option[CachedResponse]].flatMap { promise =>
+          loading.putIfAbsent(key, promise) match {
+            case null =>
+              ZIO.succeed(misses.increment()) *>
+                load(key, req, stale, forward, promise)
+                  .onExit(exit => finish(key, promise).unless(exit.isSuccess))
+
+            case inFlight =>
+              inFlight.await.flatMap {
+                case Some(entry) =>
+                  ZIO.succeed {
+                    coalesced.increment()
+                    entry.toResponse(ifNoneMatch, "HIT")
+                  }
+                case None =>
+                  ZIO.succeed(misses.increment()) *> forward(req)
+              }
+          }
+        }
+    }
+  }
+
+  def snapshot: CacheSnapshot = {
+    val hitCount = hits.sum()
+    val coalescedCount = coalesced.sum()
+    val missCount = misses.sum()
+    val served = hitCount + coalescedCount + missCount
+    val eviction = entries.policy().eviction()
+
+    CacheSnapshot(
+      hits = hitCount,
+      coalesced = coalescedCount,
+      misses = missCount,
+      revalidated = revalidated.sum(),
+      hitRatio = if (served == 0) 0.0 else (hitCount + coalescedCount).toDouble / served,
+      stores = stores.sum(),
+      evictions = evictions.sum(),
+      entries = entries.estimatedSize(),
+      bytes = if (eviction.isPresent) eviction.get().weightedSize().orElse(0L) else 0L,
+      maxBytes = config.maxBytes
+    )
+  }
+
+  /**
+   * Запрос к сервису от имени всех ожидающих по ключу.
+   * Условные заголовки клиента заменяются ETag устаревшей записи, чтобы получить либо 304, либо полное тело.
+   * Загрузка завершается (finish), когда запись готова, а для тела-потока - когда поток закончился
+   */
+  private def load(
+                    key: CacheKey,
+                    req: Request,
+                    stale: Option[CachedResponse],
+                    forward: Request => UIO[Response],
+                    promise: Promise[Nothing, Option[CachedResponse]]
+                  ): UIO[Response] = {
+    val ifNoneMatch = req.rawHeader(Header.IfNoneMatch.name)
+    val headers = withoutConditionals(req.headers)
+    val request = req.copy(
+      headers = stale.flatMap(_.etag).fold(headers)(etag => headers.addHeader(Header.IfNoneMatch.name, etag))
+    )
+
+    forward(request).flatMap { response =>
+      val directives = CacheDirectives.parse(response.rawHeader(Header.CacheControl.name))
+      val shared = !directives.noStore && !directives.isPrivate
+
+      (stale, response.status) match {
+        case (Some(entry), Status.NotModified) =>
+          val refreshed = entry.copy(expiresAt = expiresAt(directives))
+
+          ZIO.succeed {
+            revalidated.increment()
+            if (shared) store(key, refreshed)
+          } *>
+            promise.succeed(Some(refreshed).filter(_ => shared)) *>
+            finish(key, promise).as(refreshed.toResponse(ifNoneMatch, "REVALIDATED"))
+
+        case (_, Status.Ok) if collectable(response) =>
+          val etag = response.rawHeader(Header.ETag.name)
+          val body = collecting(response, shared, expiresAt(directives), key, promise)
+
+          if (etag.exists(CachedResponse.matches(ifNoneMatch, _)))
+            body.runDrain.foldZIO(
+              ex => ZIO.succeed(Response.text(s"Gateway error: ${ex.getMessage}").status(Status.BadGateway)),
+              _ =>
+                ZIO.succeed(
+                  Response(
+                    Status.NotModified,
+                    response.headers.removeHeader(Header.ContentLength.name).addHeader(CachedResponse.CacheStatusHeader, "MISS"),
+                    Body.empty
+                  )
+                )
+            )
+          else {
+            val stream = body.flattenChunks
+
+            ZIO.succeed(
+              response.copy(
+                headers = response.headers.addHeader(CachedResponse.CacheStatusHeader, "MISS"),
+                body = response.header(Header.ContentLength) match {
+                  case Some(Header.ContentLength(length)) => Body.fromStream(stream, length)
+                  case None => Body.fromStreamChunked(stream)
+                }
+              )
+            )
+          }
+
+        case _ =>
+          finish(key, promise).as(response)
+      }
+    }
+  }
+
+  /**
+   * Тело ответа передается клиенту потоком и попутно копируется, пока копия не больше max-entry-bytes.
+   * После превышения копия отбрасывается и ответ не кэшируется, ожидающие по ключу запрашивают сервис сами
+   */
+  private def collecting(
+                          response: Response,
+                          shared: Boolean,
+                          expiresAt: Long,
+                          key: CacheKey,
+                          promise: Promise[Nothing, Option[CachedResponse]]
+                        ): ZStream[Any, Throwable, Chunk[Byte]] = {
+    val collected = new AtomicReference[Option[Chunk[Byte]]](Some(Chunk.empty))
+
+    val complete = ZIO.suspendSucceed {
+      collected.get() match {
+        case Some(body) =>
+          val entry = CachedResponse(response.status, response.headers, body, response.rawHeader(Header.ETag.name), expiresAt)
+
+          ZIO.succeed(if (shared && storable(response, entry)) store(key, entry)) *>
+            promise.succeed(Some(entry).filter(_ => shared)).unit
+
+        case None =>
+          ZIO.unit
+      }
+    }
+
+    (response.body.asStream.chunks
+      .tap(chunk => ZIO.succeed(collected.updateAndGet(_.map(_ ++ chunk).filter(_.length <= config.maxEntryBytes))))
+      ++ ZStream.fromZIO(complete).drain)
+      .ensuring(finish(key, promise))
+  }
+
+  /** Ожидающие без записи получают None и запрашивают сервис сами */
+  private def finish(key: CacheKey, promise: Promise[Nothing, Option[CachedResponse]]): UIO[Unit] =
+    promise.succeed(None) *> ZIO.succeed(loading.remove(key, promise)).unit
+
+  /**
+   * Тело копируется, если его размер известен и не превышает max-entry-bytes,
+   * либо это JSON без длины: его копия ограничена max-entry-bytes при передаче.
+   * Потоковые выгрузки передаются клиенту без копирования
+   */
+  private def collectable(response: Response): Boolean =
+    response.header(Header.ContentLength) match {
+      case Some(Header.ContentLength(length)) => length <= config.maxEntryBytes
+      case None => response.rawHeader(Header.ContentType.name).exists(_.startsWith("application/json"))
+    }
+
+  /** Запись без ETag имеет смысл хранить, только пока она свежая */
+  private def storable(response: Response, entry: CachedResponse): Boolean =
+    entry.body.length <= config.maxEntryBytes &&
+      !response.rawHeader(Header.Vary.name).exists(_.contains("*")) &&
+      (entry.etag.isDefined || entry.isFresh(java.lang.System.nanoTime()))
+
+  private def store(key: CacheKey, entry: CachedResponse): Unit = {
+    entries.put(key, entry)
+    stores.increment()
+  }
+
+  /** no-cache требует перепроверки при каждом обращении, без max-age используется default-ttl */
+  private def expiresAt(directives: CacheDirectives): Long = {
+    val ttl =
+      if (directives.noCache) 0L
+      else directives.maxAgeSeconds.fold(config.defaultTtl.toNanos)(TimeUnit.SECONDS.toNanos)
+
+    java.lang.System.nanoTime() + ttl
+  }
+
+  private def withoutConditionals(headers: Headers): Headers =
+    headers
+      .removeHeader(Header.IfNoneMatch.name)
+      .removeHeader(Header.IfModifiedSince.name)
+}
+
+object ResponseCache {
+
+  private val Anonymous = "anonymous"
+}
+
+final case class CacheKey(method: String, url: String, roleClass: String)
+
+final case class CacheSnapshot(
+                                hits: Long,
+                                coalesced: Long,
+                                misses: Long,
+                                revalidated: Long,
+                                hitRatio: Double,
+                                stores: Long,
+                                evictions: Long,
+                                entries: Long,
+                                bytes: Long,
+                                maxBytes: Long
+                              )
+
+object CacheSnapshot {
+
+  implicit val encoder: JsonEncoder[CacheSnapshot] = DeriveJsonEncoder.gen[CacheSnapshot]
+}
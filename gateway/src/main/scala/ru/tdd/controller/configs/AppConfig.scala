@@ -1,12 +1,17 @@
 package ru.tdd.controller.configs
 
-import com.typesafe.config.{Config, ConfigFactory}
+import com.typesafe.config.{Config, ConfigFactory, ConfigValueType}
 
-import scala.jdk.CollectionConverters.ListHasAsScala
+import java.io.File
+import java.time.Duration
+import scala.jdk.CollectionConverters.{ListHasAsScala, SetHasAsScala}
 
 case class AppConfig(
                       server: ServerConfig,
-                      servicesConfig: Seq[ServiceProxyConfig]
+                      servicesConfig: Seq[ServiceProxyConfig],
+                      jwt: JwtConfig,
+                      responseCache: ResponseCacheConfig,
+                      limits: LimitsConfig
                     )
 
 object AppConfig {
@@ -15,11 +20,133 @@ object AppConfig {
     val conf = ConfigFactory.load("app.conf").getConfig("gateway-app")
     new AppConfig(
       ServerConfig(conf),
-      conf.getConfigList("services").asScala.map(ServiceProxyConfig(_)).toSeq
+      conf.getConfigList("services").asScala.map(ServiceProxyConfig(_)).toSeq,
+      JwtConfig(conf.getConfig("jwt")),
+      ResponseCacheConfig(conf.getConfig("response-cache")),
+      LimitsConfig.load()
     )
   }
 }
 
+/**
+ * Ограничения нагрузки: token bucket на маршрут и пользователя и предел одновременных запросов к сервису.
+ * Значения по умолчанию берутся из app.conf внутри jar, он не меняется во время работы.
+ * Менять ограничения без перезапуска можно только через внешний файл (file, GATEWAY_LIMITS_FILE)
+ * с блоком gateway-app.limits: он перечитывается каждые reloadInterval поверх app.conf.
+ * trustedProxyHops - число доверенных прокси (балансировщиков) перед шлюзом, см. ClientAddress
+ */
+case class LimitsConfig(
+                         file: Option[String],
+                         reloadInterval: Duration,
+                         retryAfter: Duration,
+                         maxKeys: Long,
+                         trustedProxyHops: Int,
+                         rateLimits: List[RateLimitRule],
+                         maxInFlight: Map[String, Int]
+                       ) {
+
+  /** Правило с самым длинным подходящим префиксом */
+  def rule(path: String): Option[RateLimitRule] = rateLimits.find(_.matches(path))
+
+  /** Сервис без настройки не ограничивается */
+  def inFlightLimit(service: String): Int = maxInFlight.getOrElse(service, Int.MaxValue)
+}
+
+object LimitsConfig {
+
+  /** app.conf из jar читается один раз */
+  private lazy val bundled: Config = ConfigFactory.load("app.conf")
+
+  def load(): LimitsConfig =
+    Some("gateway-app.limits.file").filter(bundled.hasPath).map(bundled.getString) match {
+      case Some(path) => fromFile(path)
+      case None => LimitsConfig(bundled.getConfig("gateway-app.limits"), None)
+    }
+
+  /** Внешний файл поверх app.conf, отсутствующий файл оставляет значения app.conf */
+  def fromFile(path: String): LimitsConfig =
+    LimitsConfig(
+      ConfigFactory.parseFile(new File(path)).withFallback(bundled).resolve().getConfig("gateway-app.limits"),
+      Some(path)
+    )
+
+  def apply(conf: Config, file: Option[String]): LimitsConfig = {
+    val maxInFlight = conf.getConfig("max-in-flight")
+
+    new LimitsConfig(
+      file,
+      conf.getDuration("reload-interval"),
+      conf.getDuration("retry-after"),
+      conf.getLong("max-keys"),
+      if (conf.hasPath("trusted-proxy-hops")) conf.getInt("trusted-proxy-hops") else 0,
+      conf.getConfigList("rate-limits").asScala.map(RateLimitRule(_)).toList.sortBy(-_.route.length),
+      maxInFlight.root().keySet().asScala.map(service => service -> maxInFlight.getInt(service)).toMap
+    )
+  }
+}
+
+/**
+ * Token bucket для префикса пути: до capacity запросов подряд, затем refillPerSecond запросов в секунду
+ */
+case class RateLimitRule(
+                          route: String,
+                          capacity: Int,
+                          refillPerSecond: Double
+                        ) {
+
+  def matches(path: String): Boolean = path == route || path.startsWith(route + "/")
+}
+
+object RateLimitRule {
+
+  def apply(conf: Config): RateLimitRule =
+    new RateLimitRule(
+      conf.getString("route"),
+      conf.getInt("capacity"),
+      conf.getDouble("refill-per-second")
+    )
+}
+
+/**
+ * Секрет подписи токенов, общий с сервисами, и секрет подписи внутреннего заголовка с пользователем, оба в base64
+ */
+case class JwtConfig(
+                      secret: String,
+                      principalSecret: String
+                    )
+
+object JwtConfig {
+
+  def apply(conf: Config): JwtConfig = new JwtConfig(conf.getString("secret"), conf.getString("principal-secret"))
+}
+
+/**
+ * Кэш ответов на GET запросы к указанным префиксам путей.
+ * Размер ограничен суммарным объемом ответов, defaultTtl используется, если сервис не указал max-age,
+ * устаревшие записи с ETag хранятся до maxStale и перепроверяются запросом с If-None-Match
+ */
+case class ResponseCacheConfig(
+                                enabled: Boolean,
+                                maxBytes: Long,
+                                maxEntryBytes: Long,
+                                defaultTtl: Duration,
+                                maxStale: Duration,
+                                routes: List[String]
+                              )
+
+object ResponseCacheConfig {
+
+  def apply(conf: Config): ResponseCacheConfig =
+    new ResponseCacheConfig(
+      conf.getBoolean("enabled"),
+      conf.getBytes("max-bytes"),
+      conf.getBytes("max-entry-bytes"),
+      conf.getDuration("default-ttl"),
+      conf.getDuration("max-stale"),
+      conf.getStringList("routes").asScala.toList
+    )
+}
+
 case class ServerConfig(
                          port: Int,
                          url: String
@@ -36,18 +163,139 @@ object ServerConfig {
   }
 }
 
+/**
+ * Сервис за шлюзом. Экземпляры задаются списком instances ("host:port") или строкой через запятую,
+ * для совместимости допускается один экземпляр в target-host/target-port
+ */
 case class ServiceProxyConfig(
-                               targetHost: String,
-                               targetPort: Int,
-                               urlPatterns: List[String]
+                               name: String,
+                               instances: List[InstanceConfig],
+                               urlPatterns: List[String],
+                               pool: PoolConfig,
+                               outlier: OutlierConfig,
+                               healthCheck: HealthCheckConfig
                              )
 
 object ServiceProxyConfig {
 
-  def apply(conf: Config): ServiceProxyConfig =
+  def apply(conf: Config): ServiceProxyConfig = {
+    val urlPatterns = conf.getStringList("url-patterns").asScala.toList
+
     new ServiceProxyConfig(
-      conf.getString("target-host"),
-      conf.getInt("target-port"),
-      conf.getStringList("url-patterns").asScala.toList
+      if (conf.hasPath("name")) conf.getString("name") else urlPatterns.head,
+      instances(conf),
+      urlPatterns,
+      if (conf.hasPath("pool")) PoolConfig(conf.getConfig("pool")) else PoolConfig.Default,
+      if (conf.hasPath("outlier")) OutlierConfig(conf.getConfig("outlier")) else OutlierConfig.Default,
+      if (conf.hasPath("health-check")) HealthCheckConfig(conf.getConfig("health-check")) else HealthCheckConfig.Default
     )
-}
\ No newline at end of file
+  }
+
+  private def instances(conf: Config): List[InstanceConfig] = {
+    val addresses =
+      if (!conf.hasPath("instances")) Nil
+      else if (conf.getValue("instances").valueType() == ConfigValueType.LIST) conf.getStringList("instances").asScala.toList
+      else conf.getString("instances").split(',').toList
+
+    addresses.map(_.trim).filter(_.nonEmpty).map(InstanceConfig(_)) match {
+      case Nil => List(InstanceConfig(conf.getString("target-host"), conf.getInt("target-port")))
+      case parsed => parsed
+    }
+  }
+}
+
+case class InstanceConfig(
+                           host: String,
+                           port: Int
+                         ) {
+
+  def address: String = s"$host:$port"
+}
+
+object InstanceConfig {
+
+  def apply(address: String): InstanceConfig = {
+    val separator = address.lastIndexOf(':')
+
+    if (separator <= 0)
+      throw new IllegalArgumentException(s"Instance address must be host:port, got '$address'")
+
+    new InstanceConfig(address.substring(0, separator), address.substring(separator + 1).toInt)
+  }
+}
+
+/**
+ * Пассивное исключение экземпляра: после consecutiveFailures подряд ответов 502 и 504 или ошибок соединения
+ * экземпляр не получает запросы baseEjectionTime, каждое следующее исключение вдвое дольше, но не больше maxEjectionTime.
+ * responseTimeout ограничивает ожидание заголовков ответа, превышение считается ошибкой
+ */
+case class OutlierConfig(
+                          consecutiveFailures: Int,
+                          baseEjectionTime: Duration,
+                          maxEjectionTime: Duration,
+                          responseTimeout: Duration
+                        )
+
+object OutlierConfig {
+
+  val Default: OutlierConfig = OutlierConfig(5, Duration.ofSeconds(10), Duration.ofMinutes(5), Duration.ofSeconds(30))
+
+  def apply(conf: Config): OutlierConfig =
+    new OutlierConfig(
+      if (conf.hasPath("consecutive-failures")) conf.getInt("consecutive-failures") else Default.consecutiveFailures,
+      if (conf.hasPath("base-ejection-time")) conf.getDuration("base-ejection-time") else Default.baseEjectionTime,
+      if (conf.hasPath("max-ejection-time")) conf.getDuration("max-ejection-time") else Default.maxEjectionTime,
+      if (conf.hasPath("response-timeout")) conf.getDuration("response-timeout") else Default.responseTimeout
+    )
+}
+
+/**
+ * Активная проверка экземпляров запросом GET path каждые interval. Экземпляр выводится из балансировки
+ * после unhealthyThreshold неудачных проверок подряд и возвращается после healthyThreshold успешных
+ */
+case class HealthCheckConfig(
+                              enabled: Boolean,
+                              path: String,
+                              interval: Duration,
+                              timeout: Duration,
+                              unhealthyThreshold: Int,
+                              healthyThreshold: Int
+                            )
+
+object HealthCheckConfig {
+
+  val Default: HealthCheckConfig =
+    HealthCheckConfig(enabled = true, "/api/v1/actuator/health", Duration.ofSeconds(5), Duration.ofSeconds(2), 3, 2)
+
+  def apply(conf: Config): HealthCheckConfig =
+    new HealthCheckConfig(
+      if (conf.hasPath("enabled")) conf.getBoolean("enabled") else Default.enabled,
+      if (conf.hasPath("path")) conf.getString("path") else Default.path,
+      if (conf.hasPath("interval")) conf.getDuration("interval") else Default.interval,
+      if (conf.hasPath("timeout")) conf.getDuration("timeout") else Default.timeout,
+      if (conf.hasPath("unhealthy-threshold")) conf.getInt("unhealthy-threshold") else Default.unhealthyThreshold,
+      if (conf.hasPath("healthy-threshold")) conf.getInt("healthy-threshold") else Default.healthyThreshold
+    )
+}
+
+/**
+ * Пул соединений к каждому экземпляру сервиса: фиксированное число keep-alive соединений,
+ * простаивающие соединения закрываются через idleTimeout
+ */
+case class PoolConfig(
+                       size: Int,
+                       idleTimeout: Duration,
+                       connectTimeout: Duration
+                     )
+
+object PoolConfig {
+
+  val Default: PoolConfig = PoolConfig(64, Duration.ofSeconds(60), Duration.ofSeconds(2))
+
+  def apply(conf: Config): PoolConfig =
+    new PoolConfig(
+      if (conf.hasPath("size")) conf.getInt("size") else Default.size,
+      if (conf.hasPath("idle-timeout")) conf.getDuration("idle-timeout") else Default.idleTimeout,
+      if (conf.hasPath("connect-timeout")) conf.getDuration("connect-timeout") else Default.connectTimeout
+    )
+}
@@ -0,0 +1,26 @@
+package ru.tdd.controller.limits
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Адрес клиента для ограничения анонимных запросов.
+ *        Без доверенных прокси это адрес соединения, X-Forwarded-For клиента не учитывается, его можно подделать.
+ *        Если перед шлюзом стоят trustedProxyHops прокси, каждая из которых дописывает в X-Forwarded-For
+ *        адрес своего соединения, адрес клиента - запись trustedProxyHops справа: записи левее мог прислать сам клиент.
+ *        Предполагается, что к шлюзу нельзя подключиться в обход этих прокси
+ */
+object ClientAddress {
+
+  /**
+   * @param forwardedFor значения всех заголовков X-Forwarded-For в порядке получения
+   * @param remote       адрес соединения
+   */
+  def resolve(forwardedFor: Seq[String], remote: Option[String], trustedProxyHops: Int): Option[String] =
+    if (trustedProxyHops <= 0) remote
+    else {
+      val hops = forwardedFor.flatMap(_.split(',')).map(_.trim).filter(_.nonEmpty)
+
+      // Записей меньше, чем прокси: все они дописаны доверенными прокси, самая левая ближе всего к клиенту
+      hops.lift(hops.length - trustedProxyHops).orElse(hops.headOption).orElse(remote)
+    }
+}
@@ -0,0 +1,25 @@
+package ru.tdd.controller.limits
+
+import zio.http.{Header, Response, Status}
+
+import java.time.Duration
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Быстрые отказы шлюза под нагрузкой с заголовком Retry-After в целых секундах
+ */
+object LimitResponses {
+
+  def tooManyRequests(retryAfter: Duration): Response =
+    withRetryAfter(Response.text("Too many requests").status(Status.TooManyRequests), retryAfter)
+
+  def overloaded(service: String, retryAfter: Duration): Response =
+    withRetryAfter(Response.text(s"Service '$service' is overloaded").status(Status.ServiceUnavailable), retryAfter)
+
+  private def withRetryAfter(response: Response, retryAfter: Duration): Response = {
+    val seconds = math.max((retryAfter.toMillis + 999) / 1000, 1L)
+
+    response.addHeader(Header.RetryAfter.name, seconds.toString)
+  }
+}
@@ -0,0 +1,83 @@
+package ru.tdd.controller.limits
+
+import com.github.benmanes.caffeine.cache.{Cache, Caffeine}
+import ru.tdd.controller.configs.RateLimitRule
+import zio.json.{DeriveJsonEncoder, JsonEncoder}
+
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.{AtomicLong, LongAdder}
+import scala.annotation.tailrec
+import scala.jdk.CollectionConverters.ConcurrentMapHasAsScala
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Token bucket на маршрут и пользователя в форме GCRA: состояние ключа - одно AtomicLong
+ *        с теоретическим временем следующего запроса, которое сдвигается compareAndSet без блокировок.
+ *        Параметры правила читаются при каждой проверке, поэтому перечитанные ограничения действуют сразу.
+ *        Неактивные ключи вытесняются, число ключей ограничено max-keys
+ */
+final class RateLimiter(maxKeys: Long) {
+
+  private val buckets: Cache[String, AtomicLong] =
+    Caffeine.newBuilder()
+      .maximumSize(maxKeys)
+      .expireAfterAccess(RateLimiter.IdleTimeout)
+      .build[String, AtomicLong]()
+
+  private val limited = new ConcurrentHashMap[String, LongAdder]()
+
+  /**
+   * Попытка взять токен
+   *
+   * @param subject идентификатор пользователя из токена или адрес клиента
+   * @return None, если запрос пропущен, иначе время, через которое появится токен
+   */
+  def acquire(rule: RateLimitRule, subject: String): Option[Duration] =
+    if (rule.capacity <= 0 || rule.refillPerSecond <= 0) None
+    else {
+      val interval = math.max((RateLimiter.NanosPerSecond / rule.refillPerSecond).toLong, 1L)
+      val tolerance = interval * (rule.capacity - 1)
+      val tat = buckets.get(s"${rule.route}|$subject", _ => new AtomicLong(System.nanoTime()))
+
+      @tailrec
+      def attempt(): Option[Duration] = {
+        val now = System.nanoTime()
+        val current = tat.get()
+        val start = if (current - now > 0) current else now
+
+        if (start - now > tolerance) {
+          limited.computeIfAbsent(rule.route, _ => new LongAdder()).increment()
+          Some(Duration.ofNanos(start - now - tolerance))
+        }
+        else if (tat.compareAndSet(current, start + interval)) None
+        else attempt()
+      }
+
+      attempt()
+    }
+
+  def snapshot: RateLimitSnapshot =
+    RateLimitSnapshot(
+      keys = buckets.estimatedSize(),
+      limited = limited.asScala.map { case (route, count) => route -> count.sum() }.toMap
+    )
+}
+
+object RateLimiter {
+
+  private val NanosPerSecond = 1e9
+
+  private val IdleTimeout = Duration.ofMinutes(10)
+}
+
+final case class RateLimitSnapshot(
+                                    keys: Long,
+                                    limited: Map[String, Long]
+                                  )
+
+object RateLimitSnapshot {
+
+  implicit val encoder: JsonEncoder[RateLimitSnapshot] = DeriveJsonEncoder.gen[RateLimitSnapshot]
+}
@@ -0,0 +1,52 @@
+package ru.tdd.controller.limits
+
+import ru.tdd.controller.configs.LimitsConfig
+import zio.{Schedule, UIO, ZIO}
+
+import java.io.File
+import java.util.concurrent.atomic.{AtomicBoolean, AtomicReference}
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Текущие ограничения нагрузки. Запросы читают их без блокировок,
+ *        фоновая задача перечитывает внешний файл ограничений (GATEWAY_LIMITS_FILE) и подменяет ссылку целиком.
+ *        Без внешнего файла ограничения из app.conf не меняются до перезапуска
+ */
+final class TrafficLimits(initial: LimitsConfig) {
+
+  private val current = new AtomicReference(initial)
+
+  private val fileMissing = new AtomicBoolean(false)
+
+  def get: LimitsConfig = current.get()
+
+  /** Бесконечное перечитывание файла с интервалом reload-interval, ошибка разбора оставляет прежние ограничения */
+  def reloading: UIO[Unit] =
+    initial.file match {
+      case Some(path) =>
+        reload(path).repeat(Schedule.spaced(zio.Duration.fromJava(initial.reloadInterval))).unit
+
+      case None =>
+        ZIO.logInfo("GATEWAY_LIMITS_FILE is not set, gateway limits from app.conf are not reloaded")
+    }
+
+  /** Пропавший файл не сбрасывает ограничения к app.conf, предупреждение пишется один раз до его появления */
+  private def reload(path: String): UIO[Unit] =
+    ZIO.attempt(new File(path).isFile)
+      .flatMap {
+        case false =>
+          ZIO.logWarning(s"Gateway limits file $path not found, current limits are kept")
+            .when(!fileMissing.getAndSet(true))
+            .unit
+
+        case true =>
+          ZIO.attempt(LimitsConfig.fromFile(path)).flatMap { loaded =>
+            val previous = current.getAndSet(loaded)
+
+            fileMissing.set(false)
+            ZIO.logInfo(s"Gateway limits reloaded: $loaded").when(previous != loaded).unit
+          }
+      }
+      .catchAll(ex => ZIO.logWarning(s"Gateway limits were not reloaded: ${ex.getMessage}"))
+}
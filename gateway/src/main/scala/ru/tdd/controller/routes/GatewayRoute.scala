@@ -1,61 +1,183 @@
 package ru.tdd.controller.routes
 
-import ru.tdd.controller.configs.ServiceProxyConfig
-import zio.ZIO
-import zio.http.{Client, Header, Method, Path, Request, Response, Routes, Scheme, Status, URL, handler, string, trailing}
+import ru.tdd.controller.cache.ResponseCache
+import ru.tdd.controller.limits.{ClientAddress, LimitResponses, RateLimiter, TrafficLimits}
+import ru.tdd.controller.security.{JwtClaims, JwtVerifier, PrincipalSigner}
+import ru.tdd.controller.upstream.{Upstream, UpstreamRegistry}
+import zio.http.{Body, Header, Headers, Method, Path, Request, Response, Routes, Scheme, Status, handler, trailing}
+import zio.{Exit, Scope, UIO, ZIO}
+
+import java.time.Duration
+import java.util.concurrent.TimeoutException
 
 /**
  * @author Tribushko Danil
  * @since 06.11.2025
- *        Маршруты для переадресации запросов к микросервисам
+ *        Маршруты для переадресации запросов к микросервисам.
+ *        Тела запроса и ответа не собираются в памяти, а передаются потоком; соединение пула
+ *        возвращается после того, как тело ответа передано клиенту.
+ *        GET запросы к маршрутам из response-cache обслуживаются через кэш ответов.
+ *        Токен проверяется один раз на шлюзе, сервисам передается подписанный заголовок с пользователем.
+ *        Перед отправкой применяются ограничения: token bucket на маршрут и пользователя (429)
+ *        и предел одновременных запросов к сервису (503), оба ответа с Retry-After.
+ *        Анонимные запросы ограничиваются по адресу клиента, за балансировщиком он берется из X-Forwarded-For (ClientAddress).
+ *        Экземпляр сервиса выбирается балансировщиком, ответы 502 и 504, ошибки соединения и таймауты учитываются для его исключения
  */
 object GatewayRoute {
 
-  def apply(services: Seq[ServiceProxyConfig]): Routes[Client, Nothing] = {
+  /** Заголовки соединения, которые относятся к одному участку пути и не пересылаются дальше */
+  private val HopByHopHeaders = List(
+    Header.Host.name,
+    Header.Connection.name,
+    "keep-alive",
+    "proxy-connection",
+    Header.TransferEncoding.name,
+    "te",
+    "trailer",
+    Header.Upgrade.name
+  )
+
+  private val ForwardedFor = "x-forwarded-for"
+
+  def apply(
+             upstreams: UpstreamRegistry,
+             cache: ResponseCache,
+             jwtVerifier: JwtVerifier,
+             principalSigner: PrincipalSigner,
+             limits: TrafficLimits,
+             rateLimiter: RateLimiter
+           ): Routes[Any, Nothing] = {
 
     Routes(
       Method.ANY / "api" / "v1" / trailing ->
-        handler { (_: Path, req: Request) =>
-
-          val segments = req.url.path.segments
-
-          segments.drop(2).headOption match {
-            case Some(serviceName) =>
-              services.find(_.urlPatterns.contains(serviceName)) match {
-
-                case Some(service) =>
-                  val targetUrl =
-                    req.url
-                      .host(service.targetHost)
-                      .port(service.targetPort)
-                      .scheme(Scheme.HTTP)
-
-                  Client.batched(
-                    Request(
-                      method = req.method,
-                      url = targetUrl,
-                      headers = req.headers.removeHeader(Header.Host.name),
-                      body = req.body
-                    )
-                  ).catchAll { ex =>
-                    ZIO.succeed(
-                      Response.text(s"Gateway error: ${ex.getMessage}")
-                        .status(Status.BadGateway)
-                    )
+        handler { (_: Path, incoming: Request) =>
+          val claims = jwtVerifier.verifyAuthorization(incoming.rawHeader(Header.Authorization.name))
+          val req = withPrincipal(incoming, claims, principalSigner)
+          val currentLimits = limits.get
+          val subject = claims.flatMap(_.id)
+            .orElse(clientAddress(incoming, currentLimits.trustedProxyHops))
+            .getOrElse("anonymous")
+
+          currentLimits.rule(req.url.path.encode).flatMap(rateLimiter.acquire(_, subject)) match {
+            case Some(retryAfter) =>
+              ZIO.succeed(LimitResponses.tooManyRequests(retryAfter))
+
+            case None =>
+              req.url.path.segments.drop(2).headOption match {
+                case Some(serviceName) =>
+                  upstreams.find(serviceName) match {
+
+                    case Some(upstream) =>
+                      val send: Request => UIO[Response] =
+                        forward(upstream, _, currentLimits.inFlightLimit(upstream.config.name), currentLimits.retryAfter)
+
+                      if (cache.cacheable(req, claims)) cache.serve(req, claims, send) else send(req)
+
+                    case None =>
+                      ZIO.succeed(
+                        Response.text(s"Service '$serviceName' not found")
+                          .status(Status.NotFound)
+                      )
                   }
 
-                case None =>
-                  ZIO.succeed(
-                    Response.text(s"Service '$serviceName' not found")
-                      .status(Status.NotFound)
-                  )
+                case _ =>
+                  ZIO.succeed(Response.status(Status.BadRequest))
               }
+          }
+        }
+    )
+
+  }
 
-            case _ =>
-              ZIO.succeed(Response.status(Status.BadRequest))
+  private def forward(upstream: Upstream, req: Request, maxInFlight: Int, retryAfter: Duration): UIO[Response] =
+    ZIO.suspendSucceed {
+      if (!upstream.metrics.tryAcquire(maxInFlight))
+        ZIO.succeed(LimitResponses.overloaded(upstream.config.name, retryAfter))
+      else {
+        val instance = upstream.choose()
+        val request = Request(
+          method = req.method,
+          url = req.url
+            .host(instance.config.host)
+            .port(instance.config.port)
+            .scheme(Scheme.HTTP),
+          headers = withoutHopByHop(req.headers),
+          body = req.body
+        )
+        val started = java.lang.System.nanoTime()
+
+        instance.begin()
+
+        Scope.make.flatMap { scope =>
+          val release = scope.close(Exit.unit) *> ZIO.succeed {
+            upstream.metrics.release()
+            instance.end()
           }
+
+          scope.extend[Any](upstream.client.request(request))
+            .timeoutFail(new TimeoutException(s"No response from ${instance.config.address}"))(
+              zio.Duration.fromJava(upstream.config.outlier.responseTimeout)
+            )
+            .onInterrupt(release)
+            .foldZIO(
+              ex =>
+                release *> ZIO.succeed {
+                  upstream.metrics.failure()
+                  upstream.failed(instance, java.lang.System.nanoTime() - started)
+                  Response.text(s"Gateway error: ${ex.getMessage}").status(
+                    ex match {
+                      case _: TimeoutException => Status.GatewayTimeout
+                      case _ => Status.BadGateway
+                    }
+                  )
+                },
+              response =>
+                ZIO.succeed(upstream.complete(instance, response, java.lang.System.nanoTime() - started)) *>
+                  streamed(req.method, response, release)
+            )
         }
+      }
+    }
+
+  /**
+   * Ответ сервиса с телом-потоком. Соединение освобождается по окончании потока, в том числе при обрыве
+   */
+  private def streamed(method: Method, response: Response, release: UIO[Unit]): UIO[Response] = {
+    val headers = withoutHopByHop(response.headers)
+
+    if (method == Method.HEAD || response.status == Status.NoContent || response.status == Status.NotModified)
+      release.as(response.copy(headers = headers, body = Body.empty))
+    else {
+      val stream = response.body.asStream.ensuring(release)
+
+      ZIO.succeed(
+        response.copy(
+          headers = headers,
+          body = response.header(Header.ContentLength) match {
+            case Some(Header.ContentLength(length)) => Body.fromStream(stream, length)
+            case None => Body.fromStreamChunked(stream)
+          }
+        )
+      )
+    }
+  }
+
+  private def clientAddress(req: Request, trustedProxyHops: Int): Option[String] =
+    ClientAddress.resolve(
+      req.headers.toList.filter(_.headerName.equalsIgnoreCase(ForwardedFor)).map(_.renderedValue),
+      req.remoteAddress.map(_.getHostAddress),
+      trustedProxyHops
     )
 
+  /** Заголовок пользователя от клиента отбрасывается всегда, выставить его может только шлюз */
+  private def withPrincipal(req: Request, claims: Option[JwtClaims], principalSigner: PrincipalSigner): Request = {
+    val headers = req.headers.removeHeader(PrincipalSigner.Header)
+
+    req.copy(
+      headers = claims.flatMap(principalSigner.sign).fold(headers)(headers.addHeader(PrincipalSigner.Header, _))
+    )
   }
+
+  private def withoutHopByHop(headers: Headers): Headers =
+    HopByHopHeaders.foldLeft(headers)(_.removeHeader(_))
 }
@@ -0,0 +1,33 @@
+package ru.tdd.controller.routes
+
+import ru.tdd.controller.cache.{CacheSnapshot, ResponseCache}
+import ru.tdd.controller.limits.{RateLimitSnapshot, RateLimiter}
+import ru.tdd.controller.upstream.{UpstreamRegistry, UpstreamSnapshot}
+import zio.ZIO
+import zio.http.{Method, Response, Routes, handler}
+import zio.json.{DeriveJsonEncoder, EncoderOps, JsonEncoder}
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Метрики шлюза: заполненность пулов соединений к сервисам, попадания в кэш ответов и отказы ограничителя
+ */
+object MetricsRoute {
+
+  def apply(upstreams: UpstreamRegistry, cache: ResponseCache, rateLimiter: RateLimiter): Routes[Any, Nothing] =
+    Routes(
+      Method.GET / "gateway" / "metrics" ->
+        handler(ZIO.succeed(Response.json(GatewayMetrics(upstreams.snapshot, cache.snapshot, rateLimiter.snapshot).toJson)))
+    )
+}
+
+final case class GatewayMetrics(
+                                 upstreams: Seq[UpstreamSnapshot],
+                                 cache: CacheSnapshot,
+                                 rateLimits: RateLimitSnapshot
+                               )
+
+object GatewayMetrics {
+
+  implicit val encoder: JsonEncoder[GatewayMetrics] = DeriveJsonEncoder.gen[GatewayMetrics]
+}
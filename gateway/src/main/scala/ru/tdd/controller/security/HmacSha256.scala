@@ -0,0 +1,28 @@
+package ru.tdd.controller.security
+
+import java.util.Base64
+import javax.crypto.Mac
+import javax.crypto.spec.SecretKeySpec
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Подпись HMAC-SHA256 ключом, заданным в base64. Mac не потокобезопасен, поэтому у каждого потока свой экземпляр
+ */
+final class HmacSha256(secret: String) {
+
+  private val key = new SecretKeySpec(Base64.getDecoder.decode(secret), HmacSha256.Algorithm)
+
+  private val macs = ThreadLocal.withInitial[Mac] { () =>
+    val mac = Mac.getInstance(HmacSha256.Algorithm)
+    mac.init(key)
+    mac
+  }
+
+  def sign(data: Array[Byte]): Array[Byte] = macs.get().doFinal(data)
+}
+
+object HmacSha256 {
+
+  private val Algorithm = "HmacSHA256"
+}
@@ -0,0 +1,82 @@
+package ru.tdd.controller.security
+
+import zio.json.{DecoderOps, DeriveJsonDecoder, JsonDecoder}
+
+import java.nio.charset.StandardCharsets
+import java.security.MessageDigest
+import java.util.Base64
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Проверка access токенов на шлюзе: подпись HS256 тем же секретом, что и в сервисах, и срок действия.
+ *        Токен с неверной подписью или истекший считается отсутствующим
+ */
+final class JwtVerifier(secret: String) {
+
+  private val hmac = new HmacSha256(secret)
+
+  def verify(token: String): Option[JwtClaims] =
+    token.split('.') match {
+      case Array(header, payload, signature) =>
+        for {
+          jwtHeader <- decode[JwtHeader](header) if jwtHeader.alg == "HS256"
+          expected = hmac.sign(s"$header.$payload".getBytes(StandardCharsets.US_ASCII))
+          actual <- base64Url(signature) if MessageDigest.isEqual(expected, actual)
+          claims <- decode[JwtClaims](payload) if claims.isActive(System.currentTimeMillis())
+        } yield claims
+
+      case _ => None
+    }
+
+  /** Проверка значения заголовка Authorization вида "Bearer <token>" */
+  def verifyAuthorization(authorization: Option[String]): Option[JwtClaims] =
+    authorization
+      .filter(_.regionMatches(true, 0, JwtVerifier.BearerPrefix, 0, JwtVerifier.BearerPrefix.length))
+      .flatMap(value => verify(value.substring(JwtVerifier.BearerPrefix.length).trim))
+
+  private def decode[A: JsonDecoder](part: String): Option[A] =
+    base64Url(part).flatMap(bytes => new String(bytes, StandardCharsets.UTF_8).fromJson[A].toOption)
+
+  private def base64Url(part: String): Option[Array[Byte]] =
+    try Some(Base64.getUrlDecoder.decode(part))
+    catch {
+      case _: IllegalArgumentException => None
+    }
+}
+
+object JwtVerifier {
+
+  private val BearerPrefix = "Bearer "
+}
+
+private final case class JwtHeader(alg: String)
+
+private object JwtHeader {
+
+  implicit val decoder: JsonDecoder[JwtHeader] = DeriveJsonDecoder.gen[JwtHeader]
+}
+
+/**
+ * Утверждения access токена, которые выпускает сервис пользователей
+ */
+final case class JwtClaims(
+                            sub: Option[String],
+                            id: Option[String],
+                            chatId: Option[Long],
+                            roles: Option[List[String]],
+                            system: Option[Boolean],
+                            iat: Option[Long],
+                            exp: Option[Long]
+                          ) {
+
+  def isActive(now: Long): Boolean = exp.forall(_ * 1000 > now)
+
+  /** Класс доступа для разделяемых между пользователями данных: отсортированный набор ролей */
+  def roleClass: String = roles.getOrElse(Nil).sorted.mkString(",")
+}
+
+object JwtClaims {
+
+  implicit val decoder: JsonDecoder[JwtClaims] = DeriveJsonDecoder.gen[JwtClaims]
+}
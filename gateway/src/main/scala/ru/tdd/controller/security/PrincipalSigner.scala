@@ -0,0 +1,44 @@
+package ru.tdd.controller.security
+
+import java.nio.charset.StandardCharsets
+import java.util.Base64
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Внутренний заголовок с пользователем, проверенным на шлюзе.
+ *        Значение - base64url(id|chatId|roles|iat|exp|username) и base64url(HMAC-SHA256) этой строки через точку,
+ *        сервисы сверяют короткую подпись вместо повторного разбора токена
+ */
+final class PrincipalSigner(secret: String) {
+
+  private val hmac = new HmacSha256(secret)
+
+  private val encoder = Base64.getUrlEncoder.withoutPadding()
+
+  /** Заголовок выпускается только для токена с идентификатором, логином и сроком действия */
+  def sign(claims: JwtClaims): Option[String] =
+    for {
+      id <- claims.id
+      username <- claims.sub
+      exp <- claims.exp
+    } yield {
+      val principal = List(
+        id,
+        claims.chatId.fold("")(_.toString),
+        claims.roles.getOrElse(Nil).mkString(","),
+        claims.iat.fold("")(_.toString),
+        exp.toString,
+        username
+      ).mkString("|")
+      val payload = encoder.encodeToString(principal.getBytes(StandardCharsets.UTF_8))
+      val signature = encoder.encodeToString(hmac.sign(payload.getBytes(StandardCharsets.US_ASCII)))
+
+      s"$payload.$signature"
+    }
+}
+
+object PrincipalSigner {
+
+  val Header = "x-gateway-principal"
+}
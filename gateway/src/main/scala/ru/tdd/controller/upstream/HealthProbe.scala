@@ -0,0 +1,30 @@
+package ru.tdd.controller.upstream
+
+import ru.tdd.controller.configs.HealthCheckConfig
+import zio.http.{Client, Request, URL}
+import zio.{Schedule, UIO, ZIO}
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Активная проверка экземпляра: GET на path с таймаутом, успешен только ответ 2xx
+ */
+object HealthProbe {
+
+  def run(client: Client, instance: UpstreamInstance, config: HealthCheckConfig): UIO[Unit] =
+    probe(client, instance, config)
+      .repeat(Schedule.spaced(zio.Duration.fromJava(config.interval)))
+      .unit
+
+  private def probe(client: Client, instance: UpstreamInstance, config: HealthCheckConfig): UIO[Unit] =
+    ZIO.fromEither(URL.decode(s"http://${instance.config.address}${config.path}"))
+      .flatMap { url =>
+        ZIO.scoped(
+          client.request(Request.get(url)).flatMap(response => response.body.asChunk.as(response.status.isSuccess))
+        )
+      }
+      .timeout(zio.Duration.fromJava(config.timeout))
+      .map(_.getOrElse(false))
+      .catchAll(_ => ZIO.succeed(false))
+      .flatMap(ok => ZIO.succeed(instance.probed(ok)))
+}
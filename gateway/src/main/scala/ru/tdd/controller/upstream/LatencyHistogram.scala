@@ -0,0 +1,75 @@
+package ru.tdd.controller.upstream
+
+import zio.json.{DeriveJsonEncoder, JsonEncoder}
+
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Накопительная гистограмма времени до заголовков ответа с фиксированными границами в миллисекундах.
+ *        Запись - одно приращение LongAdder, перцентили оцениваются верхней границей корзины
+ */
+final class LatencyHistogram {
+
+  private val counts = Array.fill(LatencyHistogram.BoundsMillis.length + 1)(new LongAdder())
+
+  private val totalNanos = new LongAdder()
+
+  def record(nanos: Long): Unit = {
+    val millis = TimeUnit.NANOSECONDS.toMillis(nanos)
+    val index = LatencyHistogram.BoundsMillis.indexWhere(millis <= _) match {
+      case -1 => LatencyHistogram.BoundsMillis.length
+      case bucket => bucket
+    }
+
+    counts(index).increment()
+    totalNanos.add(nanos)
+  }
+
+  def snapshot: LatencySnapshot = {
+    val values = counts.map(_.sum())
+    val count = values.sum
+    val cumulative = values.scanLeft(0L)(_ + _).tail
+    val labels = LatencyHistogram.BoundsMillis.map(_.toString) :+ "+Inf"
+
+    def percentile(quantile: Double): String =
+      if (count == 0) "0"
+      else labels(cumulative.indexWhere(_ >= math.ceil(quantile * count).toLong))
+
+    LatencySnapshot(
+      count = count,
+      meanMs = if (count == 0) 0.0 else totalNanos.sum().toDouble / count / 1e6,
+      p50Ms = percentile(0.5),
+      p99Ms = percentile(0.99),
+      buckets = labels.zip(cumulative).map { case (le, bucketCount) => LatencyBucket(le, bucketCount) }.toList
+    )
+  }
+}
+
+object LatencyHistogram {
+
+  private val BoundsMillis = Array[Long](1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000)
+}
+
+/** Количество ответов не дольше le миллисекунд */
+final case class LatencyBucket(le: String, count: Long)
+
+object LatencyBucket {
+
+  implicit val encoder: JsonEncoder[LatencyBucket] = DeriveJsonEncoder.gen[LatencyBucket]
+}
+
+final case class LatencySnapshot(
+                                  count: Long,
+                                  meanMs: Double,
+                                  p50Ms: String,
+                                  p99Ms: String,
+                                  buckets: List[LatencyBucket]
+                                )
+
+object LatencySnapshot {
+
+  implicit val encoder: JsonEncoder[LatencySnapshot] = DeriveJsonEncoder.gen[LatencySnapshot]
+}
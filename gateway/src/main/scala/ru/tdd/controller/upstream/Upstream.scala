@@ -0,0 +1,85 @@
+package ru.tdd.controller.upstream
+
+import ru.tdd.controller.configs.ServiceProxyConfig
+import zio.http.netty.NettyConfig
+import zio.http.{Client, DnsResolver, Response, Status, ZClient}
+import zio.{Scope, ZIO, ZLayer}
+
+import java.util.concurrent.ThreadLocalRandom
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Сервис за шлюзом: собственный клиент с фиксированным пулом keep-alive соединений к каждому экземпляру,
+ *        поэтому всплеск запросов к одному сервису не занимает соединения остальных.
+ *        Экземпляр для запроса выбирается по схеме power of two choices: из двух случайных доступных
+ *        берется тот, у которого меньше запросов в работе
+ */
+final case class Upstream(
+                           config: ServiceProxyConfig,
+                           client: Client,
+                           metrics: UpstreamMetrics,
+                           instances: Vector[UpstreamInstance]
+                         ) {
+
+  /** Если все экземпляры исключены или не прошли проверку, запрос получает любой из них */
+  def choose(): UpstreamInstance = {
+    val now = System.nanoTime()
+    val available = instances.filter(_.isAvailable(now))
+    val candidates = if (available.isEmpty) instances else available
+
+    if (candidates.length == 1) candidates.head
+    else {
+      val random = ThreadLocalRandom.current()
+      val first = random.nextInt(candidates.length)
+      val second = (first + 1 + random.nextInt(candidates.length - 1)) % candidates.length
+
+      if (candidates(second).outstandingRequests < candidates(first).outstandingRequests) candidates(second)
+      else candidates(first)
+    }
+  }
+
+  /**
+   * Учет ответа экземпляра. Ошибкой для пассивного исключения считаются только 502 и 504:
+   * 503 и ответы с Retry-After - осознанный отказ перегруженного сервиса, а не признак сбоя экземпляра,
+   * поэтому они не сбрасывают и не увеличивают счетчик ошибок подряд
+   */
+  def complete(instance: UpstreamInstance, response: Response, nanos: Long): Unit =
+    response.status match {
+      case Status.BadGateway | Status.GatewayTimeout => failed(instance, nanos)
+      case Status.ServiceUnavailable => instance.rejected(nanos)
+      case _ if response.rawHeader("Retry-After").isDefined => instance.rejected(nanos)
+      case _ => instance.success(nanos)
+    }
+
+  /** Экземпляр исключается, только если после этого у сервиса останется хотя бы один доступный */
+  def failed(instance: UpstreamInstance, nanos: Long): Unit =
+    instance.failure(nanos, {
+      val now = System.nanoTime()
+      instances.exists(other => (other ne instance) && other.isAvailable(now))
+    })
+}
+
+object Upstream {
+
+  /** Клиент и активные проверки живут, пока открыт scope, при закрытии соединения пула закрываются */
+  def make(config: ServiceProxyConfig): ZIO[Scope, Throwable, Upstream] = {
+    val clientConfig = ZClient.Config.default
+      .fixedConnectionPool(config.pool.size)
+      .idleTimeout(config.pool.idleTimeout)
+      .connectionTimeout(config.pool.connectTimeout)
+
+    val clientLayer =
+      (ZLayer.succeed(clientConfig) ++ ZLayer.succeed(NettyConfig.defaultWithFastShutdown) ++ DnsResolver.default) >>>
+        Client.live
+
+    val instances = config.instances.map(new UpstreamInstance(_, config.outlier, config.healthCheck)).toVector
+
+    for {
+      env <- clientLayer.build
+      client = env.get[Client]
+      _ <- ZIO.foreachDiscard(instances)(HealthProbe.run(client, _, config.healthCheck).forkScoped)
+        .when(config.healthCheck.enabled)
+    } yield Upstream(config, client, new UpstreamMetrics(config.pool.size * instances.size), instances)
+  }
+}
@@ -0,0 +1,141 @@
+package ru.tdd.controller.upstream
+
+import ru.tdd.controller.configs.{HealthCheckConfig, InstanceConfig, OutlierConfig}
+import zio.json.{DeriveJsonEncoder, JsonEncoder}
+
+import java.util.concurrent.atomic.{AtomicInteger, AtomicLong, LongAdder}
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Экземпляр сервиса: число запросов в работе для балансировки, пассивное исключение
+ *        по ошибкам подряд, результат активных проверок и гистограмма задержек
+ */
+final class UpstreamInstance(
+                              val config: InstanceConfig,
+                              outlier: OutlierConfig,
+                              healthCheck: HealthCheckConfig
+                            ) {
+
+  private val outstanding = new AtomicInteger()
+
+  private val consecutiveFailures = new AtomicInteger()
+
+  /** Исключения подряд без успешного ответа между ними, от них зависит длительность следующего */
+  private val ejectionStreak = new AtomicInteger()
+
+  private val ejectedUntil = new AtomicLong(UpstreamInstance.NotEjected)
+
+  private val requests = new LongAdder()
+
+  private val failures = new LongAdder()
+
+  private val ejections = new LongAdder()
+
+  /** Меняется только фибером активной проверки этого экземпляра */
+  @volatile private var healthy = true
+
+  @volatile private var probeStreak = 0
+
+  val latency = new LatencyHistogram
+
+  def outstandingRequests: Int = outstanding.get()
+
+  def isAvailable(now: Long): Boolean = healthy && !isEjected(now)
+
+  def begin(): Unit = {
+    outstanding.incrementAndGet()
+    requests.increment()
+  }
+
+  def end(): Unit = outstanding.decrementAndGet()
+
+  def success(nanos: Long): Unit = {
+    latency.record(nanos)
+    consecutiveFailures.set(0)
+    ejectionStreak.set(0)
+  }
+
+  /** Отказ из-за перегрузки (503 или Retry-After): учитывается только задержка */
+  def rejected(nanos: Long): Unit = latency.record(nanos)
+
+  /**
+   * Ответ 502 или 504, ошибка соединения или таймаут
+   *
+   * @param canEject можно ли исключить экземпляр, не оставив сервис без доступных экземпляров
+   */
+  def failure(nanos: Long, canEject: => Boolean): Unit = {
+    latency.record(nanos)
+    failures.increment()
+
+    if (consecutiveFailures.incrementAndGet() >= outlier.consecutiveFailures && canEject)
+      eject(System.nanoTime())
+  }
+
+  /** Результат активной проверки: смена состояния только после нескольких одинаковых результатов подряд */
+  def probed(ok: Boolean): Unit =
+    if (ok == healthy) probeStreak = 0
+    else {
+      probeStreak += 1
+
+      if (probeStreak >= (if (ok) healthCheck.healthyThreshold else healthCheck.unhealthyThreshold)) {
+        healthy = ok
+        probeStreak = 0
+
+        if (ok) consecutiveFailures.set(0)
+      }
+    }
+
+  def snapshot: InstanceSnapshot = {
+    val now = System.nanoTime()
+
+    InstanceSnapshot(
+      address = config.address,
+      healthy = healthy,
+      ejected = isEjected(now),
+      outstanding = outstanding.get(),
+      requests = requests.sum(),
+      failures = failures.sum(),
+      ejections = ejections.sum(),
+      latency = latency.snapshot
+    )
+  }
+
+  private def isEjected(now: Long): Boolean = {
+    val until = ejectedUntil.get()
+
+    until != UpstreamInstance.NotEjected && until - now > 0
+  }
+
+  private def eject(now: Long): Unit = {
+    val streak = math.min(ejectionStreak.incrementAndGet(), UpstreamInstance.MaxBackoffShift)
+    val duration = math.min(outlier.baseEjectionTime.toNanos << (streak - 1), outlier.maxEjectionTime.toNanos)
+
+    ejectedUntil.set(now + duration)
+    consecutiveFailures.set(0)
+    ejections.increment()
+  }
+}
+
+object UpstreamInstance {
+
+  private val NotEjected = Long.MinValue
+
+  private val MaxBackoffShift = 16
+}
+
+final case class InstanceSnapshot(
+                                   address: String,
+                                   healthy: Boolean,
+                                   ejected: Boolean,
+                                   outstanding: Int,
+                                   requests: Long,
+                                   failures: Long,
+                                   ejections: Long,
+                                   latency: LatencySnapshot
+                                 )
+
+object InstanceSnapshot {
+
+  implicit val encoder: JsonEncoder[InstanceSnapshot] = DeriveJsonEncoder.gen[InstanceSnapshot]
+}
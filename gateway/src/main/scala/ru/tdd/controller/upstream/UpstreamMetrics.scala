@@ -0,0 +1,89 @@
+package ru.tdd.controller.upstream
+
+import zio.json.{DeriveJsonEncoder, JsonEncoder}
+
+import java.util.concurrent.atomic.{AtomicInteger, LongAdder}
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Метрики пулов соединений сервиса, poolSize - суммарный размер пулов всех экземпляров.
+ *        Запрос занимает соединение от отправки до конца тела ответа,
+ *        поэтому число запросов в работе сверх размера пула - это запросы, ждущие свободного соединения.
+ *        Сверх max-in-flight запросы не принимаются вовсе и учитываются как сброшенные
+ */
+final class UpstreamMetrics(poolSize: Int) {
+
+  private val inFlight = new AtomicInteger()
+
+  private val peakInFlight = new AtomicInteger()
+
+  private val requests = new LongAdder()
+
+  private val queued = new LongAdder()
+
+  private val failures = new LongAdder()
+
+  private val shed = new LongAdder()
+
+  /** Занять место среди запросов в работе, если их меньше limit */
+  def tryAcquire(limit: Int): Boolean = {
+    val current = inFlight.incrementAndGet()
+
+    if (current > limit) {
+      inFlight.decrementAndGet()
+      shed.increment()
+      false
+    } else {
+      requests.increment()
+      peakInFlight.accumulateAndGet(current, (peak, value) => math.max(peak, value))
+
+      if (current > poolSize)
+        queued.increment()
+
+      true
+    }
+  }
+
+  def release(): Unit = inFlight.decrementAndGet()
+
+  def failure(): Unit = failures.increment()
+
+  /** Снимок метрик, пиковое значение сбрасывается при каждом снимке */
+  def snapshot(service: String, instances: Seq[InstanceSnapshot]): UpstreamSnapshot = {
+    val current = inFlight.get()
+
+    UpstreamSnapshot(
+      service = service,
+      poolSize = poolSize,
+      inFlight = current,
+      waiting = math.max(current - poolSize, 0),
+      saturation = current.toDouble / poolSize,
+      peakInFlight = peakInFlight.getAndSet(current),
+      requests = requests.sum(),
+      queued = queued.sum(),
+      failures = failures.sum(),
+      shed = shed.sum(),
+      instances = instances
+    )
+  }
+}
+
+final case class UpstreamSnapshot(
+                                   service: String,
+                                   poolSize: Int,
+                                   inFlight: Int,
+                                   waiting: Int,
+                                   saturation: Double,
+                                   peakInFlight: Int,
+                                   requests: Long,
+                                   queued: Long,
+                                   failures: Long,
+                                   shed: Long,
+                                   instances: Seq[InstanceSnapshot]
+                                 )
+
+object UpstreamSnapshot {
+
+  implicit val encoder: JsonEncoder[UpstreamSnapshot] = DeriveJsonEncoder.gen[UpstreamSnapshot]
+}
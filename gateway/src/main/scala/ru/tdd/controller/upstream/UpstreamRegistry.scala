@@ -0,0 +1,40 @@
+package ru.tdd.controller.upstream
+
+import ru.tdd.controller.configs.ServiceProxyConfig
+import zio.{Scope, ZIO}
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Сервисы за шлюзом с поиском по первому сегменту пути после /api/v1.
+ *        Таблица префиксов строится один раз при старте, поиск - одно обращение к хэш-таблице
+ */
+final class UpstreamRegistry private(
+                                      byPrefix: Map[String, Upstream],
+                                      val all: Seq[Upstream]
+                                    ) {
+
+  def find(prefix: String): Option[Upstream] = byPrefix.get(prefix)
+
+  def snapshot: Seq[UpstreamSnapshot] =
+    all.map(upstream => upstream.metrics.snapshot(upstream.config.name, upstream.instances.map(_.snapshot)))
+}
+
+object UpstreamRegistry {
+
+  def make(services: Seq[ServiceProxyConfig]): ZIO[Scope, Throwable, UpstreamRegistry] = {
+    val duplicates = services.flatMap(_.urlPatterns).groupBy(identity).collect {
+      case (prefix, occurrences) if occurrences.size > 1 => prefix
+    }
+
+    if (duplicates.nonEmpty)
+      ZIO.fail(new IllegalArgumentException(s"Url patterns are used by several services: ${duplicates.mkString(", ")}"))
+    else
+      ZIO.foreach(services)(Upstream.make).map { upstreams =>
+        new UpstreamRegistry(
+          upstreams.flatMap(upstream => upstream.config.urlPatterns.map(_ -> upstream)).toMap,
+          upstreams
+        )
+      }
+  }
+}
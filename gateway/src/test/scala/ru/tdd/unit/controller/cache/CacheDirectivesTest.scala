@@ -0,0 +1,35 @@
+package ru.tdd.unit.controller.cache
+
+import org.scalatest.funsuite.AnyFunSuite
+import ru.tdd.controller.cache.CacheDirectives
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Набор тестов разбора Cache-Control
+ */
+class CacheDirectivesTest extends AnyFunSuite {
+
+  test("Без заголовка директив нет") {
+    assert(CacheDirectives.parse(None) == CacheDirectives.Empty)
+  }
+
+  test("Директивы разбираются без учета регистра и пробелов") {
+    val directives = CacheDirectives.parse(Some(" Private , NO-CACHE,no-store , max-age=30"))
+
+    assert(directives.isPrivate)
+    assert(directives.noCache)
+    assert(directives.noStore)
+    assert(directives.maxAgeSeconds.contains(30L))
+  }
+
+  test("s-maxage имеет приоритет над max-age") {
+    assert(CacheDirectives.parse(Some("max-age=30, s-maxage=300")).maxAgeSeconds.contains(300L))
+    assert(CacheDirectives.parse(Some("public, max-age=\"45\"")).maxAgeSeconds.contains(45L))
+  }
+
+  test("Некорректный или отрицательный max-age") {
+    assert(CacheDirectives.parse(Some("max-age=soon")).maxAgeSeconds.isEmpty)
+    assert(CacheDirectives.parse(Some("max-age=-5")).maxAgeSeconds.contains(0L))
+  }
+}
@@ -0,0 +1,140 @@
+package ru.tdd.unit.controller.cache
+
+import org.scalatest.funsuite.AnyFunSuite
+import ru.tdd.controller.cache.ResponseCache
+import ru.tdd.controller.configs.ResponseCacheConfig
+import ru.tdd.controller.security.JwtClaims
+import zio.http.{Body, Header, Headers, Request, Response, Status, URL}
+import zio.{Runtime, Unsafe, ZIO}
+
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Набор тестов кэша ответов шлюза
+ */
+class ResponseCacheTest extends AnyFunSuite {
+
+  private val Route = "/api/v1/geo/countries"
+
+  private val Json = """[{"id":1,"name":"Russia"}]"""
+
+  private val config = ResponseCacheConfig(
+    enabled = true,
+    maxBytes = 1024 * 1024,
+    maxEntryBytes = 64,
+    defaultTtl = Duration.ZERO,
+    maxStale = Duration.ofMinutes(10),
+    routes = List(Route)
+  )
+
+  private def run[A](effect: ZIO[Any, Throwable, A]): A =
+    Unsafe.unsafe { implicit unsafe =>
+      Runtime.default.unsafe.run(effect).getOrThrowFiberFailure()
+    }
+
+  private def request(headers: (String, String)*): Request =
+    headers.foldLeft(Request.get(URL.decode(s"$Route?page=0").toOption.get)) {
+      case (req, (name, value)) => req.addHeader(name, value)
+    }
+
+  private def response(body: String, headers: (String, String)*): Response =
+    Response(
+      Status.Ok,
+      headers.foldLeft(Headers(Header.ContentType.name, "application/json")) {
+        case (all, (name, value)) => all.addHeader(name, value)
+      },
+      Body.fromString(body)
+    )
+
+  /** Запрос через кэш с чтением тела до конца, как это делает сервер */
+  private def serve(cache: ResponseCache, req: Request, upstream: => Response, calls: AtomicInteger): (Response, String) =
+    run(
+      cache.serve(req, None, _ => ZIO.succeed { calls.incrementAndGet(); upstream })
+        .flatMap(res => res.body.asString.map(res -> _))
+    )
+
+  test("Ответ с ETag и max-age сохраняется и отдается из кэша") {
+    val cache = new ResponseCache(config)
+    val calls = new AtomicInteger()
+    val upstream = response(Json, Header.ETag.name -> "\"v1\"", Header.CacheControl.name -> "max-age=60")
+
+    val (first, firstBody) = serve(cache, request(), upstream, calls)
+    val (second, secondBody) = serve(cache, request(), upstream, calls)
+
+    assert(first.rawHeader("x-cache").contains("MISS"))
+    assert(second.rawHeader("x-cache").contains("HIT"))
+    assert(firstBody == Json)
+    assert(secondBody == Json)
+    assert(calls.get() == 1)
+    assert(cache.snapshot.stores == 1)
+  }
+
+  test("Ответ без ETag, который сразу устаревает, не сохраняется") {
+    val cache = new ResponseCache(config)
+    val calls = new AtomicInteger()
+
+    serve(cache, request(), response(Json), calls)
+    val (second, _) = serve(cache, request(), response(Json), calls)
+
+    assert(second.rawHeader("x-cache").contains("MISS"))
+    assert(calls.get() == 2)
+    assert(cache.snapshot.stores == 0)
+  }
+
+  test("Ответ с Cache-Control: private не сохраняется") {
+    val cache = new ResponseCache(config)
+    val calls = new AtomicInteger()
+    val upstream = response(Json, Header.ETag.name -> "\"v1\"", Header.CacheControl.name -> "private, max-age=60")
+
+    serve(cache, request(), upstream, calls)
+    serve(cache, request(), upstream, calls)
+
+    assert(calls.get() == 2)
+    assert(cache.snapshot.stores == 0)
+  }
+
+  test("Тело больше max-entry-bytes передается клиенту целиком, но не сохраняется") {
+    val cache = new ResponseCache(config)
+    val calls = new AtomicInteger()
+    val large = "[" + List.fill(20)(Json.drop(1).dropRight(1)).mkString(",") + "]"
+    val upstream = response(large, Header.ETag.name -> "\"v1\"", Header.CacheControl.name -> "max-age=60")
+
+    val (first, firstBody) = serve(cache, request(), upstream, calls)
+    serve(cache, request(), upstream, calls)
+
+    assert(large.length > config.maxEntryBytes)
+    assert(first.status == Status.Ok)
+    assert(firstBody == large)
+    assert(calls.get() == 2)
+    assert(cache.snapshot.stores == 0)
+  }
+
+  test("Совпадающий If-None-Match получает 304, а ответ сохраняется") {
+    val cache = new ResponseCache(config)
+    val calls = new AtomicInteger()
+    val upstream = response(Json, Header.ETag.name -> "\"v1\"", Header.CacheControl.name -> "max-age=60")
+
+    val (notModified, emptyBody) = serve(cache, request(Header.IfNoneMatch.name -> "W/\"v1\""), upstream, calls)
+    val (hit, body) = serve(cache, request(), upstream, calls)
+
+    assert(notModified.status == Status.NotModified)
+    assert(emptyBody.isEmpty)
+    assert(hit.rawHeader("x-cache").contains("HIT"))
+    assert(body == Json)
+    assert(calls.get() == 1)
+  }
+
+  test("Запрос с неподтвержденным Authorization идет мимо кэша") {
+    val cache = new ResponseCache(config)
+    val claims = JwtClaims(Some("user"), Some("id"), None, Some(List("USER")), None, None, None)
+    val authorized = request(Header.Authorization.name -> "Bearer expired.token.value")
+
+    assert(cache.cacheable(request(), None))
+    assert(cache.cacheable(authorized, Some(claims)))
+    assert(!cache.cacheable(authorized, None))
+    assert(!cache.cacheable(request(Header.CacheControl.name -> "no-store"), None))
+  }
+}
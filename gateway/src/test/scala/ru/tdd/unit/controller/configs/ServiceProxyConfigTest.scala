@@ -0,0 +1,65 @@
+package ru.tdd.unit.controller.configs
+
+import com.typesafe.config.ConfigFactory
+import org.scalatest.funsuite.AnyFunSuite
+import ru.tdd.controller.configs.{InstanceConfig, PoolConfig, ServiceProxyConfig}
+
+import java.time.Duration
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Набор тестов разбора настроек сервиса за шлюзом
+ */
+class ServiceProxyConfigTest extends AnyFunSuite {
+
+  test("Пул соединений берется из настроек сервиса") {
+    val config = ServiceProxyConfig(
+      ConfigFactory.parseString(
+        """
+          |name = "geo"
+          |target-host = "geo-host"
+          |target-port = 8002
+          |url-patterns = ["geo"]
+          |pool { size = 16, idle-timeout = 30s, connect-timeout = 1s }
+          |""".stripMargin
+      )
+    )
+
+    assert(config.name == "geo")
+    assert(config.instances == List(InstanceConfig("geo-host", 8002)))
+    assert(config.pool == PoolConfig(16, Duration.ofSeconds(30), Duration.ofSeconds(1)))
+  }
+
+  test("Без настроек пула и имени используются значения по умолчанию") {
+    val config = ServiceProxyConfig(
+      ConfigFactory.parseString(
+        """
+          |target-host = "localhost"
+          |target-port = 8003
+          |url-patterns = ["authors", "countries"]
+          |""".stripMargin
+      )
+    )
+
+    assert(config.name == "authors")
+    assert(config.pool == PoolConfig.Default)
+  }
+
+  test("Экземпляры задаются списком или строкой через запятую") {
+    def parse(instances: String): List[InstanceConfig] =
+      ServiceProxyConfig(
+        ConfigFactory.parseString(s"""url-patterns = ["geo"], target-host = "localhost", target-port = 8002, $instances""")
+      ).instances
+
+    val expected = List(InstanceConfig("geo-1", 8002), InstanceConfig("geo-2", 8012))
+
+    assert(parse("""instances = ["geo-1:8002", "geo-2:8012"]""") == expected)
+    assert(parse("""instances = "geo-1:8002, geo-2:8012"""") == expected)
+    assert(parse("""instances = "" """) == List(InstanceConfig("localhost", 8002)))
+  }
+
+  test("Адрес экземпляра без порта отклоняется") {
+    assertThrows[IllegalArgumentException](InstanceConfig("geo-1"))
+  }
+}
@@ -0,0 +1,37 @@
+package ru.tdd.unit.controller.limits
+
+import org.scalatest.funsuite.AnyFunSuite
+import ru.tdd.controller.limits.ClientAddress
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Набор тестов определения адреса клиента для ограничения анонимных запросов
+ */
+class ClientAddressTest extends AnyFunSuite {
+
+  private val Remote = Some("10.0.0.5")
+
+  test("Без доверенных прокси X-Forwarded-For не учитывается") {
+    assert(ClientAddress.resolve(List("203.0.113.7"), Remote, 0) == Remote)
+  }
+
+  test("За одним прокси адрес клиента - последняя запись") {
+    assert(ClientAddress.resolve(List("1.1.1.1, 203.0.113.7"), Remote, 1).contains("203.0.113.7"))
+  }
+
+  test("Записи, присланные клиентом, не подменяют адрес") {
+    val forwardedFor = List("1.1.1.1", "2.2.2.2, 203.0.113.7", "192.168.0.10")
+
+    assert(ClientAddress.resolve(forwardedFor, Remote, 2).contains("203.0.113.7"))
+  }
+
+  test("Без заголовка используется адрес соединения") {
+    assert(ClientAddress.resolve(Nil, Remote, 1) == Remote)
+    assert(ClientAddress.resolve(List(" , "), Remote, 1) == Remote)
+  }
+
+  test("Записей меньше, чем прокси: берется самая левая") {
+    assert(ClientAddress.resolve(List("203.0.113.7"), Remote, 2).contains("203.0.113.7"))
+  }
+}
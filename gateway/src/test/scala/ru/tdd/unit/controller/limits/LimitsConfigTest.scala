@@ -0,0 +1,64 @@
+package ru.tdd.unit.controller.limits
+
+import com.typesafe.config.ConfigFactory
+import org.scalatest.funsuite.AnyFunSuite
+import ru.tdd.controller.configs.LimitsConfig
+
+import java.nio.file.Files
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Набор тестов разбора ограничений нагрузки
+ */
+class LimitsConfigTest extends AnyFunSuite {
+
+  private val limits = LimitsConfig(
+    ConfigFactory.parseString(
+      """
+        |reload-interval = 10s
+        |retry-after = 1s
+        |max-keys = 1000
+        |rate-limits = [
+        |  { route = "/api/v1", capacity = 200, refill-per-second = 50 },
+        |  { route = "/api/v1/auth", capacity = 10, refill-per-second = 0.5 }
+        |]
+        |max-in-flight { users = 128 }
+        |""".stripMargin
+    ),
+    None
+  )
+
+  test("Выбирается правило с самым длинным подходящим префиксом") {
+    assert(limits.rule("/api/v1/auth/login").map(_.route).contains("/api/v1/auth"))
+    assert(limits.rule("/api/v1/authors").map(_.route).contains("/api/v1"))
+    assert(limits.rule("/health").isEmpty)
+  }
+
+  test("Сервис без предела одновременных запросов не ограничивается") {
+    assert(limits.inFlightLimit("users") == 128)
+    assert(limits.inFlightLimit("geo") == Int.MaxValue)
+  }
+
+  test("Без trusted-proxy-hops шлюз считается доступным напрямую") {
+    assert(limits.trustedProxyHops == 0)
+  }
+
+  test("Внешний файл переопределяет app.conf, отсутствующий файл оставляет его значения") {
+    val file = Files.createTempFile("gateway-limits", ".conf")
+
+    try {
+      Files.writeString(file, "gateway-app.limits { trusted-proxy-hops = 1, max-in-flight { geo = 64 } }")
+
+      val external = LimitsConfig.fromFile(file.toString)
+      val missing = LimitsConfig.fromFile(file.toString + ".missing")
+
+      assert(external.file.contains(file.toString))
+      assert(external.trustedProxyHops == 1)
+      assert(external.inFlightLimit("geo") == 64)
+      assert(external.rule("/api/v1/auth").isDefined)
+      assert(missing.trustedProxyHops == 0)
+      assert(missing.inFlightLimit("geo") == 512)
+    } finally Files.delete(file)
+  }
+}
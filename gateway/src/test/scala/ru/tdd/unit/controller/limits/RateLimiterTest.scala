@@ -0,0 +1,59 @@
+package ru.tdd.unit.controller.limits
+
+import org.scalatest.funsuite.AnyFunSuite
+import ru.tdd.controller.configs.RateLimitRule
+import ru.tdd.controller.limits.RateLimiter
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Набор тестов token bucket (GCRA) на маршрут и пользователя
+ */
+class RateLimiterTest extends AnyFunSuite {
+
+  /** 3 запроса подряд, затем один запрос в 50 мс */
+  private val rule = RateLimitRule("/api/v1/auth", capacity = 3, refillPerSecond = 20)
+
+  test("Пропускается не больше capacity запросов подряд") {
+    val limiter = new RateLimiter(100)
+
+    assert((1 to 3).map(_ => limiter.acquire(rule, "user")).forall(_.isEmpty))
+
+    val retryAfter = limiter.acquire(rule, "user")
+
+    assert(retryAfter.isDefined)
+    assert(retryAfter.get.toMillis <= 50)
+    assert(limiter.snapshot.limited == Map("/api/v1/auth" -> 1L))
+  }
+
+  test("После паузы токен снова доступен") {
+    val limiter = new RateLimiter(100)
+
+    (1 to 3).foreach(_ => limiter.acquire(rule, "user"))
+    val retryAfter = limiter.acquire(rule, "user").get
+
+    Thread.sleep(retryAfter.toMillis + 5)
+
+    assert(limiter.acquire(rule, "user").isEmpty)
+    assert(limiter.acquire(rule, "user").isDefined)
+  }
+
+  test("Пользователи и маршруты ограничиваются независимо") {
+    val limiter = new RateLimiter(100)
+    val other = rule.copy(route = "/api/v1/geo/cities")
+
+    (1 to 3).foreach(_ => limiter.acquire(rule, "user"))
+
+    assert(limiter.acquire(rule, "user").isDefined)
+    assert(limiter.acquire(rule, "another").isEmpty)
+    assert(limiter.acquire(other, "user").isEmpty)
+    assert(limiter.snapshot.keys == 3)
+  }
+
+  test("Правило без емкости или пополнения не ограничивает") {
+    val limiter = new RateLimiter(100)
+
+    assert((1 to 10).forall(_ => limiter.acquire(rule.copy(capacity = 0), "user").isEmpty))
+    assert((1 to 10).forall(_ => limiter.acquire(rule.copy(refillPerSecond = 0), "user").isEmpty))
+  }
+}
@@ -0,0 +1,63 @@
+package ru.tdd.unit.controller.security
+
+import org.scalatest.funsuite.AnyFunSuite
+import ru.tdd.controller.security.{HmacSha256, JwtVerifier}
+
+import java.nio.charset.StandardCharsets
+import java.util.Base64
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Набор тестов проверки access токенов на шлюзе
+ */
+class JwtVerifierTest extends AnyFunSuite {
+
+  private val Secret = "feuytbcewceut8Efq6c78tacrcFrRQQxafsddfcxasfdacffac"
+
+  private val verifier = new JwtVerifier(Secret)
+
+  private val encoder = Base64.getUrlEncoder.withoutPadding()
+
+  private def token(claims: String, alg: String = "HS256", secret: String = Secret): String = {
+    val header = encoder.encodeToString(s"""{"alg":"$alg","typ":"JWT"}""".getBytes(StandardCharsets.UTF_8))
+    val payload = encoder.encodeToString(claims.getBytes(StandardCharsets.UTF_8))
+    val signature = new HmacSha256(secret).sign(s"$header.$payload".getBytes(StandardCharsets.US_ASCII))
+
+    s"$header.$payload.${encoder.encodeToString(signature)}"
+  }
+
+  private def expiresIn(seconds: Long): Long = System.currentTimeMillis() / 1000 + seconds
+
+  test("Подписанный действующий токен возвращает утверждения") {
+    val claims = verifier.verifyAuthorization(
+      Some("Bearer " + token(s"""{"sub":"user","id":"42","chatId":15,"roles":["USER"],"exp":${expiresIn(60)}}"""))
+    )
+
+    assert(claims.flatMap(_.sub).contains("user"))
+    assert(claims.flatMap(_.id).contains("42"))
+    assert(claims.flatMap(_.chatId).contains(15L))
+    assert(claims.map(_.roleClass).contains("USER"))
+  }
+
+  test("Истекший токен считается отсутствующим") {
+    assert(verifier.verify(token(s"""{"sub":"user","id":"42","exp":${expiresIn(-1)}}""")).isEmpty)
+  }
+
+  test("Токен с чужой подписью или другим алгоритмом отклоняется") {
+    val claims = s"""{"sub":"user","id":"42","exp":${expiresIn(60)}}"""
+    val other = Base64.getEncoder.encodeToString("another-secret-for-tokens".getBytes(StandardCharsets.UTF_8))
+
+    assert(verifier.verify(token(claims, secret = other)).isEmpty)
+    assert(verifier.verify(token(claims, alg = "none")).isEmpty)
+    assert(verifier.verify("not-a-token").isEmpty)
+  }
+
+  test("Authorization без схемы Bearer не проверяется") {
+    val value = token(s"""{"sub":"user","id":"42","exp":${expiresIn(60)}}""")
+
+    assert(verifier.verifyAuthorization(Some(value)).isEmpty)
+    assert(verifier.verifyAuthorization(Some("bearer " + value)).isDefined)
+    assert(verifier.verifyAuthorization(None).isEmpty)
+  }
+}
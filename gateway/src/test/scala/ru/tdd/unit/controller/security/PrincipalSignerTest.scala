@@ -0,0 +1,59 @@
+package ru.tdd.unit.controller.security
+
+import org.scalatest.funsuite.AnyFunSuite
+import ru.tdd.controller.security.{JwtClaims, PrincipalSigner}
+
+import java.nio.charset.StandardCharsets
+import java.util.Base64
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Набор тестов подписи заголовка с пользователем.
+ *        Golden - тот же заголовок, который принимает GatewayPrincipalVerifier из core в своем тесте,
+ *        поэтому изменение формата с любой стороны ломает оба теста
+ */
+class PrincipalSignerTest extends AnyFunSuite {
+
+  private val Secret = "Z2F0ZXdheS1wcmluY2lwYWwtaGVhZGVyLXNpZ25pbmcta2V5LTAx"
+
+  private val Golden =
+    "MGM2YjdhNGUtNWQxZi00YjhhLTllMmMtM2YxZDJhNGI1YzZkfDE1fFVTRVIsQURNSU58MTc5MjE5NTIwMHw0MTAyNDQ0ODAwfHVzZXJ8bmFtZQ" +
+      ".4on-j6N8SuT5hTjkkSLb7pg2KsTJILc6T5z-bAB_wFc"
+
+  private val signer = new PrincipalSigner(Secret)
+
+  private val claims = JwtClaims(
+    sub = Some("user|name"),
+    id = Some("0c6b7a4e-5d1f-4b8a-9e2c-3f1d2a4b5c6d"),
+    chatId = Some(15L),
+    roles = Some(List("USER", "ADMIN")),
+    system = None,
+    iat = Some(1792195200L),
+    exp = Some(4102444800L)
+  )
+
+  test("Заголовок совпадает с эталоном, который проверяют сервисы") {
+    assert(signer.sign(claims).contains(Golden))
+  }
+
+  test("Необязательные поля остаются пустыми") {
+    val header = signer.sign(claims.copy(chatId = None, roles = None, iat = None)).get
+    val payload = new String(Base64.getUrlDecoder.decode(header.substring(0, header.indexOf('.'))), StandardCharsets.UTF_8)
+
+    assert(payload == "0c6b7a4e-5d1f-4b8a-9e2c-3f1d2a4b5c6d||||4102444800|user|name")
+    assert(!header.contains("="))
+  }
+
+  test("Без идентификатора, логина или срока действия заголовок не выпускается") {
+    assert(signer.sign(claims.copy(id = None)).isEmpty)
+    assert(signer.sign(claims.copy(sub = None)).isEmpty)
+    assert(signer.sign(claims.copy(exp = None)).isEmpty)
+  }
+
+  test("Другой секрет дает другую подпись") {
+    val other = new PrincipalSigner(Base64.getEncoder.encodeToString("another-principal-signing-key".getBytes(StandardCharsets.UTF_8)))
+
+    assert(!other.sign(claims).contains(Golden))
+  }
+}
@@ -0,0 +1,55 @@
+package ru.tdd.unit.controller.upstream
+
+import org.scalatest.funsuite.AnyFunSuite
+import ru.tdd.controller.upstream.LatencyHistogram
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Набор тестов гистограммы задержек экземпляра
+ */
+class LatencyHistogramTest extends AnyFunSuite {
+
+  private def millis(value: Long): Long = TimeUnit.MILLISECONDS.toNanos(value)
+
+  test("Пустая гистограмма") {
+    val snapshot = new LatencyHistogram().snapshot
+
+    assert(snapshot.count == 0)
+    assert(snapshot.meanMs == 0.0)
+    assert(snapshot.p50Ms == "0")
+    assert(snapshot.p99Ms == "0")
+  }
+
+  test("Перцентили оцениваются верхней границей корзины") {
+    val histogram = new LatencyHistogram
+
+    (1 to 90).foreach(_ => histogram.record(millis(1)))
+    (1 to 10).foreach(_ => histogram.record(millis(600)))
+
+    val snapshot = histogram.snapshot
+
+    assert(snapshot.count == 100)
+    assert(snapshot.p50Ms == "1")
+    assert(snapshot.p99Ms == "1000")
+    assert(math.abs(snapshot.meanMs - 60.9) < 1e-9)
+  }
+
+  test("Корзины накопительные, задержки сверх последней границы попадают в +Inf") {
+    val histogram = new LatencyHistogram
+
+    histogram.record(millis(3))
+    histogram.record(millis(5))
+    histogram.record(millis(60000))
+
+    val buckets = histogram.snapshot.buckets.map(bucket => bucket.le -> bucket.count).toMap
+
+    assert(buckets("2") == 0)
+    assert(buckets("5") == 2)
+    assert(buckets("30000") == 2)
+    assert(buckets("+Inf") == 3)
+    assert(histogram.snapshot.p99Ms == "+Inf")
+  }
+}
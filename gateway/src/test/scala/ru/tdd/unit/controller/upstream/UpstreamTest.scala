@@ -0,0 +1,135 @@
+package ru.tdd.unit.controller.upstream
+
+import org.scalatest.funsuite.AnyFunSuite
+import ru.tdd.controller.configs.{HealthCheckConfig, InstanceConfig, OutlierConfig, PoolConfig, ServiceProxyConfig}
+import ru.tdd.controller.upstream.{Upstream, UpstreamInstance, UpstreamMetrics}
+import zio.http.{Response, Status}
+
+import java.time.Duration
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ *        Набор тестов выбора экземпляра сервиса, его исключения и возврата в балансировку
+ */
+class UpstreamTest extends AnyFunSuite {
+
+  private val outlier = OutlierConfig(2, Duration.ofMillis(50), Duration.ofSeconds(1), Duration.ofSeconds(30))
+
+  private val healthCheck = HealthCheckConfig.Default.copy(unhealthyThreshold = 2, healthyThreshold = 2)
+
+  private def instance(address: String): UpstreamInstance =
+    new UpstreamInstance(InstanceConfig(address), outlier, healthCheck)
+
+  /** Клиент не нужен: выбор экземпляра и учет ответов не отправляют запросов */
+  private def upstream(instances: UpstreamInstance*): Upstream =
+    Upstream(
+      ServiceProxyConfig("geo", instances.map(_.config).toList, List("geo"), PoolConfig.Default, outlier, healthCheck),
+      null,
+      new UpstreamMetrics(PoolConfig.Default.size * instances.size),
+      instances.toVector
+    )
+
+  private def chosen(service: Upstream): Set[String] =
+    (1 to 50).map(_ => service.choose().config.address).toSet
+
+  test("Из двух экземпляров выбирается менее загруженный") {
+    val busy = instance("geo-1:8002")
+    val idle = instance("geo-2:8002")
+    val service = upstream(busy, idle)
+
+    (1 to 3).foreach(_ => busy.begin())
+
+    assert(chosen(service) == Set("geo-2:8002"))
+
+    (1 to 3).foreach(_ => busy.end())
+
+    assert(chosen(service) == Set("geo-1:8002", "geo-2:8002"))
+  }
+
+  test("После ошибок подряд экземпляр исключается, а по истечении времени возвращается") {
+    val failing = instance("geo-1:8002")
+    val healthy = instance("geo-2:8002")
+    val service = upstream(failing, healthy)
+
+    service.failed(failing, 1000)
+    assert(!failing.snapshot.ejected)
+
+    service.failed(failing, 1000)
+    assert(failing.snapshot.ejected)
+    assert(chosen(service) == Set("geo-2:8002"))
+
+    Thread.sleep(outlier.baseEjectionTime.toMillis + 20)
+
+    assert(!failing.snapshot.ejected)
+    assert(failing.snapshot.ejections == 1)
+    assert(chosen(service) == Set("geo-1:8002", "geo-2:8002"))
+  }
+
+  test("Последний доступный экземпляр не исключается") {
+    val first = instance("geo-1:8002")
+    val second = instance("geo-2:8002")
+    val service = upstream(first, second)
+
+    (1 to 2).foreach(_ => service.failed(second, 1000))
+    (1 to 4).foreach(_ => service.failed(first, 1000))
+
+    assert(second.snapshot.ejected)
+    assert(!first.snapshot.ejected)
+    assert(chosen(service) == Set("geo-1:8002"))
+  }
+
+  test("503 и Retry-After не считаются сбоем экземпляра, 502 и 504 считаются") {
+    val target = instance("geo-1:8002")
+    val service = upstream(target, instance("geo-2:8002"))
+
+    (1 to 3).foreach(_ => service.complete(target, Response.status(Status.ServiceUnavailable), 1000))
+    service.complete(target, Response.status(Status.TooManyRequests).addHeader("Retry-After", "1"), 1000)
+
+    assert(!target.snapshot.ejected)
+    assert(target.snapshot.failures == 0)
+
+    service.complete(target, Response.status(Status.BadGateway), 1000)
+    service.complete(target, Response.status(Status.GatewayTimeout), 1000)
+
+    assert(target.snapshot.ejected)
+    assert(target.snapshot.failures == 2)
+  }
+
+  test("Успешный ответ сбрасывает счетчик ошибок подряд") {
+    val target = instance("geo-1:8002")
+    val service = upstream(target, instance("geo-2:8002"))
+
+    service.failed(target, 1000)
+    service.complete(target, Response.status(Status.Ok), 1000)
+    service.failed(target, 1000)
+
+    assert(!target.snapshot.ejected)
+  }
+
+  test("Активная проверка выводит экземпляр из балансировки и возвращает его") {
+    val probed = instance("geo-1:8002")
+    val service = upstream(probed, instance("geo-2:8002"))
+
+    probed.probed(ok = false)
+    assert(probed.snapshot.healthy)
+
+    probed.probed(ok = false)
+    assert(!probed.snapshot.healthy)
+    assert(chosen(service) == Set("geo-2:8002"))
+
+    (1 to 2).foreach(_ => probed.probed(ok = true))
+
+    assert(probed.snapshot.healthy)
+    assert(chosen(service) == Set("geo-1:8002", "geo-2:8002"))
+  }
+
+  test("Если все экземпляры недоступны, запрос получает любой") {
+    val single = instance("geo-1:8002")
+    val service = upstream(single)
+
+    (1 to 2).foreach(_ => single.probed(ok = false))
+
+    assert(service.choose() eq single)
+  }
+}
@@ -0,0 +1,84 @@
+package ru.tdd.geo.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ru.tdd.geo.application.index.GeoIndex;
+import ru.tdd.geo.database.entities.City;
+import ru.tdd.geo.database.entities.Country;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Стоимость автодополнения городов из индекса в памяти: 200 стран по 500 городов.
+ * Запуск: gradle jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeoAutocompleteBenchmark {
+
+    private GeoIndex index;
+
+    private UUID countryId;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Country> countries = new ArrayList<>();
+        List<City> cities = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            Country country = new Country("Country " + i);
+            country.setId(UUID.randomUUID());
+            countries.add(country);
+
+            for (int j = 0; j < 500; j++) {
+                City city = new City(randomName(random), null, country);
+                city.setId(UUID.randomUUID());
+                cities.add(city);
+            }
+        }
+
+        countryId = countries.getFirst().getId();
+        index = GeoIndex.EMPTY.replace(
+                countries.stream().map(Country::getId).collect(Collectors.toSet()),
+                countries,
+                List.of(),
+                cities,
+                List.of()
+        );
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        name.append((char) ('A' + random.nextInt(26)));
+
+        for (int i = 0; i < 7; i++) {
+            name.append((char) ('a' + random.nextInt(26)));
+        }
+
+        return name.toString();
+    }
+
+    @Benchmark
+    public List<GeoIndex.CityEntry> citiesInCountry() {
+        return index.findCities("ma", countryId, 10);
+    }
+
+    @Benchmark
+    public List<GeoIndex.CityEntry> citiesInAllCountries() {
+        return index.findCities("ma", null, 10);
+    }
+}
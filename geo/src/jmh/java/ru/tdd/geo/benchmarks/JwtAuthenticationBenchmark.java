@@ -0,0 +1,91 @@
+package ru.tdd.geo.benchmarks;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ru.tdd.geo.application.models.dto.UserDTO;
+import ru.tdd.geo.application.models.enums.Role;
+import ru.tdd.geo.application.services.imp.JwtTokenServiceImp;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Стоимость аутентификации одного запроса: прежняя схема фильтра (ключ и парсер собираются заново,
+ * токен разбирается трижды) против одного разбора заранее собранным парсером.
+ * Запуск: gradle jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "feuytbcewceut8Efq6c78tacrcFrRQQxafsddfcxasfdacffac";
+
+    private JwtTokenServiceImp jwtTokenService;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenService = new JwtTokenServiceImp(SECRET);
+        token = Jwts.builder()
+                .claims(Map.of(
+                        "id", UUID.randomUUID().toString(),
+                        "roles", List.of(Role.USER.name()),
+                        "chatId", 1L
+                ))
+                .subject("user")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+                .signWith(secretKey())
+                .compact();
+    }
+
+    private static SecretKey secretKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+
+    private static Claims parse(String token) {
+        return Jwts.parser()
+                .verifyWith(secretKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Benchmark
+    public UserDTO perRequestParser() {
+        parse(token).getExpiration().after(new Date());
+        parse(token).getSubject();
+        Claims claims = parse(token);
+        List<String> roles = claims.get("roles", List.class);
+
+        return new UserDTO(
+                UUID.fromString(claims.get("id", String.class)),
+                claims.get("chatId", Long.class),
+                claims.getSubject(),
+                roles.stream().map(Role::valueOf).toList(),
+                claims.getExpiration().toInstant()
+        );
+    }
+
+    @Benchmark
+    public UserDTO cachedParser() {
+        return jwtTokenService.verify(token);
+    }
+}
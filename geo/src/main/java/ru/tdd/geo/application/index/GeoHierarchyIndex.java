@@ -0,0 +1,181 @@
+package ru.tdd.geo.application.index;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.tdd.geo.application.models.events.GeoHierarchyChanged;
+import ru.tdd.geo.database.entities.Country;
+import ru.tdd.geo.database.projections.CityRow;
+import ru.tdd.geo.database.projections.CountryRow;
+import ru.tdd.geo.database.projections.LocationRow;
+import ru.tdd.geo.database.projections.NameRowQueries;
+import ru.tdd.geo.database.specifications.CitySpecification;
+import ru.tdd.geo.database.specifications.LocationSpecification;
+import ru.tdd.geo.database.specifications.NameSpecification;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Индекс иерархии стран в памяти для автодополнения.
+ * Читатели без блокировок берут текущий неизменяемый снимок, запись заменяет его целиком.
+ * После коммита изменений перечитываются только затронутые страны, другие экземпляры geo перечитывают их
+ * по сообщению сброса кэша из bc.geo.cache. Перечитывание идет в планировщике, а не на потоке запроса:
+ * страны копятся в наборе, и пока обновление не началось, новые изменения добавляются к нему, а не к очереди. Полная перестройка выполняется при старте и изредка на случай
+ * потерянных сообщений. Данные читаются строками проекций, а не сущностями, поэтому не попадают
+ * в контекст персистентности и кэш второго уровня.
+ * Писатели сериализуются через ReentrantLock, а не synchronized: внутри идут запросы к бд,
+ * и виртуальный поток не должен удерживать поток-носитель на время ожидания
+ */
+@Component
+public class GeoHierarchyIndex implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(GeoHierarchyIndex.class);
+
+    private final NameRowQueries nameRowQueries;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final TaskScheduler taskScheduler;
+
+    private final Set<UUID> pendingCountryIds = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile GeoIndex index = GeoIndex.EMPTY;
+
+    @Autowired
+    public GeoHierarchyIndex(
+            NameRowQueries nameRowQueries,
+            PlatformTransactionManager transactionManager,
+            TaskScheduler taskScheduler
+    ) {
+        this.nameRowQueries = nameRowQueries;
+        this.taskScheduler = taskScheduler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public GeoIndex get() {
+        return index;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reload();
+    }
+
+    /**
+     * Перечитывание стран после коммита транзакции, изменившей их поддеревья
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onGeoHierarchyChanged(GeoHierarchyChanged event) {
+        scheduleRefresh(event.getCountryIds());
+    }
+
+    /**
+     * Перечитывание стран в планировщике. Обновление ставится в очередь не более одного раза,
+     * пока оно не началось, поэтому серия изменений, например импорт по частям, перечитывается вместе
+     */
+    public void scheduleRefresh(Set<UUID> countryIds) {
+        if (countryIds.isEmpty()) {
+            return;
+        }
+
+        pendingCountryIds.addAll(countryIds);
+
+        if (refreshScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::refreshPending, Instant.now());
+        }
+    }
+
+    private void refreshPending() {
+        refreshScheduled.set(false);
+
+        Set<UUID> countryIds = new HashSet<>();
+
+        for (Iterator<UUID> iterator = pendingCountryIds.iterator(); iterator.hasNext(); ) {
+            countryIds.add(iterator.next());
+            iterator.remove();
+        }
+
+        refresh(countryIds);
+    }
+
+    /** Полная перестройка индекса */
+    @Scheduled(
+            initialDelayString = "${geo.index.reload-interval:3600000}",
+            fixedDelayString = "${geo.index.reload-interval:3600000}"
+    )
+    public void reload() {
+        writeLock.lock();
+
+        try {
+            index = transactionTemplate.execute(status -> {
+                List<CountryRow> countries = findCountries(null);
+
+                return GeoIndex.EMPTY.replace(
+                        countries.stream().map(CountryRow::id).collect(Collectors.toSet()),
+                        countries,
+                        nameRowQueries.findAll(CityRow.SELECTION, CitySpecification.byCountryIdIn(null)),
+                        nameRowQueries.findAll(LocationRow.SELECTION, LocationSpecification.byCityCountryIdIn(null))
+                );
+            });
+        } catch (RuntimeException e) {
+            log.warn("Не удалось перестроить индекс стран: {}", e.getMessage());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Перечитывание поддеревьев указанных стран */
+    public void refresh(Set<UUID> countryIds) {
+        if (countryIds.isEmpty()) {
+            return;
+        }
+
+        writeLock.lock();
+
+        try {
+            GeoIndex current = index;
+
+            index = transactionTemplate.execute(status -> current.replace(
+                    countryIds,
+                    findCountries(countryIds),
+                    nameRowQueries.findAll(CityRow.SELECTION, CitySpecification.byCountryIdIn(countryIds)),
+                    nameRowQueries.findAll(LocationRow.SELECTION, LocationSpecification.byCityCountryIdIn(countryIds))
+            ));
+        } catch (RuntimeException e) {
+            log.warn("Не удалось обновить индекс стран {}: {}", countryIds, e.getMessage());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private List<CountryRow> findCountries(Set<UUID> countryIds) {
+        return nameRowQueries.findAll(CountryRow.SELECTION, NameSpecification.<Country>byIdIn(countryIds));
+    }
+}
@@ -0,0 +1,157 @@
+package ru.tdd.geo.application.index;
+
+import ru.tdd.geo.database.projections.CityRow;
+import ru.tdd.geo.database.projections.CountryRow;
+import ru.tdd.geo.database.projections.LocationRow;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Неизменяемый снимок иерархии страна - регион - город - локация.
+ * Изменение строит новый снимок, в котором заменены только поддеревья перечитанных стран,
+ * остальные страны переиспользуются из предыдущего снимка. Общий индекс городов всех стран
+ * не сортируется заново: из него линейным слиянием убираются города перечитанных стран и вливаются их новые города
+ */
+public final class GeoIndex {
+
+    public static final GeoIndex EMPTY = new GeoIndex(Map.of(), new PrefixIndex<>(List.of(), CityEntry::name), Map.of());
+
+    private final Map<UUID, CountryNode> countries;
+
+    private final PrefixIndex<CityEntry> cities;
+
+    private final Map<UUID, PrefixIndex<LocationEntry>> locationsByCity;
+
+    private GeoIndex(
+            Map<UUID, CountryNode> countries,
+            PrefixIndex<CityEntry> cities,
+            Map<UUID, PrefixIndex<LocationEntry>> locationsByCity
+    ) {
+        this.countries = countries;
+        this.cities = cities;
+        this.locationsByCity = locationsByCity;
+    }
+
+    /**
+     * Новый снимок с замененными поддеревьями стран
+     *
+     * @param countryIds идентификаторы перечитанных стран, страны без данных удаляются из снимка
+     * @param cities     строки городов вместе с регионом, отдельная выборка регионов не нужна
+     */
+    public GeoIndex replace(
+            Set<UUID> countryIds,
+            Collection<CountryRow> countries,
+            Collection<CityRow> cities,
+            Collection<LocationRow> locations
+    ) {
+        Map<UUID, CountryNode> newCountries = new HashMap<>(this.countries);
+        Map<UUID, PrefixIndex<LocationEntry>> newLocations = new HashMap<>(this.locationsByCity);
+
+        countryIds.forEach(id -> {
+            CountryNode old = newCountries.remove(id);
+
+            if (old != null) {
+                old.cities().values().forEach(city -> newLocations.remove(city.id()));
+            }
+        });
+
+        Map<UUID, Node> countryNodes = new HashMap<>();
+        countries.forEach(country -> countryNodes.put(country.id(), new Node(country.id(), country.name())));
+
+        Map<UUID, Node> regionNodes = new HashMap<>();
+
+        Map<UUID, List<CityEntry>> citiesByCountry = new HashMap<>();
+        Map<UUID, CityEntry> cityEntries = new HashMap<>();
+
+        cities.forEach(city -> {
+            Node country = countryNodes.get(city.countryId());
+
+            if (country == null) {
+                return;
+            }
+
+            CityEntry entry = new CityEntry(
+                    city.id(),
+                    city.name(),
+                    city.regionId() == null ?
+                            null :
+                            regionNodes.computeIfAbsent(city.regionId(), id -> new Node(id, city.regionName())),
+                    country
+            );
+
+            cityEntries.put(entry.id(), entry);
+            citiesByCountry.computeIfAbsent(country.id(), key -> new ArrayList<>()).add(entry);
+        });
+
+        Map<UUID, List<LocationEntry>> locationsByCityId = new HashMap<>();
+
+        locations.forEach(location -> {
+            CityEntry city = cityEntries.get(location.cityId());
+
+            if (city != null) {
+                locationsByCityId.computeIfAbsent(city.id(), key -> new ArrayList<>())
+                        .add(new LocationEntry(location.id(), location.name(), city));
+            }
+        });
+
+        countryNodes.values().forEach(country -> newCountries.put(
+                country.id(),
+                new CountryNode(country, new PrefixIndex<>(citiesByCountry.getOrDefault(country.id(), List.of()), CityEntry::name))
+        ));
+        locationsByCityId.forEach((cityId, cityLocations) ->
+                newLocations.put(cityId, new PrefixIndex<>(cityLocations, LocationEntry::name))
+        );
+
+        List<CityEntry> replacedCities = new ArrayList<>(cityEntries.values());
+
+        return new GeoIndex(
+                Map.copyOf(newCountries),
+                this.cities.merge(
+                        city -> countryIds.contains(city.country().id()),
+                        new PrefixIndex<>(replacedCities, CityEntry::name)
+                ),
+                Map.copyOf(newLocations)
+        );
+    }
+
+    /**
+     * Города с названием, начинающимся с префикса
+     *
+     * @param countryId идентификатор страны, если не указан - поиск по всем странам
+     */
+    public List<CityEntry> findCities(String prefix, UUID countryId, int limit) {
+        if (countryId == null) {
+            return cities.find(prefix, limit);
+        }
+
+        CountryNode country = countries.get(countryId);
+        return country == null ? List.of() : country.cities().find(prefix, limit);
+    }
+
+    /** Локации города с названием, начинающимся с префикса */
+    public List<LocationEntry> findLocations(String prefix, UUID cityId, int limit) {
+        PrefixIndex<LocationEntry> index = locationsByCity.get(cityId);
+        return index == null ? List.of() : index.find(prefix, limit);
+    }
+
+    public int countriesCount() {
+        return countries.size();
+    }
+
+    /** Страна или регион */
+    public record Node(UUID id, String name) {}
+
+    public record CityEntry(UUID id, String name, Node region, Node country) {}
+
+    public record LocationEntry(UUID id, String name, CityEntry city) {}
+
+    private record CountryNode(Node country, PrefixIndex<CityEntry> cities) {}
+}
@@ -0,0 +1,113 @@
+package ru.tdd.geo.application.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Неизменяемый префиксный индекс по названиям в нижнем регистре.
+ * Названия хранятся отсортированным массивом, диапазон с нужным префиксом находится бинарным поиском.
+ * Изменение части элементов не требует повторной сортировки: новый индекс получается линейным слиянием
+ */
+public final class PrefixIndex<T> {
+
+    private final String[] keys;
+
+    private final Object[] values;
+
+    public PrefixIndex(Collection<T> items, Function<T, String> name) {
+        List<Object[]> entries = new ArrayList<>(items.size());
+        items.forEach(item -> entries.add(new Object[]{normalize(name.apply(item)), item}));
+        entries.sort(Comparator.comparing(entry -> (String) entry[0]));
+
+        this.keys = new String[entries.size()];
+        this.values = new Object[entries.size()];
+
+        for (int i = 0; i < entries.size(); i++) {
+            keys[i] = (String) entries.get(i)[0];
+            values[i] = entries.get(i)[1];
+        }
+    }
+
+    private PrefixIndex(String[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Новый индекс без удаленных элементов и с элементами другого индекса.
+     * Оба массива уже отсортированы, поэтому слияние линейное
+     *
+     * @param removed элементы этого индекса, которые не попадают в новый
+     * @param added   индекс добавляемых элементов
+     */
+    @SuppressWarnings("unchecked")
+    public PrefixIndex<T> merge(Predicate<? super T> removed, PrefixIndex<T> added) {
+        String[] mergedKeys = new String[keys.length + added.keys.length];
+        Object[] mergedValues = new Object[mergedKeys.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+
+        while (i < keys.length || j < added.keys.length) {
+            if (i < keys.length && removed.test((T) values[i])) {
+                i++;
+            } else if (j == added.keys.length || (i < keys.length && keys[i].compareTo(added.keys[j]) <= 0)) {
+                mergedKeys[size] = keys[i];
+                mergedValues[size++] = values[i++];
+            } else {
+                mergedKeys[size] = added.keys[j];
+                mergedValues[size++] = added.values[j++];
+            }
+        }
+
+        return new PrefixIndex<>(Arrays.copyOf(mergedKeys, size), Arrays.copyOf(mergedValues, size));
+    }
+
+    /** Не более limit элементов, название которых начинается с префикса, в порядке названий */
+    @SuppressWarnings("unchecked")
+    public List<T> find(String prefix, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        String key = normalize(prefix);
+        int from = Arrays.binarySearch(keys, key);
+
+        if (from < 0) {
+            from = -from - 1;
+        } else {
+            while (from > 0 && keys[from - 1].equals(key)) {
+                from--;
+            }
+        }
+
+        List<T> result = new ArrayList<>(Math.min(limit, keys.length - from));
+
+        for (int i = from; i < keys.length && result.size() < limit && keys[i].startsWith(key); i++) {
+            result.add((T) values[i]);
+        }
+
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<T> values() {
+        return (List<T>) List.of(values);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    static String normalize(String name) {
+        return name == null ? "" : name.toLowerCase(Locale.ROOT);
+    }
+}
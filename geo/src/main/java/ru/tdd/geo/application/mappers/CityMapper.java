@@ -3,9 +3,13 @@ package ru.tdd.geo.application.mappers;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
+import ru.tdd.geo.application.index.GeoIndex;
 import ru.tdd.geo.application.models.dto.geo.city.CityDTO;
 import ru.tdd.geo.application.models.dto.geo.city.CityDetailsDTO;
+import ru.tdd.geo.application.models.dto.geo.country.CountryDTO;
+import ru.tdd.geo.application.models.dto.geo.region.RegionDTO;
 import ru.tdd.geo.database.entities.City;
+import ru.tdd.geo.database.projections.CityRow;
 
 /**
  * @author Tribushko Danil
@@ -22,4 +26,22 @@ public interface CityMapper {
 
     @Mapping(target = "locations", ignore = true)
     CityDetailsDTO toDetailsDto(City city);
+
+    default CityDTO toDto(GeoIndex.CityEntry city) {
+        CountryDTO country = new CountryDTO(city.country().id(), city.country().name());
+        RegionDTO region = city.region() == null ?
+                null :
+                new RegionDTO(city.region().id(), city.region().name(), country);
+
+        return new CityDTO(city.id(), city.name(), region, country);
+    }
+
+    default CityDTO toDto(CityRow city) {
+        CountryDTO country = new CountryDTO(city.countryId(), city.countryName());
+        RegionDTO region = city.regionId() == null ?
+                null :
+                new RegionDTO(city.regionId(), city.regionName(), country);
+
+        return new CityDTO(city.id(), city.name(), region, country);
+    }
 }
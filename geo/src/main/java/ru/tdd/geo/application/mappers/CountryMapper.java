@@ -4,6 +4,7 @@ import org.mapstruct.Mapper;
 import ru.tdd.geo.application.models.dto.geo.country.CountryDTO;
 import ru.tdd.geo.application.models.dto.geo.country.CountryDetailsDTO;
 import ru.tdd.geo.database.entities.Country;
+import ru.tdd.geo.database.projections.CountryRow;
 
 /**
  * @author Tribushko Danil
@@ -16,4 +17,8 @@ public interface CountryMapper {
     CountryDTO toDto(Country country);
 
     CountryDetailsDTO toDetailsDto(Country country);
+
+    default CountryDTO toDto(CountryRow country) {
+        return new CountryDTO(country.id(), country.name());
+    }
 }
@@ -3,8 +3,13 @@ package ru.tdd.geo.application.mappers;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
+import ru.tdd.geo.application.index.GeoIndex;
+import ru.tdd.geo.application.models.dto.geo.city.CityDTO;
+import ru.tdd.geo.application.models.dto.geo.country.CountryDTO;
 import ru.tdd.geo.application.models.dto.geo.location.LocationDTO;
+import ru.tdd.geo.application.models.dto.geo.region.RegionDTO;
 import ru.tdd.geo.database.entities.Location;
+import ru.tdd.geo.database.projections.LocationRow;
 
 /**
  * @author Tribushko Danil
@@ -18,4 +23,19 @@ public interface LocationMapper {
 
     LocationDTO toDto(Location location);
 
+    LocationDTO toDto(GeoIndex.LocationEntry location);
+
+    default LocationDTO toDto(LocationRow location) {
+        CountryDTO country = new CountryDTO(location.countryId(), location.countryName());
+        RegionDTO region = location.regionId() == null ?
+                null :
+                new RegionDTO(location.regionId(), location.regionName(), country);
+
+        return new LocationDTO(
+                location.id(),
+                location.name(),
+                new CityDTO(location.cityId(), location.cityName(), region, country)
+        );
+    }
+
 }
@@ -3,9 +3,11 @@ package ru.tdd.geo.application.mappers;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
+import ru.tdd.geo.application.models.dto.geo.country.CountryDTO;
 import ru.tdd.geo.application.models.dto.geo.region.RegionDTO;
 import ru.tdd.geo.application.models.dto.geo.region.RegionDetailsDTO;
 import ru.tdd.geo.database.entities.Region;
+import ru.tdd.geo.database.projections.RegionRow;
 
 /**
  * @author Tribushko Danil
@@ -22,4 +24,8 @@ public interface RegionMapper {
 
     @Mapping(target = "countryDTO", source = "country")
     RegionDetailsDTO toDetailsDto(Region region);
+
+    default RegionDTO toDto(RegionRow region) {
+        return new RegionDTO(region.id(), region.name(), new CountryDTO(region.countryId(), region.countryName()));
+    }
 }
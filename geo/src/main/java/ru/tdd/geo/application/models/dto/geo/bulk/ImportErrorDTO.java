@@ -0,0 +1,46 @@
+package ru.tdd.geo.application.models.dto.geo.bulk;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * DTO ошибки импорта одной строки
+ */
+public class ImportErrorDTO {
+
+    @Schema(
+            name = "line",
+            description = "Номер строки входного файла, начиная с 1"
+    )
+    private long line;
+
+    @Schema(
+            name = "message",
+            description = "Причина, по которой строка не импортирована"
+    )
+    private String message;
+
+    public ImportErrorDTO() {}
+
+    public ImportErrorDTO(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,79 @@
+package ru.tdd.geo.application.models.dto.geo.bulk;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * DTO результата массового импорта
+ */
+public class ImportResultDTO {
+
+    @Schema(
+            name = "created",
+            description = "Количество созданных объектов"
+    )
+    private long created;
+
+    @Schema(
+            name = "skipped",
+            description = "Количество строк, объекты которых уже существуют"
+    )
+    private long skipped;
+
+    @Schema(
+            name = "failed",
+            description = "Количество строк с ошибками"
+    )
+    private long failed;
+
+    @Schema(
+            name = "errors",
+            description = "Ошибки строк по порядку, не больше geo.import.max-errors"
+    )
+    private List<ImportErrorDTO> errors = new ArrayList<>();
+
+    public ImportResultDTO() {}
+
+    public ImportResultDTO(long created, long skipped, long failed, List<ImportErrorDTO> errors) {
+        this.created = created;
+        this.skipped = skipped;
+        this.failed = failed;
+        this.errors = errors;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public void setCreated(long created) {
+        this.created = created;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(long skipped) {
+        this.skipped = skipped;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public List<ImportErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ImportErrorDTO> errors) {
+        this.errors = errors;
+    }
+}
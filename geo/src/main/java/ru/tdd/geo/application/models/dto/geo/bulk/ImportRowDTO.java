@@ -0,0 +1,95 @@
+package ru.tdd.geo.application.models.dto.geo.bulk;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * DTO одной строки массового импорта: объект справочника и названия его родителей
+ */
+public class ImportRowDTO {
+
+    @Schema(
+            name = "type",
+            description = "Тип объекта",
+            allowableValues = {"country", "region", "city", "location"}
+    )
+    private String type;
+
+    @Schema(
+            name = "name",
+            description = "Название объекта"
+    )
+    private String name;
+
+    @Schema(
+            name = "country",
+            description = "Название страны, обязательно для всех типов кроме страны",
+            nullable = true
+    )
+    private String country;
+
+    @Schema(
+            name = "region",
+            description = "Название региона города или локации",
+            nullable = true
+    )
+    private String region;
+
+    @Schema(
+            name = "city",
+            description = "Название города, обязательно для локации",
+            nullable = true
+    )
+    private String city;
+
+    public ImportRowDTO() {}
+
+    public ImportRowDTO(String type, String name, String country, String region, String city) {
+        this.type = type;
+        this.name = name;
+        this.country = country;
+        this.region = region;
+        this.city = city;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getCountry() {
+        return country;
+    }
+
+    public void setCountry(String country) {
+        this.country = country;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+}
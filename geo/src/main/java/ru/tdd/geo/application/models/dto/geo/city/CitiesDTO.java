@@ -17,12 +17,23 @@ public class CitiesDTO {
     )
     private List<CityDTO> data;
 
+    @Schema(
+            name = "next",
+            description = "Курсор следующей страницы, передается в параметре after. Отсутствует на последней странице"
+    )
+    private String next;
+
     public CitiesDTO() {}
 
     public CitiesDTO(List<CityDTO> data) {
         this.data = data;
     }
 
+    public CitiesDTO(List<CityDTO> data, String next) {
+        this.data = data;
+        this.next = next;
+    }
+
     public List<CityDTO> getData() {
         return data;
     }
@@ -30,4 +41,12 @@ public class CitiesDTO {
     public void setData(List<CityDTO> data) {
         this.data = data;
     }
+
+    public String getNext() {
+        return next;
+    }
+
+    public void setNext(String next) {
+        this.next = next;
+    }
 }
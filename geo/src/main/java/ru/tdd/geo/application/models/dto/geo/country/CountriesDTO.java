@@ -17,12 +17,23 @@ public class CountriesDTO {
     )
     private List<CountryDTO> data;
 
+    @Schema(
+            name = "next",
+            description = "Курсор следующей страницы, передается в параметре after. Отсутствует на последней странице"
+    )
+    private String next;
+
     public CountriesDTO() {}
 
     public CountriesDTO(List<CountryDTO> data) {
         this.data = data;
     }
 
+    public CountriesDTO(List<CountryDTO> data, String next) {
+        this.data = data;
+        this.next = next;
+    }
+
     public List<CountryDTO> getData() {
         return data;
     }
@@ -30,4 +41,12 @@ public class CountriesDTO {
     public void setData(List<CountryDTO> data) {
         this.data = data;
     }
+
+    public String getNext() {
+        return next;
+    }
+
+    public void setNext(String next) {
+        this.next = next;
+    }
 }
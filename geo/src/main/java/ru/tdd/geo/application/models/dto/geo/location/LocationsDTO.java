@@ -18,12 +18,23 @@ public class LocationsDTO {
     )
     private List<LocationDTO> data;
 
+    @Schema(
+            name = "next",
+            description = "Курсор следующей страницы, передается в параметре after. Отсутствует на последней странице"
+    )
+    private String next;
+
     public LocationsDTO() {}
 
     public LocationsDTO(List<LocationDTO> data) {
         this.data = data;
     }
 
+    public LocationsDTO(List<LocationDTO> data, String next) {
+        this.data = data;
+        this.next = next;
+    }
+
     public List<LocationDTO> getData() {
         return data;
     }
@@ -31,4 +42,12 @@ public class LocationsDTO {
     public void setData(List<LocationDTO> data) {
         this.data = data;
     }
+
+    public String getNext() {
+        return next;
+    }
+
+    public void setNext(String next) {
+        this.next = next;
+    }
 }
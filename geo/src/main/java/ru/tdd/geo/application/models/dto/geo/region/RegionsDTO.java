@@ -17,12 +17,23 @@ public class RegionsDTO {
     )
     private List<RegionDTO> data;
 
+    @Schema(
+            name = "next",
+            description = "Курсор следующей страницы, передается в параметре after. Отсутствует на последней странице"
+    )
+    private String next;
+
     public RegionsDTO() {}
 
     public RegionsDTO(List<RegionDTO> data) {
         this.data = data;
     }
 
+    public RegionsDTO(List<RegionDTO> data, String next) {
+        this.data = data;
+        this.next = next;
+    }
+
     public List<RegionDTO> getData() {
         return data;
     }
@@ -30,4 +41,12 @@ public class RegionsDTO {
     public void setData(List<RegionDTO> data) {
         this.data = data;
     }
+
+    public String getNext() {
+        return next;
+    }
+
+    public void setNext(String next) {
+        this.next = next;
+    }
 }
@@ -0,0 +1,14 @@
+package ru.tdd.geo.application.models.dto.kafka;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Сообщение о сбросе кэша справочников гео на других экземплярах сервиса
+ *
+ * @param node       идентификатор экземпляра, на котором произошло изменение
+ * @param countryIds идентификаторы измененных стран
+ */
+public record GeoCacheInvalidationDTO(String node, Set<UUID> countryIds) {}
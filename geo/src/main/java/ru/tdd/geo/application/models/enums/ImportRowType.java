@@ -0,0 +1,28 @@
+package ru.tdd.geo.application.models.enums;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Тип строки массового импорта справочников
+ */
+public enum ImportRowType {
+    /**
+     * Страна
+     */
+    COUNTRY,
+
+    /**
+     * Регион страны
+     */
+    REGION,
+
+    /**
+     * Город страны или региона
+     */
+    CITY,
+
+    /**
+     * Локация города
+     */
+    LOCATION
+}
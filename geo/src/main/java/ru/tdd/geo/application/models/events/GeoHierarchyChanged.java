@@ -0,0 +1,28 @@
+package ru.tdd.geo.application.models.events;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Событие приложения об изменении стран, регионов, городов или локаций.
+ * Содержит идентификаторы стран, поддеревья которых нужно перечитать
+ */
+public class GeoHierarchyChanged {
+
+    private final Set<UUID> countryIds;
+
+    public GeoHierarchyChanged(UUID... countryIds) {
+        this.countryIds = Arrays.stream(countryIds)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public Set<UUID> getCountryIds() {
+        return countryIds;
+    }
+}
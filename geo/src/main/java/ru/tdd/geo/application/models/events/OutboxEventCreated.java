@@ -0,0 +1,19 @@
+package ru.tdd.geo.application.models.events;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Событие приложения о записи нового события в outbox таблицу
+ */
+public class OutboxEventCreated {
+
+    private final String entityName;
+
+    public OutboxEventCreated(String entityName) {
+        this.entityName = entityName;
+    }
+
+    public String getEntityName() {
+        return entityName;
+    }
+}
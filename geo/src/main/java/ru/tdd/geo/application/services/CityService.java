@@ -1,6 +1,8 @@
 package ru.tdd.geo.application.services;
 
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import ru.tdd.core.controller.dto.ConditionalDTO;
 import ru.tdd.geo.application.models.dto.geo.city.*;
 
 import java.util.UUID;
@@ -21,6 +23,12 @@ public interface CityService {
 
     CityDetailsDTO getById(UUID id);
 
+    /**
+     * Получение города по идентификатору с проверкой версии клиента.
+     * Если тег из If-None-Match совпадает с текущим, маппинг не выполняется и тело не возвращается
+     */
+    ConditionalDTO<CityDetailsDTO> getById(UUID id, String ifNoneMatch);
+
     @Transactional
     void delete(UUID id);
 
@@ -28,7 +36,16 @@ public interface CityService {
             String name,
             String regionName,
             String countryName,
+            String after,
             int page,
             int perPage
     );
+
+    /**
+     * Автодополнение: города, название которых начинается с префикса, из индекса в памяти без обращения к бд
+     *
+     * @param countryId идентификатор страны, если не указан - поиск по всем странам
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    CitiesDTO autocomplete(String prefix, UUID countryId, int limit);
 }
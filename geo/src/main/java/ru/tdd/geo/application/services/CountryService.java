@@ -2,6 +2,7 @@ package ru.tdd.geo.application.services;
 
 
 import org.springframework.transaction.annotation.Transactional;
+import ru.tdd.core.controller.dto.ConditionalDTO;
 import ru.tdd.geo.application.models.dto.geo.country.*;
 
 import java.util.UUID;
@@ -25,5 +26,11 @@ public interface CountryService {
 
     CountryDetailsDTO getById(UUID id);
 
-    CountriesDTO getAll(String name, int page, int perPage);
+    /**
+     * Получение страны по идентификатору с проверкой версии клиента.
+     * Если тег из If-None-Match совпадает с текущим, маппинг не выполняется и тело не возвращается
+     */
+    ConditionalDTO<CountryDetailsDTO> getById(UUID id, String ifNoneMatch);
+
+    CountriesDTO getAll(String name, String after, int page, int perPage);
 }
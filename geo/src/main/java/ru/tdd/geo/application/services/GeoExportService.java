@@ -0,0 +1,18 @@
+package ru.tdd.geo.application.services;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.OutputStream;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Сервис полной выгрузки справочников в формате NDJSON: одна строка JSON на объект
+ */
+@Transactional(readOnly = true)
+public interface GeoExportService {
+
+    void exportCities(OutputStream out);
+
+    void exportLocations(OutputStream out);
+}
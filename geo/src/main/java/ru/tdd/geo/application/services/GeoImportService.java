@@ -0,0 +1,21 @@
+package ru.tdd.geo.application.services;
+
+import ru.tdd.geo.application.models.dto.geo.bulk.ImportResultDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Сервис массового импорта стран, регионов, городов и локаций.
+ * Родитель должен идти во входных данных раньше своих дочерних объектов
+ */
+public interface GeoImportService {
+
+    /** Импорт строк NDJSON: один объект JSON на строку */
+    ImportResultDTO importNdjson(InputStream in) throws IOException;
+
+    /** Импорт CSV с заголовком type,name,country,region,city */
+    ImportResultDTO importCsv(InputStream in) throws IOException;
+}
@@ -0,0 +1,17 @@
+package ru.tdd.geo.application.services;
+
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Сервис версий списков стран, регионов, городов и локаций.
+ * Версия строится из данных самих таблиц, поэтому общая для всех экземпляров сервиса
+ * и не требует отдельной записи при изменениях
+ */
+@Transactional(readOnly = true)
+public interface GeoRevisionService {
+
+    /** Версия списка для заголовка ETag */
+    String listTag(String resource);
+}
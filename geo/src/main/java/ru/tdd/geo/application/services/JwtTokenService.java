@@ -1,6 +1,5 @@
 package ru.tdd.geo.application.services;
 
-import io.jsonwebtoken.Claims;
 import ru.tdd.geo.application.models.dto.UserDTO;
 
 /**
@@ -11,14 +10,7 @@ import ru.tdd.geo.application.models.dto.UserDTO;
 public interface JwtTokenService {
 
     /**
-     * Валидация токена
+     * Проверка подписи и срока действия токена за один разбор и получение пользователя из него
      */
-    boolean validateToken(String token);
-
-    UserDTO getUser(String token);
-
-    /**
-     * Получение данных из токена
-     */
-    Claims parseToken(String token);
+    UserDTO verify(String token);
 }
@@ -1,6 +1,8 @@
 package ru.tdd.geo.application.services;
 
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import ru.tdd.core.controller.dto.ConditionalDTO;
 import ru.tdd.geo.application.models.dto.geo.location.CreateLocationDTO;
 import ru.tdd.geo.application.models.dto.geo.location.LocationDTO;
 import ru.tdd.geo.application.models.dto.geo.location.LocationsDTO;
@@ -24,8 +26,20 @@ public interface LocationService {
 
     LocationDTO getById(UUID id);
 
+    /**
+     * Получение локации по идентификатору с проверкой версии клиента.
+     * Если тег из If-None-Match совпадает с текущим, маппинг не выполняется и тело не возвращается
+     */
+    ConditionalDTO<LocationDTO> getById(UUID id, String ifNoneMatch);
+
     @Transactional
     void delete(UUID id);
 
-    LocationsDTO getAll(String name, String cityName, int page, int perPage);
+    LocationsDTO getAll(String name, String cityName, String after, int page, int perPage);
+
+    /**
+     * Автодополнение: локации города, название которых начинается с префикса, из индекса в памяти без обращения к бд
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    LocationsDTO autocomplete(String prefix, UUID cityId, int limit);
 }
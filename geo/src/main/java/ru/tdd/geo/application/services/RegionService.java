@@ -1,6 +1,7 @@
 package ru.tdd.geo.application.services;
 
 import org.springframework.transaction.annotation.Transactional;
+import ru.tdd.core.controller.dto.ConditionalDTO;
 import ru.tdd.geo.application.models.dto.geo.region.*;
 
 import java.util.UUID;
@@ -36,8 +37,14 @@ public interface RegionService {
      */
     RegionDetailsDTO getById(UUID id);
 
+    /**
+     * Получение региона по идентификатору с проверкой версии клиента.
+     * Если тег из If-None-Match совпадает с текущим, маппинг не выполняется и тело не возвращается
+     */
+    ConditionalDTO<RegionDetailsDTO> getById(UUID id, String ifNoneMatch);
+
     /**
      * Получение списка регионов с фильтрами
      */
-    RegionsDTO getAll(String name, String countryName, int page, int perPage);
+    RegionsDTO getAll(String name, String countryName, String after, int page, int perPage);
 }
@@ -1,13 +1,21 @@
 package ru.tdd.geo.application.services.imp;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import ru.tdd.core.application.exceptions.ValidationException;
+import ru.tdd.core.application.utils.EntityTag;
+import ru.tdd.core.application.utils.KeysetPage;
+import ru.tdd.core.application.utils.PageCursor;
 import ru.tdd.core.application.utils.TextUtils;
+import ru.tdd.core.controller.dto.ConditionalDTO;
+import ru.tdd.geo.application.index.GeoHierarchyIndex;
 import ru.tdd.geo.application.mappers.CityMapper;
 import ru.tdd.geo.application.mappers.LocationMapper;
 import ru.tdd.geo.application.models.dto.geo.city.*;
+import ru.tdd.geo.application.models.events.GeoHierarchyChanged;
 import ru.tdd.geo.application.models.exceptions.geo.cities.CityAlreadyExistException;
 import ru.tdd.geo.application.models.exceptions.geo.cities.CityByIdNotFoundException;
 import ru.tdd.geo.application.models.exceptions.geo.country.CountryByIdNotFoundException;
@@ -16,10 +24,13 @@ import ru.tdd.geo.application.services.CityService;
 import ru.tdd.geo.database.entities.City;
 import ru.tdd.geo.database.entities.Country;
 import ru.tdd.geo.database.entities.Region;
+import ru.tdd.geo.database.projections.CityRow;
+import ru.tdd.geo.database.projections.NameRowQueries;
 import ru.tdd.geo.database.repositories.CityRepository;
 import ru.tdd.geo.database.repositories.CountryRepository;
 import ru.tdd.geo.database.repositories.RegionRepository;
 import ru.tdd.geo.database.specifications.CitySpecification;
+import ru.tdd.geo.database.specifications.NameSpecification;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -33,6 +44,8 @@ public class CityServiceImp implements CityService {
 
     private final CityRepository cityRepository;
 
+    private final NameRowQueries nameRowQueries;
+
     private final RegionRepository regionRepository;
 
     private final CountryRepository countryRepository;
@@ -41,18 +54,31 @@ public class CityServiceImp implements CityService {
 
     private final LocationMapper locationMapper;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final GeoHierarchyIndex geoHierarchyIndex;
+
+    @Value("${geo.index.autocomplete.max-limit:50}")
+    private int maxAutocompleteLimit;
+
     public CityServiceImp(
             CityRepository cityRepository,
+            NameRowQueries nameRowQueries,
             RegionRepository regionRepository,
             CountryRepository countryRepository,
             CityMapper cityMapper,
-            LocationMapper locationMapper
+            LocationMapper locationMapper,
+            ApplicationEventPublisher eventPublisher,
+            GeoHierarchyIndex geoHierarchyIndex
     ) {
         this.cityRepository = cityRepository;
+        this.nameRowQueries = nameRowQueries;
         this.regionRepository = regionRepository;
         this.countryRepository = countryRepository;
         this.cityMapper = cityMapper;
         this.locationMapper = locationMapper;
+        this.eventPublisher = eventPublisher;
+        this.geoHierarchyIndex = geoHierarchyIndex;
     }
 
     @Override
@@ -86,6 +112,7 @@ public class CityServiceImp implements CityService {
         City city = new City(name, region, country);
 
         cityRepository.save(city);
+        eventPublisher.publishEvent(new GeoHierarchyChanged(country.getId()));
 
         return cityMapper.toDto(city);
     }
@@ -115,6 +142,8 @@ public class CityServiceImp implements CityService {
         )
             throw new CityAlreadyExistException();
 
+        UUID oldCountryId = city.getCountry().getId();
+
         if (!TextUtils.isEmpty(name))
             city.setName(name);
 
@@ -134,30 +163,81 @@ public class CityServiceImp implements CityService {
         );
 
         cityRepository.save(city);
+        eventPublisher.publishEvent(new GeoHierarchyChanged(oldCountryId, city.getCountry().getId()));
 
         return cityMapper.toDto(city);
     }
 
     @Override
     public CityDetailsDTO getById(UUID id) {
-        City city = cityRepository.findById(id).orElseThrow(CityByIdNotFoundException::new);
+        return getById(id, null).body();
+    }
+
+    @Override
+    public ConditionalDTO<CityDetailsDTO> getById(UUID id, String ifNoneMatch) {
+        City city = cityRepository.findDetailsById(id).orElseThrow(CityByIdNotFoundException::new);
+        String etag = EntityTag.of("city")
+                .add(city)
+                .add(city.getRegion())
+                .add(city.getCountry())
+                .addAll(city.getLocations())
+                .value();
+
+        if (EntityTag.matches(ifNoneMatch, etag)) {
+            return ConditionalDTO.notModified(etag);
+        }
+
         CityDetailsDTO result = cityMapper.toDetailsDto(city);
         result.setLocations(city.getLocations().stream().map(locationMapper::toDto).toList());
-        return result;
+        return new ConditionalDTO<>(etag, result);
     }
 
     @Override
     public void delete(UUID id) {
-        cityRepository.delete(cityRepository.findById(id).orElseThrow(CityByIdNotFoundException::new));
+        City city = cityRepository.findById(id).orElseThrow(CityByIdNotFoundException::new);
+
+        cityRepository.delete(city);
+        eventPublisher.publishEvent(new GeoHierarchyChanged(city.getCountry().getId()));
+    }
+
+    @Override
+    public CitiesDTO getAll(String name, String regionName, String countryName, String after, int page, int perPage) {
+        Specification<City> specification = CitySpecification.byNameRegionCityFullTextSearch(name, regionName, countryName);
+
+        if (after != null) {
+            KeysetPage<CityRow> result = nameRowQueries.findPage(
+                    CityRow.SELECTION,
+                    specification,
+                    after,
+                    perPage
+            );
+
+            return new CitiesDTO(
+                    result.content().stream()
+                            .map(cityMapper::toDto)
+                            .toList(),
+                    result.next()
+            );
+        }
+
+        return new CitiesDTO(
+                nameRowQueries.findAll(
+                                CityRow.SELECTION,
+                                specification.and(NameSpecification.orderByRelevance(name)),
+                                PageRequest.of(page, PageCursor.perPage(perPage))
+                        )
+                        .stream()
+                        .map(cityMapper::toDto)
+                        .toList()
+        );
     }
 
     @Override
-    public CitiesDTO getAll(String name, String regionName, String countryName, int page, int perPage) {
+    public CitiesDTO autocomplete(String prefix, UUID countryId, int limit) {
         return new CitiesDTO(
-                cityRepository.findAll(
-                                CitySpecification.byNameRegionCityFullTextSearch(name, regionName, countryName),
-                                PageRequest.of(page, perPage, Sort.by("name"))
-                        ).stream()
+                geoHierarchyIndex.get()
+                        .findCities(prefix, countryId, Math.max(1, Math.min(limit, maxAutocompleteLimit)))
+                        .stream()
                         .map(cityMapper::toDto)
                         .toList()
         );
@@ -1,18 +1,26 @@
 package ru.tdd.geo.application.services.imp;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import ru.tdd.core.application.utils.EntityTag;
+import ru.tdd.core.application.utils.KeysetPage;
+import ru.tdd.core.application.utils.PageCursor;
 import ru.tdd.core.application.utils.TextUtils;
+import ru.tdd.core.controller.dto.ConditionalDTO;
 import ru.tdd.geo.application.mappers.CountryMapper;
 import ru.tdd.geo.application.models.dto.geo.country.*;
 import ru.tdd.geo.application.models.enums.event.CountryOutboxEvent;
+import ru.tdd.geo.application.models.events.GeoHierarchyChanged;
 import ru.tdd.geo.application.models.exceptions.geo.country.CountryAlreadyExistsException;
 import ru.tdd.geo.application.models.exceptions.geo.country.CountryByIdNotFoundException;
 import ru.tdd.geo.application.services.CountryService;
 import ru.tdd.geo.application.services.imp.kafka.CountryKafkaService;
 import ru.tdd.geo.database.entities.Country;
+import ru.tdd.geo.database.projections.CountryRow;
+import ru.tdd.geo.database.projections.NameRowQueries;
 import ru.tdd.geo.database.repositories.CountryRepository;
 import ru.tdd.geo.database.specifications.NameSpecification;
 
@@ -27,17 +35,26 @@ public class CountryServiceImp implements CountryService {
 
     private final CountryRepository countryRepository;
 
+    private final NameRowQueries nameRowQueries;
+
     private final CountryKafkaService countryKafkaService;
+
     private final CountryMapper countryMapper;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     @Autowired
     public CountryServiceImp(
             CountryRepository countryRepository,
+            NameRowQueries nameRowQueries,
             CountryKafkaService countryKafkaService,
-            CountryMapper countryMapper) {
+            CountryMapper countryMapper,
+            ApplicationEventPublisher eventPublisher) {
         this.countryRepository = countryRepository;
+        this.nameRowQueries = nameRowQueries;
         this.countryKafkaService = countryKafkaService;
         this.countryMapper = countryMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -49,6 +66,7 @@ public class CountryServiceImp implements CountryService {
         Country country = new Country(name);
         countryRepository.save(country);
         countryKafkaService.send(CountryOutboxEvent.CREATE, country);
+        eventPublisher.publishEvent(new GeoHierarchyChanged(country.getId()));
 
         return countryMapper.toDto(country);
     }
@@ -70,6 +88,7 @@ public class CountryServiceImp implements CountryService {
 
         countryRepository.save(country);
         countryKafkaService.send(CountryOutboxEvent.UPDATE, country);
+        eventPublisher.publishEvent(new GeoHierarchyChanged(country.getId()));
 
         return countryMapper.toDto(country);
     }
@@ -81,20 +100,52 @@ public class CountryServiceImp implements CountryService {
 
         countryRepository.delete(country);
         countryKafkaService.send(CountryOutboxEvent.DELETE, country);
+        eventPublisher.publishEvent(new GeoHierarchyChanged(country.getId()));
     }
 
     @Override
     public CountryDetailsDTO getById(UUID id) {
-        return countryMapper.toDetailsDto(countryRepository.findById(id)
-                .orElseThrow(CountryByIdNotFoundException::new));
+        return getById(id, null).body();
+    }
+
+    @Override
+    public ConditionalDTO<CountryDetailsDTO> getById(UUID id, String ifNoneMatch) {
+        Country country = countryRepository.findDetailsById(id).orElseThrow(CountryByIdNotFoundException::new);
+        String etag = EntityTag.of("country")
+                .add(country)
+                .addAll(country.getRegions())
+                .value();
+
+        return EntityTag.matches(ifNoneMatch, etag) ?
+                ConditionalDTO.notModified(etag) :
+                new ConditionalDTO<>(etag, countryMapper.toDetailsDto(country));
     }
 
     @Override
-    public CountriesDTO getAll(String name, int page, int perPage) {
+    public CountriesDTO getAll(String name, String after, int page, int perPage) {
+        Specification<Country> specification = NameSpecification.byNameWithFullTextSearch(name);
+
+        if (after != null) {
+            KeysetPage<CountryRow> result = nameRowQueries.findPage(
+                    CountryRow.SELECTION,
+                    specification,
+                    after,
+                    perPage
+            );
+
+            return new CountriesDTO(
+                    result.content().stream()
+                            .map(countryMapper::toDto)
+                            .toList(),
+                    result.next()
+            );
+        }
+
         return new CountriesDTO(
-                countryRepository.findAll(
-                                NameSpecification.byNameWithFullTextSearch(name),
-                                PageRequest.of(page, perPage, Sort.by("name"))
+                nameRowQueries.findAll(
+                                CountryRow.SELECTION,
+                                specification.and(NameSpecification.orderByRelevance(name)),
+                                PageRequest.of(page, PageCursor.perPage(perPage))
                         )
                         .stream()
                         .map(countryMapper::toDto)
@@ -0,0 +1,95 @@
+package ru.tdd.geo.application.services.imp;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import ru.tdd.geo.application.mappers.CityMapper;
+import ru.tdd.geo.application.mappers.LocationMapper;
+import ru.tdd.geo.application.services.GeoExportService;
+import ru.tdd.geo.database.repositories.CityRepository;
+import ru.tdd.geo.database.repositories.LocationRepository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Выгрузка читает строки курсором и сразу пишет их в ответ.
+ * Каждые CHUNK_SIZE строк ответ сбрасывается клиенту, а контекст персистентности очищается,
+ * поэтому память не зависит от размера справочника
+ */
+@Service
+public class GeoExportServiceImp implements GeoExportService {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final CityRepository cityRepository;
+
+    private final LocationRepository locationRepository;
+
+    private final CityMapper cityMapper;
+
+    private final LocationMapper locationMapper;
+
+    private final ObjectMapper objectMapper;
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    public GeoExportServiceImp(
+            CityRepository cityRepository,
+            LocationRepository locationRepository,
+            CityMapper cityMapper,
+            LocationMapper locationMapper,
+            ObjectMapper objectMapper,
+            EntityManager entityManager
+    ) {
+        this.cityRepository = cityRepository;
+        this.locationRepository = locationRepository;
+        this.cityMapper = cityMapper;
+        this.locationMapper = locationMapper;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void exportCities(OutputStream out) {
+        try (Stream<?> cities = cityRepository.streamAll().map(cityMapper::toDto)) {
+            write(cities, out);
+        }
+    }
+
+    @Override
+    public void exportLocations(OutputStream out) {
+        try (Stream<?> locations = locationRepository.streamAll().map(locationMapper::toDto)) {
+            write(locations, out);
+        }
+    }
+
+    private void write(Stream<?> rows, OutputStream out) {
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            Iterator<?> iterator = rows.iterator();
+            int count = 0;
+
+            while (iterator.hasNext()) {
+                generator.writeObject(iterator.next());
+                generator.writeRaw('\n');
+
+                if (++count % CHUNK_SIZE == 0) {
+                    generator.flush();
+                    entityManager.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,531 @@
+package ru.tdd.geo.application.services.imp;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.tdd.core.application.utils.TextUtils;
+import ru.tdd.geo.application.models.dto.geo.bulk.ImportErrorDTO;
+import ru.tdd.geo.application.models.dto.geo.bulk.ImportResultDTO;
+import ru.tdd.geo.application.models.dto.geo.bulk.ImportRowDTO;
+import ru.tdd.geo.application.models.enums.ImportRowType;
+import ru.tdd.geo.application.models.enums.event.CountryOutboxEvent;
+import ru.tdd.geo.application.models.events.GeoHierarchyChanged;
+import ru.tdd.geo.application.services.GeoImportService;
+import ru.tdd.geo.application.services.imp.kafka.CountryKafkaService;
+import ru.tdd.geo.database.entities.City;
+import ru.tdd.geo.database.entities.Country;
+import ru.tdd.geo.database.entities.Location;
+import ru.tdd.geo.database.entities.Region;
+import ru.tdd.geo.database.repositories.CityRepository;
+import ru.tdd.geo.database.repositories.CountryRepository;
+import ru.tdd.geo.database.repositories.LocationRepository;
+import ru.tdd.geo.database.repositories.RegionRepository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Входные данные читаются потоком и импортируются порциями по chunk-size строк, каждая порция в своей транзакции.
+ * Внутри порции уровни иерархии обрабатываются по очереди: родители ищутся одним запросом на уровень,
+ * уже существующие объекты отсеиваются тем же запросом по уникальным ключам, новые сохраняются
+ * батчами JDBC (hibernate.jdbc.batch_size, order_inserts)
+ */
+@Service
+public class GeoImportServiceImp implements GeoImportService {
+
+    private final CountryRepository countryRepository;
+
+    private final RegionRepository regionRepository;
+
+    private final CityRepository cityRepository;
+
+    private final LocationRepository locationRepository;
+
+    private final CountryKafkaService countryKafkaService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectReader ndjsonReader;
+
+    private final ObjectReader csvReader;
+
+    @Value("${geo.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${geo.import.max-errors:1000}")
+    private int maxErrors;
+
+    @Autowired
+    public GeoImportServiceImp(
+            CountryRepository countryRepository,
+            RegionRepository regionRepository,
+            CityRepository cityRepository,
+            LocationRepository locationRepository,
+            CountryKafkaService countryKafkaService,
+            ApplicationEventPublisher eventPublisher,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper
+    ) {
+        this.countryRepository = countryRepository;
+        this.regionRepository = regionRepository;
+        this.cityRepository = cityRepository;
+        this.locationRepository = locationRepository;
+        this.countryKafkaService = countryKafkaService;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ndjsonReader = objectMapper.readerFor(ImportRowDTO.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.csvReader = new CsvMapper().readerFor(ImportRowDTO.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @Override
+    public ImportResultDTO importNdjson(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        long[] line = {0};
+
+        return importRows(() -> {
+            String text;
+
+            do {
+                text = reader.readLine();
+                line[0]++;
+            } while (text != null && text.isBlank());
+
+            if (text == null) {
+                return null;
+            }
+
+            try {
+                return ImportRow.of(line[0], ndjsonReader.readValue(text));
+            } catch (JsonProcessingException e) {
+                return ImportRow.error(line[0], "Некорректная строка JSON");
+            }
+        });
+    }
+
+    @Override
+    public ImportResultDTO importCsv(InputStream in) throws IOException {
+        MappingIterator<ImportRowDTO> iterator = csvReader.readValues(in);
+        long[] line = {1};
+
+        return importRows(() -> {
+            if (!iterator.hasNextValue()) {
+                return null;
+            }
+
+            line[0]++;
+
+            try {
+                return ImportRow.of(line[0], iterator.nextValue());
+            } catch (JsonProcessingException e) {
+                return ImportRow.error(line[0], "Некорректная строка CSV");
+            }
+        });
+    }
+
+    private ImportResultDTO importRows(RowSource source) throws IOException {
+        ImportResultDTO result = new ImportResultDTO();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        ImportRow row;
+
+        while ((row = source.next()) != null) {
+            if (row.error() != null) {
+                addError(result, row.line(), row.error());
+            } else {
+                chunk.add(row);
+            }
+
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, result);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, result);
+        }
+
+        result.getErrors().sort(Comparator.comparingLong(ImportErrorDTO::getLine));
+
+        return result;
+    }
+
+    /**
+     * Импорт порции в отдельной транзакции.
+     * Если порция не сохранилась целиком, например из-за параллельной вставки тех же объектов,
+     * все ее строки считаются ошибочными, предыдущие порции остаются сохраненными
+     */
+    private void importChunk(List<ImportRow> rows, ImportResultDTO result) {
+        ChunkImport chunk;
+
+        try {
+            chunk = transactionTemplate.execute(status -> new ChunkImport(rows).run());
+        } catch (DataAccessException | PersistenceException | TransactionException e) {
+            String message = "Порция строк не сохранена: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            rows.forEach(row -> addError(result, row.line(), message));
+            return;
+        }
+
+        result.setCreated(result.getCreated() + chunk.created);
+        result.setSkipped(result.getSkipped() + chunk.skipped);
+        chunk.errors.forEach((line, message) -> addError(result, line, message));
+    }
+
+    private void addError(ImportResultDTO result, long line, String message) {
+        result.setFailed(result.getFailed() + 1);
+
+        if (result.getErrors().size() < maxErrors) {
+            result.getErrors().add(new ImportErrorDTO(line, message));
+        }
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase();
+    }
+
+    /**
+     * Импорт одной порции строк. Строка с ошибкой исключается из обработки следующих уровней
+     */
+    private final class ChunkImport {
+
+        private final List<ImportRow> rows;
+
+        private final Map<Long, String> errors = new HashMap<>();
+
+        private final Set<UUID> changedCountryIds = new HashSet<>();
+
+        private Map<String, Country> countries = Map.of();
+
+        private Map<RegionKey, Region> regions = Map.of();
+
+        private Map<CityKey, City> cities = Map.of();
+
+        private long created;
+
+        private long skipped;
+
+        private ChunkImport(List<ImportRow> rows) {
+            this.rows = new ArrayList<>(rows);
+        }
+
+        private ChunkImport run() {
+            importCountries();
+            importRegions();
+            importCities();
+            importLocations();
+
+            entityManager.flush();
+            entityManager.clear();
+
+            if (!changedCountryIds.isEmpty()) {
+                eventPublisher.publishEvent(new GeoHierarchyChanged(changedCountryIds.toArray(UUID[]::new)));
+            }
+
+            return this;
+        }
+
+        private void importCountries() {
+            Set<String> names = rows.stream()
+                    .map(row -> key(row.type() == ImportRowType.COUNTRY ? row.name() : row.country()))
+                    .collect(Collectors.toSet());
+
+            countries = countryRepository.findAllByLowerNameIn(names).stream()
+                    .collect(Collectors.toMap(country -> key(country.getName()), Function.identity(), (a, b) -> a));
+
+            List<Country> newCountries = new ArrayList<>();
+
+            for (ImportRow row : rows) {
+                if (row.type() == ImportRowType.COUNTRY) {
+                    if (countries.containsKey(key(row.name()))) {
+                        skipped++;
+                    } else {
+                        Country country = new Country(row.name());
+                        countries.put(key(row.name()), country);
+                        newCountries.add(country);
+                    }
+                } else if (!countries.containsKey(key(row.country()))) {
+                    errors.put(row.line(), "Страна " + row.country() + " не найдена");
+                }
+            }
+
+            countryRepository.saveAll(newCountries);
+            newCountries.forEach(country -> {
+                countryKafkaService.send(CountryOutboxEvent.CREATE, country);
+                changedCountryIds.add(country.getId());
+            });
+            created += newCountries.size();
+            dropFailedRows();
+        }
+
+        private void importRegions() {
+            List<ImportRow> regionRows = rows.stream()
+                    .filter(row -> row.type() == ImportRowType.REGION || row.region() != null)
+                    .toList();
+
+            if (regionRows.isEmpty()) {
+                return;
+            }
+
+            regions = regionRepository.findAllByCountryIdInAndLowerNameIn(
+                            regionRows.stream().map(row -> country(row).getId()).collect(Collectors.toSet()),
+                            regionRows.stream()
+                                    .map(row -> key(row.type() == ImportRowType.REGION ? row.name() : row.region()))
+                                    .collect(Collectors.toSet())
+                    ).stream()
+                    .collect(Collectors.toMap(
+                            region -> new RegionKey(region.getCountry().getId(), key(region.getName())),
+                            Function.identity(),
+                            (a, b) -> a
+                    ));
+
+            List<Region> newRegions = new ArrayList<>();
+
+            for (ImportRow row : regionRows) {
+                Country country = country(row);
+
+                if (row.type() == ImportRowType.REGION) {
+                    RegionKey key = new RegionKey(country.getId(), key(row.name()));
+
+                    if (regions.containsKey(key)) {
+                        skipped++;
+                    } else {
+                        Region region = new Region(row.name(), country);
+                        regions.put(key, region);
+                        newRegions.add(region);
+                    }
+                } else if (region(row) == null) {
+                    errors.put(row.line(), "Регион " + row.region() + " не найден");
+                }
+            }
+
+            saveAll(regionRepository::saveAll, newRegions, region -> region.getCountry().getId());
+            dropFailedRows();
+        }
+
+        private void importCities() {
+            List<ImportRow> cityRows = rows.stream()
+                    .filter(row -> row.type() == ImportRowType.CITY || row.type() == ImportRowType.LOCATION)
+                    .toList();
+
+            if (cityRows.isEmpty()) {
+                return;
+            }
+
+            cities = cityRepository.findAllByCountryIdInAndLowerNameIn(
+                            cityRows.stream().map(row -> country(row).getId()).collect(Collectors.toSet()),
+                            cityRows.stream()
+                                    .map(row -> key(row.type() == ImportRowType.CITY ? row.name() : row.city()))
+                                    .collect(Collectors.toSet())
+                    ).stream()
+                    .collect(Collectors.toMap(
+                            city -> new CityKey(
+                                    city.getCountry().getId(),
+                                    city.getRegion() == null ? null : city.getRegion().getId(),
+                                    key(city.getName())
+                            ),
+                            Function.identity(),
+                            (a, b) -> a
+                    ));
+
+            List<City> newCities = new ArrayList<>();
+
+            for (ImportRow row : cityRows) {
+                if (row.type() == ImportRowType.CITY) {
+                    Country country = country(row);
+                    Region region = region(row);
+                    CityKey key = new CityKey(country.getId(), region == null ? null : region.getId(), key(row.name()));
+
+                    if (cities.containsKey(key)) {
+                        skipped++;
+                    } else {
+                        City city = new City(row.name(), region, country);
+                        cities.put(key, city);
+                        newCities.add(city);
+                    }
+                } else if (city(row) == null) {
+                    errors.put(row.line(), "Город " + row.city() + " не найден");
+                }
+            }
+
+            saveAll(cityRepository::saveAll, newCities, city -> city.getCountry().getId());
+            dropFailedRows();
+        }
+
+        private void importLocations() {
+            List<ImportRow> locationRows = rows.stream()
+                    .filter(row -> row.type() == ImportRowType.LOCATION)
+                    .toList();
+
+            if (locationRows.isEmpty()) {
+                return;
+            }
+
+            Map<LocationKey, Location> locations = locationRepository.findAllByCityIdInAndLowerNameIn(
+                            locationRows.stream().map(row -> city(row).getId()).collect(Collectors.toSet()),
+                            locationRows.stream().map(row -> key(row.name())).collect(Collectors.toSet())
+                    ).stream()
+                    .collect(Collectors.toMap(
+                            location -> new LocationKey(location.getCity().getId(), key(location.getName())),
+                            Function.identity(),
+                            (a, b) -> a
+                    ));
+
+            List<Location> newLocations = new ArrayList<>();
+
+            for (ImportRow row : locationRows) {
+                City city = city(row);
+                LocationKey key = new LocationKey(city.getId(), key(row.name()));
+
+                if (locations.containsKey(key)) {
+                    skipped++;
+                } else {
+                    Location location = new Location(row.name(), city);
+                    locations.put(key, location);
+                    newLocations.add(location);
+                }
+            }
+
+            saveAll(locationRepository::saveAll, newLocations, location -> location.getCity().getCountry().getId());
+        }
+
+        private <T> void saveAll(Function<List<T>, ?> repository, List<T> entities, Function<T, UUID> countryId) {
+            repository.apply(entities);
+            entities.forEach(entity -> changedCountryIds.add(countryId.apply(entity)));
+            created += entities.size();
+        }
+
+        private Country country(ImportRow row) {
+            return countries.get(key(row.country()));
+        }
+
+        private Region region(ImportRow row) {
+            return row.region() == null ?
+                    null :
+                    regions.get(new RegionKey(country(row).getId(), key(row.region())));
+        }
+
+        private City city(ImportRow row) {
+            Region region = region(row);
+
+            return cities.get(new CityKey(
+                    country(row).getId(),
+                    region == null ? null : region.getId(),
+                    key(row.city())
+            ));
+        }
+
+        private void dropFailedRows() {
+            rows.removeIf(row -> errors.containsKey(row.line()));
+        }
+    }
+
+    /**
+     * Провалидированная строка импорта или ошибка ее разбора
+     */
+    private record ImportRow(
+            long line,
+            ImportRowType type,
+            String name,
+            String country,
+            String region,
+            String city,
+            String error
+    ) {
+
+        static ImportRow of(long line, ImportRowDTO dto) {
+            if (dto == null)
+                return error(line, "Пустая строка импорта");
+
+            ImportRowType type;
+
+            try {
+                type = ImportRowType.valueOf(Objects.requireNonNullElse(dto.getType(), "").trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return error(line, "Неизвестный тип строки " + dto.getType());
+            }
+
+            String name = normalize(dto.getName());
+            String country = normalize(dto.getCountry());
+            String city = normalize(dto.getCity());
+
+            if (name == null)
+                return error(line, "Не указано название");
+
+            if (type != ImportRowType.COUNTRY && country == null)
+                return error(line, "Не указана страна");
+
+            if (type == ImportRowType.LOCATION && city == null)
+                return error(line, "Не указан город");
+
+            return new ImportRow(
+                    line,
+                    type,
+                    name,
+                    country,
+                    type == ImportRowType.CITY || type == ImportRowType.LOCATION ? normalize(dto.getRegion()) : null,
+                    city,
+                    null
+            );
+        }
+
+        static ImportRow error(long line, String error) {
+            return new ImportRow(line, null, null, null, null, null, error);
+        }
+
+        private static String normalize(String value) {
+            return TextUtils.isEmpty(value) || value.isBlank() ? null : value.trim();
+        }
+    }
+
+    private record RegionKey(UUID countryId, String name) {}
+
+    private record CityKey(UUID countryId, UUID regionId, String name) {}
+
+    private record LocationKey(UUID cityId, String name) {}
+
+    @FunctionalInterface
+    private interface RowSource {
+
+        /** Следующая строка или null, если данные закончились */
+        ImportRow next() throws IOException;
+    }
+}
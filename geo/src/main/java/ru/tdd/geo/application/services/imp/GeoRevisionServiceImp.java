@@ -0,0 +1,72 @@
+package ru.tdd.geo.application.services.imp;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import ru.tdd.core.application.utils.EntityTag;
+import ru.tdd.geo.application.services.GeoRevisionService;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Версия списка - время последнего изменения и число строк каждой таблицы, данные которой попадают в список.
+ * Изменение обновляет update_time строки, удаление меняет число строк, поэтому записи не трогают общую строку
+ * и не ждут друг друга, а max(update_time) читается по индексу
+ */
+@Service
+public class GeoRevisionServiceImp implements GeoRevisionService {
+
+    /** Таблицы, из которых собираются строки списка: у города в списке есть названия региона и страны */
+    private static final Map<String, List<String>> LIST_TABLES = Map.of(
+            "countries", List.of("country"),
+            "regions", List.of("region", "country"),
+            "cities", List.of("city", "region", "country"),
+            "locations", List.of("location", "city", "region", "country")
+    );
+
+    private static final Map<String, String> LIST_SQL = LIST_TABLES.entrySet()
+            .stream()
+            .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> selectSql(entry.getValue())));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public GeoRevisionServiceImp(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    private static String selectSql(List<String> tables) {
+        return tables.stream()
+                .map(table -> "(SELECT max(update_time) FROM " + table + "), (SELECT count(*) FROM " + table + ")")
+                .collect(Collectors.joining(", ", "SELECT ", ""));
+    }
+
+    @Override
+    public String listTag(String resource) {
+        String sql = LIST_SQL.get(resource);
+
+        if (sql == null) {
+            throw new IllegalArgumentException("Unknown list resource: " + resource);
+        }
+
+        int tables = LIST_TABLES.get(resource).size();
+
+        return jdbcTemplate.query(sql, rs -> {
+            EntityTag tag = EntityTag.of(resource);
+
+            if (rs.next()) {
+                for (int i = 1; i <= tables * 2; i += 2) {
+                    Timestamp updateTime = rs.getTimestamp(i);
+                    tag.add(updateTime == null ? null : updateTime.toLocalDateTime()).add(rs.getLong(i + 1));
+                }
+            }
+
+            return tag.value();
+        });
+    }
+}
@@ -1,58 +1,60 @@
 package ru.tdd.geo.application.services.imp;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import ru.tdd.core.application.exceptions.ApiException;
 import ru.tdd.geo.application.models.dto.UserDTO;
 import ru.tdd.geo.application.models.enums.Role;
 import ru.tdd.geo.application.services.JwtTokenService;
 
-import javax.crypto.SecretKey;
-import java.util.Arrays;
-import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * @author Tribushko Danil
  * @since 05.01.2026
+ * Ключ подписи декодируется, а парсер собирается один раз при создании сервиса, парсер потокобезопасен
  */
 @Service
 public class JwtTokenServiceImp implements JwtTokenService {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final JwtParser parser;
 
-    @Override
-    public boolean validateToken(String token) {
-        return parseToken(token).getExpiration().after(new Date());
+    @Autowired
+    public JwtTokenServiceImp(@Value("${jwt.secret}") String secret) {
+        this.parser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)))
+                .build();
     }
 
     @Override
-    public UserDTO getUser(String token) {
-        Claims claims = parseToken(token);
+    public UserDTO verify(String token) {
+        Claims claims;
+
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new ApiException(HttpStatus.UNAUTHORIZED, "Токен не валидный");
+        }
+
+        if (claims.getExpiration() == null)
+            throw new ApiException(HttpStatus.UNAUTHORIZED, "Токен не валидный");
+
         List<String> stringRoles = claims.get("roles", List.class);
         return new UserDTO(
                 UUID.fromString(claims.get("id", String.class)),
                 claims.get("chatId", Long.class),
                 claims.getSubject(),
-                stringRoles.stream().map(Role::valueOf).toList()
+                stringRoles.stream().map(Role::valueOf).toList(),
+                claims.getExpiration().toInstant()
         );
     }
-
-    @Override
-    public Claims parseToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSecretKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private SecretKey getSecretKey() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
-    }
 }
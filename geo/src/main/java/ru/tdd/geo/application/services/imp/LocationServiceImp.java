@@ -1,23 +1,35 @@
 package ru.tdd.geo.application.services.imp;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import ru.tdd.core.application.utils.EntityTag;
+import ru.tdd.core.application.utils.KeysetPage;
+import ru.tdd.core.application.utils.PageCursor;
 import ru.tdd.core.application.utils.TextUtils;
+import ru.tdd.core.controller.dto.ConditionalDTO;
+import ru.tdd.geo.application.index.GeoHierarchyIndex;
 import ru.tdd.geo.application.mappers.LocationMapper;
 import ru.tdd.geo.application.models.dto.geo.location.CreateLocationDTO;
 import ru.tdd.geo.application.models.dto.geo.location.LocationDTO;
 import ru.tdd.geo.application.models.dto.geo.location.LocationsDTO;
 import ru.tdd.geo.application.models.dto.geo.location.UpdateLocationDTO;
+import ru.tdd.geo.application.models.events.GeoHierarchyChanged;
 import ru.tdd.geo.application.models.exceptions.geo.cities.CityByIdNotFoundException;
 import ru.tdd.geo.application.models.exceptions.geo.locations.LocationAlreadyExistsException;
 import ru.tdd.geo.application.models.exceptions.geo.locations.LocationByIdNotFoundException;
 import ru.tdd.geo.application.services.LocationService;
 import ru.tdd.geo.database.entities.City;
 import ru.tdd.geo.database.entities.Location;
+import ru.tdd.geo.database.projections.LocationRow;
+import ru.tdd.geo.database.projections.NameRowQueries;
 import ru.tdd.geo.database.repositories.CityRepository;
 import ru.tdd.geo.database.repositories.LocationRepository;
 import ru.tdd.geo.database.specifications.LocationSpecification;
+import ru.tdd.geo.database.specifications.NameSpecification;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -31,19 +43,34 @@ public class LocationServiceImp implements LocationService {
 
     private final LocationRepository locationRepository;
 
+    private final NameRowQueries nameRowQueries;
+
     private final CityRepository cityRepository;
 
     private final LocationMapper locationMapper;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final GeoHierarchyIndex geoHierarchyIndex;
+
+    @Value("${geo.index.autocomplete.max-limit:50}")
+    private int maxAutocompleteLimit;
+
     @Autowired
     public LocationServiceImp(
             LocationRepository locationRepository,
+            NameRowQueries nameRowQueries,
             CityRepository cityRepository,
-            LocationMapper locationMapper
+            LocationMapper locationMapper,
+            ApplicationEventPublisher eventPublisher,
+            GeoHierarchyIndex geoHierarchyIndex
     ) {
         this.locationRepository = locationRepository;
+        this.nameRowQueries = nameRowQueries;
         this.cityRepository = cityRepository;
         this.locationMapper = locationMapper;
+        this.eventPublisher = eventPublisher;
+        this.geoHierarchyIndex = geoHierarchyIndex;
     }
 
     @Override
@@ -59,6 +86,7 @@ public class LocationServiceImp implements LocationService {
         Location location = new Location(name, city);
 
         locationRepository.save(location);
+        eventPublisher.publishEvent(new GeoHierarchyChanged(city.getCountry().getId()));
 
         return  locationMapper.toDto(location);
     }
@@ -80,6 +108,8 @@ public class LocationServiceImp implements LocationService {
         )
             throw new LocationAlreadyExistsException();
 
+        UUID oldCountryId = location.getCity().getCountry().getId();
+
         if (!TextUtils.isEmpty(name))
             location.setName(name);
 
@@ -89,27 +119,76 @@ public class LocationServiceImp implements LocationService {
         });
 
         locationRepository.save(location);
+        eventPublisher.publishEvent(new GeoHierarchyChanged(oldCountryId, location.getCity().getCountry().getId()));
 
         return locationMapper.toDto(location);
     }
 
     @Override
     public LocationDTO getById(UUID id) {
-        return locationMapper.toDto(locationRepository.findById(id).orElseThrow(LocationByIdNotFoundException::new));
+        return getById(id, null).body();
+    }
+
+    @Override
+    public ConditionalDTO<LocationDTO> getById(UUID id, String ifNoneMatch) {
+        Location location = locationRepository.findDetailsById(id).orElseThrow(LocationByIdNotFoundException::new);
+        String etag = EntityTag.of("location")
+                .add(location)
+                .add(location.getCity())
+                .add(location.getCity().getRegion())
+                .add(location.getCity().getCountry())
+                .value();
+
+        return EntityTag.matches(ifNoneMatch, etag) ?
+                ConditionalDTO.notModified(etag) :
+                new ConditionalDTO<>(etag, locationMapper.toDto(location));
     }
 
     @Override
     public void delete(UUID id) {
-        locationRepository.delete(locationRepository.findById(id).orElseThrow(LocationByIdNotFoundException::new));
+        Location location = locationRepository.findById(id).orElseThrow(LocationByIdNotFoundException::new);
+
+        locationRepository.delete(location);
+        eventPublisher.publishEvent(new GeoHierarchyChanged(location.getCity().getCountry().getId()));
     }
 
     @Override
-    public LocationsDTO getAll(String name, String cityName, int page, int perPage) {
+    public LocationsDTO getAll(String name, String cityName, String after, int page, int perPage) {
+        Specification<Location> specification = LocationSpecification.byNameAndCityNameFulltextSearch(name, cityName);
+
+        if (after != null) {
+            KeysetPage<LocationRow> result = nameRowQueries.findPage(
+                    LocationRow.SELECTION,
+                    specification,
+                    after,
+                    perPage
+            );
+
+            return new LocationsDTO(
+                    result.content().stream()
+                            .map(locationMapper::toDto)
+                            .toList(),
+                    result.next()
+            );
+        }
+
         return new LocationsDTO(
-                locationRepository.findAll(
-                        LocationSpecification.byNameAndCityNameFulltextSearch(name, cityName),
-                        PageRequest.of(page, perPage)
-                )
+                nameRowQueries.findAll(
+                                LocationRow.SELECTION,
+                                specification.and(NameSpecification.orderByRelevance(name)),
+                                PageRequest.of(page, PageCursor.perPage(perPage))
+                        )
+                        .stream()
+                        .map(locationMapper::toDto)
+                        .toList()
+        );
+    }
+
+    @Override
+    public LocationsDTO autocomplete(String prefix, UUID cityId, int limit) {
+        return new LocationsDTO(
+                geoHierarchyIndex.get()
+                        .findLocations(prefix, cityId, Math.max(1, Math.min(limit, maxAutocompleteLimit)))
                         .stream()
                         .map(locationMapper::toDto)
                         .toList()
@@ -1,20 +1,29 @@
 package ru.tdd.geo.application.services.imp;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import ru.tdd.core.application.utils.EntityTag;
+import ru.tdd.core.application.utils.KeysetPage;
+import ru.tdd.core.application.utils.PageCursor;
 import ru.tdd.core.application.utils.TextUtils;
+import ru.tdd.core.controller.dto.ConditionalDTO;
 import ru.tdd.geo.application.mappers.RegionMapper;
 import ru.tdd.geo.application.models.dto.geo.region.*;
+import ru.tdd.geo.application.models.events.GeoHierarchyChanged;
 import ru.tdd.geo.application.models.exceptions.geo.country.CountryByIdNotFoundException;
 import ru.tdd.geo.application.models.exceptions.geo.region.RegionAlreadyExistsException;
 import ru.tdd.geo.application.models.exceptions.geo.region.RegionByIdNotFoundException;
 import ru.tdd.geo.application.services.RegionService;
 import ru.tdd.geo.database.entities.Country;
 import ru.tdd.geo.database.entities.Region;
+import ru.tdd.geo.database.projections.NameRowQueries;
+import ru.tdd.geo.database.projections.RegionRow;
 import ru.tdd.geo.database.repositories.CountryRepository;
 import ru.tdd.geo.database.repositories.RegionRepository;
+import ru.tdd.geo.database.specifications.NameSpecification;
 import ru.tdd.geo.database.specifications.RegionSpecification;
 
 import java.util.Optional;
@@ -29,19 +38,27 @@ public class RegionServiceImp implements RegionService {
 
     private final RegionRepository regionRepository;
 
+    private final NameRowQueries nameRowQueries;
+
     private final CountryRepository countryRepository;
 
     private final RegionMapper regionMapper;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     @Autowired
     public RegionServiceImp(
             RegionRepository regionRepository,
+            NameRowQueries nameRowQueries,
             CountryRepository countryRepository,
-            RegionMapper regionMapper
+            RegionMapper regionMapper,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.regionRepository = regionRepository;
+        this.nameRowQueries = nameRowQueries;
         this.countryRepository = countryRepository;
         this.regionMapper = regionMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -58,6 +75,7 @@ public class RegionServiceImp implements RegionService {
         Region region = new Region(name, country);
 
         regionRepository.save(region);
+        eventPublisher.publishEvent(new GeoHierarchyChanged(country.getId()));
 
         return regionMapper.toDto(region);
     }
@@ -78,8 +96,9 @@ public class RegionServiceImp implements RegionService {
                 newName, newCountryId)))
             throw new RegionAlreadyExistsException();
 
-        region.setName(newName);
+        UUID oldCountryId = region.getCountry().getId();
 
+        region.setName(newName);
 
         if (countryId != null) {
             region.setCountry(countryRepository.findById(countryId)
@@ -87,30 +106,68 @@ public class RegionServiceImp implements RegionService {
         }
 
         regionRepository.save(region);
+        eventPublisher.publishEvent(new GeoHierarchyChanged(oldCountryId, region.getCountry().getId()));
 
         return regionMapper.toDto(region);
     }
 
     @Override
     public void delete(UUID id) {
-        regionRepository.delete(
-                regionRepository.findById(id)
-                        .orElseThrow(RegionByIdNotFoundException::new)
-        );
+        Region region = regionRepository.findById(id)
+                .orElseThrow(RegionByIdNotFoundException::new);
+
+        regionRepository.delete(region);
+        eventPublisher.publishEvent(new GeoHierarchyChanged(region.getCountry().getId()));
     }
 
     @Override
     public RegionDetailsDTO getById(UUID id) {
-        return regionMapper.toDetailsDto(regionRepository.findById(id).orElseThrow(RegionByIdNotFoundException::new));
+        return getById(id, null).body();
+    }
+
+    @Override
+    public ConditionalDTO<RegionDetailsDTO> getById(UUID id, String ifNoneMatch) {
+        Region region = regionRepository.findDetailsById(id).orElseThrow(RegionByIdNotFoundException::new);
+        String etag = EntityTag.of("region")
+                .add(region)
+                .add(region.getCountry())
+                .addAll(region.getCities())
+                .value();
+
+        return EntityTag.matches(ifNoneMatch, etag) ?
+                ConditionalDTO.notModified(etag) :
+                new ConditionalDTO<>(etag, regionMapper.toDetailsDto(region));
     }
 
     @Override
-    public RegionsDTO getAll(String name, String countryName, int page, int perPage) {
+    public RegionsDTO getAll(String name, String countryName, String after, int page, int perPage) {
+        Specification<Region> specification = RegionSpecification.byNameAndCountryNameFullTextSearch(name, countryName);
+
+        if (after != null) {
+            KeysetPage<RegionRow> result = nameRowQueries.findPage(
+                    RegionRow.SELECTION,
+                    specification,
+                    after,
+                    perPage
+            );
+
+            return new RegionsDTO(
+                    result.content().stream()
+                            .map(regionMapper::toDto)
+                            .toList(),
+                    result.next()
+            );
+        }
+
         return new RegionsDTO(
-                regionRepository.findAll(
-                        RegionSpecification.byNameAndCountryNameFullTextSearch(name, countryName),
-                        PageRequest.of(page, perPage, Sort.by(Sort.Order.by("name")))
-                ).map(regionMapper::toDto).toList()
+                nameRowQueries.findAll(
+                                RegionRow.SELECTION,
+                                specification.and(NameSpecification.orderByRelevance(name)),
+                                PageRequest.of(page, PageCursor.perPage(perPage))
+                        )
+                        .stream()
+                        .map(regionMapper::toDto)
+                        .toList()
         );
     }
 }
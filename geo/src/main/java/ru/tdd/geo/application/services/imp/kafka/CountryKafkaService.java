@@ -3,12 +3,14 @@ package ru.tdd.geo.application.services.imp.kafka;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import ru.tdd.core.controller.redis.kafka.KafkaService;
 import ru.tdd.core.database.entities.kafka.OutboxEvent;
 import ru.tdd.core.database.repositories.OutboxEventRepository;
 import ru.tdd.geo.application.mappers.CountryMapper;
 import ru.tdd.geo.application.models.enums.event.CountryOutboxEvent;
+import ru.tdd.geo.application.models.events.OutboxEventCreated;
 import ru.tdd.geo.database.entities.Country;
 
 import java.time.LocalDateTime;
@@ -27,15 +29,19 @@ public class CountryKafkaService implements KafkaService<CountryOutboxEvent, Cou
 
     private final ObjectMapper objectMapper;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     @Autowired
     public CountryKafkaService(
             OutboxEventRepository outboxEventRepository,
             CountryMapper countryMapper,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.outboxEventRepository = outboxEventRepository;
         this.countryMapper = countryMapper;
         this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -49,6 +55,7 @@ public class CountryKafkaService implements KafkaService<CountryOutboxEvent, Cou
             );
 
             outboxEventRepository.save(event);
+            eventPublisher.publishEvent(new OutboxEventCreated(Country.class.getName()));
 
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
@@ -1,5 +1,7 @@
 package ru.tdd.geo.controller.aspect;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -19,4 +21,13 @@ public class ControllerAdvice {
         return ResponseEntity.status(ex.getStatusCode())
                 .body(new ExceptionDTO(ex.getStatusCode().value(), ex.getMessage()));
     }
+
+    /**
+     * Объект изменили параллельно между чтением и записью, версия строки уже другая
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ExceptionDTO> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ExceptionDTO(HttpStatus.CONFLICT.value(), "Объект был изменен параллельно, повторите запрос"));
+    }
 }
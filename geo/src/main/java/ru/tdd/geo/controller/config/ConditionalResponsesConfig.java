@@ -0,0 +1,24 @@
+package ru.tdd.geo.controller.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import ru.tdd.core.controller.http.ConditionalResponses;
+
+import java.time.Duration;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Конфигурация условных ответов. Cache-Control с max-age позволяет кэшу шлюза отдавать ответ
+ * без обращения к сервису, а после истечения перепроверять его по ETag
+ */
+@Configuration
+public class ConditionalResponsesConfig {
+
+    @Bean
+    public ConditionalResponses conditionalResponses(@Value("${geo.http.cache-max-age:5s}") Duration cacheMaxAge) {
+        return new ConditionalResponses(CacheControl.maxAge(cacheMaxAge).mustRevalidate());
+    }
+}
@@ -5,16 +5,17 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import ru.tdd.core.application.exceptions.ApiException;
 import ru.tdd.core.application.utils.TextUtils;
+import ru.tdd.core.controller.security.GatewayPrincipalVerifier;
+import ru.tdd.core.controller.security.VerifiedTokenCache;
 import ru.tdd.geo.application.models.dto.UserDTO;
+import ru.tdd.geo.application.models.enums.Role;
 import ru.tdd.geo.application.services.JwtTokenService;
 
 import java.io.IOException;
@@ -22,7 +23,8 @@ import java.io.IOException;
 /**
  * @author Tribushko Danil
  * @since 05.01.2026
- * Фильтер для jwt токена
+ * Фильтер для jwt токена.
+ * Если шлюз передал подписанный заголовок с пользователем, токен повторно не разбирается
  */
 @Component
 public class JwtFilter extends OncePerRequestFilter {
@@ -33,35 +35,45 @@ public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtTokenService jwtTokenService;
 
+    private final VerifiedTokenCache<UserDTO> verifiedTokenCache;
+
+    private final GatewayPrincipalVerifier gatewayPrincipalVerifier;
+
     @Autowired
     public JwtFilter(
-            JwtTokenService jwtTokenService
+            JwtTokenService jwtTokenService,
+            VerifiedTokenCache<UserDTO> verifiedTokenCache,
+            GatewayPrincipalVerifier gatewayPrincipalVerifier
     ) {
         this.jwtTokenService = jwtTokenService;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.gatewayPrincipalVerifier = gatewayPrincipalVerifier;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String authHeader = request.getHeader(AUTHORIZATION_NAME);
 
-        if (!TextUtils.isEmpty(authHeader) && authHeader.startsWith(BEARER_PREFIX)) {
-            String token = authHeader.substring(BEARER_PREFIX.length());
-            if (jwtTokenService.validateToken(token)) {
-                String username = jwtTokenService.parseToken(token).getSubject();
-                if (!TextUtils.isEmpty(username) && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDTO user = jwtTokenService.getUser(token);
-                    SecurityContext context = SecurityContextHolder.createEmptyContext();
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            user,
-                            null,
-                            user.getAuthorities()
-                    );
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    context.setAuthentication(authToken);
-                    SecurityContextHolder.setContext(context);
-                }
-            } else
-                throw new ApiException(HttpStatus.UNAUTHORIZED, "Токен не валидный");
+        if (!TextUtils.isEmpty(authHeader)
+                && authHeader.startsWith(BEARER_PREFIX)
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDTO user = gatewayPrincipalVerifier.verify(request.getHeader(GatewayPrincipalVerifier.HEADER), Role.class)
+                    .map(UserDTO::fromPrincipal)
+                    .orElseGet(() -> verifiedTokenCache.get(
+                            authHeader.substring(BEARER_PREFIX.length()),
+                            jwtTokenService::verify
+                    ));
+            if (!TextUtils.isEmpty(user.getUsername())) {
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        user,
+                        null,
+                        user.getAuthorities()
+                );
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                context.setAuthentication(authToken);
+                SecurityContextHolder.setContext(context);
+            }
         }
 
         filterChain.doFilter(request, response);
@@ -28,6 +28,8 @@ public class OpenApiConfig {
 
     public static final String LOCATION_CONTROLLER = "Location Controller";
 
+    public static final String IMPORT_CONTROLLER = "Import Controller";
+
     @Bean
     public OpenAPI openAPI() {
         return new OpenAPI().
@@ -55,7 +57,10 @@ public class OpenApiConfig {
                                         .description("Эндпоинты для работы с городами"),
                                 new Tag()
                                         .name(LOCATION_CONTROLLER)
-                                        .description("Эндпоинты для работы с локациями")
+                                        .description("Эндпоинты для работы с локациями"),
+                                new Tag()
+                                        .name(IMPORT_CONTROLLER)
+                                        .description("Эндпоинты массового импорта справочников")
                         )
                 );
     }
@@ -0,0 +1,25 @@
+package ru.tdd.geo.controller.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.tdd.geo.application.models.dto.UserDTO;
+import ru.tdd.core.controller.security.VerifiedTokenCache;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Конфигурация кэша проверенных токенов
+ */
+@Configuration
+public class TokenCacheConfig {
+
+    @Bean
+    public VerifiedTokenCache<UserDTO> verifiedTokenCache(
+            @Value("${jwt.cache.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        return new VerifiedTokenCache<>(maxSize, meterRegistry, UserDTO::getExpiration);
+    }
+}
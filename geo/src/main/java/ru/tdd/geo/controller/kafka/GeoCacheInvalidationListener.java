@@ -0,0 +1,105 @@
+package ru.tdd.geo.controller.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.tdd.geo.application.index.GeoHierarchyIndex;
+import ru.tdd.geo.application.models.dto.kafka.GeoCacheInvalidationDTO;
+import ru.tdd.geo.application.models.events.GeoHierarchyChanged;
+import ru.tdd.geo.database.cache.GeoSecondLevelCache;
+
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Рассылка сброса кэша второго уровня между экземплярами geo.
+ * После коммита изменения справочников экземпляр публикует сообщение в кафку,
+ * каждый экземпляр читает топик своей группой потребителей и, если изменение было не у него, сбрасывает кэш
+ * и перечитывает измененные страны в индексе автодополнения.
+ * Если сообщение не дошло, устаревшие записи живут не дольше времени жизни из hibernate-cache.conf
+ */
+@Component
+public class GeoCacheInvalidationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(GeoCacheInvalidationListener.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${apache-kafka.topics.geo-cache}")
+    private String geoCacheTopic;
+
+    private final KafkaTemplate<String, GeoCacheInvalidationDTO> kafkaTemplate;
+
+    private final GeoSecondLevelCache geoSecondLevelCache;
+
+    private final GeoHierarchyIndex geoHierarchyIndex;
+
+    private final ObjectReader invalidationReader;
+
+    @Autowired
+    public GeoCacheInvalidationListener(
+            KafkaTemplate<String, GeoCacheInvalidationDTO> kafkaTemplate,
+            GeoSecondLevelCache geoSecondLevelCache,
+            GeoHierarchyIndex geoHierarchyIndex,
+            ObjectMapper objectMapper
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.geoSecondLevelCache = geoSecondLevelCache;
+        this.geoHierarchyIndex = geoHierarchyIndex;
+        this.invalidationReader = objectMapper.readerFor(GeoCacheInvalidationDTO.class);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onGeoHierarchyChanged(GeoHierarchyChanged event) {
+        kafkaTemplate.send(geoCacheTopic, nodeId, new GeoCacheInvalidationDTO(nodeId, event.getCountryIds()))
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.warn("Не удалось разослать сброс кэша гео: {}", e.getMessage());
+                    }
+                });
+    }
+
+    /**
+     * Группа потребителей у каждого экземпляра своя, чтобы сообщение получили все экземпляры.
+     * Читаются только новые сообщения: при старте кэш экземпляра пуст
+     */
+    @KafkaListener(
+            topics = "${apache-kafka.topics.geo-cache}",
+            groupId = "geo-cache-#{__listener.nodeId}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void listenInvalidations(String message) {
+        GeoCacheInvalidationDTO invalidation;
+
+        try {
+            invalidation = invalidationReader.readValue(message);
+        } catch (JsonProcessingException e) {
+            log.warn("Не удалось разобрать сообщение сброса кэша гео, кэш и индекс сбрасываются целиком: {}", e.getMessage());
+            geoSecondLevelCache.evictAll();
+            geoHierarchyIndex.reload();
+            return;
+        }
+
+        if (!nodeId.equals(invalidation.node())) {
+            geoSecondLevelCache.evictAll();
+
+            if (invalidation.countryIds() != null) {
+                geoHierarchyIndex.scheduleRefresh(invalidation.countryIds());
+            }
+        }
+    }
+}
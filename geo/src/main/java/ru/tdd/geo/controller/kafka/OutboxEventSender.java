@@ -1,45 +1,220 @@
 package ru.tdd.geo.controller.kafka;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 import ru.tdd.core.controller.dto.OutboxEventDTO;
 import ru.tdd.core.controller.dto.OutboxEventMapper;
 import ru.tdd.core.database.entities.kafka.OutboxEvent;
 import ru.tdd.core.database.repositories.OutboxEventRepository;
+import ru.tdd.geo.application.models.events.OutboxEventCreated;
 import ru.tdd.geo.database.entities.Country;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Отправитель событий из outbox таблицы в кафку.
+ * События захватываются пачками через SELECT ... FOR UPDATE SKIP LOCKED в порядке создания,
+ * отправляются одной пачкой, после чего из таблицы удаляются только те строки,
+ * отправка которых подтверждена брокером. Несколько экземпляров geo могут разбирать таблицу параллельно.
+ * После коммита транзакции, записавшей событие, отправитель будится сразу, опрос остается страховкой.
+ * Опрос и пробуждение сериализуются через ReentrantLock: пока пачка ждет подтверждений брокера,
+ * виртуальный поток планировщика освобождает поток-носитель
+ */
 @Component
 public class OutboxEventSender {
 
+    private static final Logger log = LoggerFactory.getLogger(OutboxEventSender.class);
+
     @Value("${apache-kafka.topics.country}")
     private String countryTopic;
 
+    @Value("${apache-kafka.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${apache-kafka.outbox.send-timeout:10000}")
+    private long sendTimeout;
+
+    @Value("${apache-kafka.outbox.min-delay:100}")
+    private long minDelay;
+
+    @Value("${apache-kafka.outbox.max-delay:5000}")
+    private long maxDelay;
+
     private final OutboxEventMapper outboxEventMapper;
 
     private final OutboxEventRepository outboxEventRepository;
 
     private final KafkaTemplate<String, OutboxEventDTO> kafkaTemplate;
 
+    private final TransactionTemplate transactionTemplate;
+
+    private final TaskScheduler taskScheduler;
+
+    private final AtomicBoolean wakeUpScheduled = new AtomicBoolean();
+
+    private final ReentrantLock pollLock = new ReentrantLock();
+
+    private long idleDelay;
+
+    private long nextPollTime;
+
+    @Autowired
     public OutboxEventSender(
             OutboxEventMapper outboxEventMapper,
             OutboxEventRepository outboxEventRepository,
-            KafkaTemplate<String, OutboxEventDTO> kafkaTemplate
+            KafkaTemplate<String, OutboxEventDTO> kafkaTemplate,
+            PlatformTransactionManager transactionManager,
+            TaskScheduler taskScheduler
     ) {
         this.outboxEventMapper = outboxEventMapper;
         this.outboxEventRepository = outboxEventRepository;
         this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskScheduler = taskScheduler;
+    }
+
+    /**
+     * Пробуждение отправителя после коммита транзакции, записавшей событие.
+     * Внеочередной опрос ставится в планировщик не более одного раза, пока он не начал выполняться,
+     * поэтому массовая запись событий не засоряет очередь планировщика
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOutboxEventCreated(OutboxEventCreated event) {
+        if (wakeUpScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::wakeUp, Instant.now());
+        }
+    }
+
+    private void wakeUp() {
+        pollLock.lock();
+
+        try {
+            wakeUpScheduled.set(false);
+            idleDelay = 0;
+            nextPollTime = 0;
+            poll();
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    /**
+     * Непрерывный опрос outbox таблицы.
+     * Пока таблица пуста или брокер недоступен, интервал между опросами удваивается до max-delay,
+     * после первой успешной отправки или пробуждения опрос снова идет с интервалом min-delay
+     */
+    @Scheduled(fixedDelayString = "${apache-kafka.outbox.min-delay:100}")
+    public void poll() {
+        pollLock.lock();
+
+        try {
+            long now = System.currentTimeMillis();
+
+            if (now < nextPollTime) {
+                return;
+            }
+
+            int sent;
+
+            try {
+                sent = sendCountryEvents();
+            } catch (RuntimeException e) {
+                log.warn("Не удалось отправить события outbox: {}", e.getMessage());
+                sent = 0;
+            }
+
+            if (sent > 0) {
+                idleDelay = 0;
+                nextPollTime = 0;
+            } else {
+                idleDelay = idleDelay == 0 ? minDelay : Math.min(idleDelay * 2, maxDelay);
+                nextPollTime = now + idleDelay;
+            }
+        } finally {
+            pollLock.unlock();
+        }
     }
 
-    @Scheduled(cron = "30 * * * * *")
-    public void sendCountryEvents() {
-        List<OutboxEvent> events = outboxEventRepository.findAllByEntityName(Country.class.getName());
-        events.forEach(event -> {
-            kafkaTemplate.send(countryTopic, outboxEventMapper.toDto(event));
-            outboxEventRepository.delete(event);
+    /**
+     * Разбор outbox таблицы стран пачками до тех пор, пока есть полные пачки
+     *
+     * @return количество отправленных и удаленных событий
+     */
+    public int sendCountryEvents() {
+        int total = 0;
+        BatchResult result;
+
+        do {
+            result = transactionTemplate.execute(status -> sendBatch(Country.class.getName()));
+            total += result.sent();
+        } while (result.claimed() == batchSize && result.sent() == result.claimed());
+
+        return total;
+    }
+
+    /**
+     * Захват, отправка и удаление одной пачки событий в рамках одной транзакции.
+     * Строки остаются заблокированными до получения подтверждений, поэтому
+     * другой экземпляр не сможет захватить и повторно отправить их
+     */
+    private BatchResult sendBatch(String entityName) {
+        List<OutboxEvent> events = outboxEventRepository.claimBatchByEntityName(entityName, batchSize);
+
+        if (events.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+
+        Map<UUID, CompletableFuture<SendResult<String, OutboxEventDTO>>> futures = new LinkedHashMap<>();
+        events.forEach(event -> futures.put(
+                event.getId(),
+                kafkaTemplate.send(countryTopic, outboxEventMapper.toDto(event))
+        ));
+        kafkaTemplate.flush();
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeout);
+        List<UUID> acknowledged = new ArrayList<>(futures.size());
+
+        futures.forEach((id, future) -> {
+            try {
+                future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+                acknowledged.add(id);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("Событие outbox {} не отправлено: {}", id, e.getMessage());
+            }
         });
+
+        if (!acknowledged.isEmpty()) {
+            outboxEventRepository.deleteAllByIdInBatch(acknowledged);
+        }
+
+        return new BatchResult(events.size(), acknowledged.size());
     }
+
+    private record BatchResult(int claimed, int sent) {}
 }
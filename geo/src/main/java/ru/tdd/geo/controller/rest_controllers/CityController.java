@@ -10,12 +10,18 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.tags.Tags;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.tdd.core.controller.http.ConditionalResponses;
 import ru.tdd.geo.application.models.dto.geo.city.*;
 import ru.tdd.geo.application.services.CityService;
+import ru.tdd.geo.application.services.GeoExportService;
+import ru.tdd.geo.application.services.GeoRevisionService;
 import ru.tdd.geo.controller.config.OpenApiConfig;
 
 import java.util.UUID;
@@ -33,11 +39,23 @@ public class CityController {
 
     private final CityService cityService;
 
+    private final GeoExportService geoExportService;
+
+    private final GeoRevisionService geoRevisionService;
+
+    private final ConditionalResponses conditionalResponses;
+
     @Autowired
     public CityController(
-            CityService cityService
+            CityService cityService,
+            GeoExportService geoExportService,
+            GeoRevisionService geoRevisionService,
+            ConditionalResponses conditionalResponses
     ) {
         this.cityService = cityService;
+        this.geoExportService = geoExportService;
+        this.geoRevisionService = geoRevisionService;
+        this.conditionalResponses = conditionalResponses;
     }
 
     @Operation(summary = "Create", description = "Создание города, доступно для администратора")
@@ -76,9 +94,11 @@ public class CityController {
     @GetMapping("/{id}")
     public ResponseEntity<CityDetailsDTO> findById(
             @PathVariable
-            UUID id
+            UUID id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch
     ) {
-        return ResponseEntity.status(HttpStatus.OK).body(cityService.getById(id));
+        return conditionalResponses.of(cityService.getById(id, ifNoneMatch));
     }
 
     @DeleteMapping("/{id}")
@@ -99,11 +119,40 @@ public class CityController {
             String regionName,
             @RequestParam(name = "country-name", required = false)
             String countryName,
+            @RequestParam(name = "after", required = false)
+            String after,
             @RequestParam(name = "page", defaultValue = "0")
             int page,
             @RequestParam(name = "per-page", defaultValue = "100")
-            int perPage
+            int perPage,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch
     ) {
-        return ResponseEntity.status(HttpStatus.OK).body(cityService.getAll(name, regionName, countryName, page, perPage));
+        return conditionalResponses.of(
+                geoRevisionService.listTag("cities"),
+                ifNoneMatch,
+                () -> cityService.getAll(name, regionName, countryName, after, page, perPage)
+        );
+    }
+
+    @Operation(summary = "Autocomplete", description = "Города, название которых начинается с префикса, из индекса в памяти")
+    @GetMapping("/autocomplete")
+    public ResponseEntity<CitiesDTO> autocomplete(
+            @RequestParam(name = "prefix")
+            String prefix,
+            @RequestParam(name = "country-id", required = false)
+            UUID countryId,
+            @RequestParam(name = "limit", defaultValue = "10")
+            int limit
+    ) {
+        return ResponseEntity.status(HttpStatus.OK).body(cityService.autocomplete(prefix, countryId, limit));
+    }
+
+    @Operation(summary = "Export", description = "Выгрузка всех городов в формате NDJSON, строки отдаются по мере чтения из базы")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(geoExportService::exportCities);
     }
 }
@@ -10,14 +10,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.*;
 import ru.tdd.core.controller.dto.ExceptionDTO;
+import ru.tdd.core.controller.http.ConditionalResponses;
 import ru.tdd.geo.application.models.dto.geo.country.*;
 import ru.tdd.geo.application.services.CountryService;
+import ru.tdd.geo.application.services.GeoRevisionService;
 import ru.tdd.geo.controller.config.OpenApiConfig;
 
 import java.util.UUID;
@@ -35,11 +38,19 @@ public class CountryController {
 
     private final CountryService countryService;
 
+    private final GeoRevisionService geoRevisionService;
+
+    private final ConditionalResponses conditionalResponses;
+
     @Autowired
     public CountryController(
-            CountryService countryService
+            CountryService countryService,
+            GeoRevisionService geoRevisionService,
+            ConditionalResponses conditionalResponses
     ) {
         this.countryService = countryService;
+        this.geoRevisionService = geoRevisionService;
+        this.conditionalResponses = conditionalResponses;
     }
 
     @Operation(summary = "Create", description = "Создание страны, доступно только для администратора")
@@ -167,8 +178,12 @@ public class CountryController {
     )
     @GetMapping("/{id}")
     @Secured(value = "ROLE_USER")
-    public ResponseEntity<CountryDetailsDTO> findById(@PathVariable @NotNull UUID id) {
-        return ResponseEntity.status(HttpStatus.OK).body(countryService.getById(id));
+    public ResponseEntity<CountryDetailsDTO> findById(
+            @PathVariable @NotNull UUID id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch
+    ) {
+        return conditionalResponses.of(countryService.getById(id, ifNoneMatch));
     }
 
     @Operation(summary = "Find All", description = "Получить список странн с определенными фильтрами")
@@ -186,11 +201,19 @@ public class CountryController {
     public ResponseEntity<CountriesDTO> findAll(
             @RequestParam(name = "name", required = false)
             String name,
+            @RequestParam(name = "after", required = false)
+            String after,
             @RequestParam(name = "page", required = false, defaultValue = "0")
             int page,
             @RequestParam(name = "per_page", required = false, defaultValue = "10")
-            int perPage
+            int perPage,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch
     ) {
-        return ResponseEntity.status(HttpStatus.OK).body(countryService.getAll(name, page, perPage));
+        return conditionalResponses.of(
+                geoRevisionService.listTag("countries"),
+                ifNoneMatch,
+                () -> countryService.getAll(name, after, page, perPage)
+        );
     }
 }
@@ -0,0 +1,83 @@
+package ru.tdd.geo.controller.rest_controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.tdd.geo.application.models.dto.geo.bulk.ImportResultDTO;
+import ru.tdd.geo.application.services.GeoImportService;
+import ru.tdd.geo.controller.config.OpenApiConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Контроллер массового импорта справочников.
+ * Тело запроса читается потоком, поэтому размер файла не ограничен памятью сервиса
+ */
+@RestController
+@RequestMapping("/geo/import")
+@SecurityRequirement(name = "jwtAuth")
+@Tag(name = OpenApiConfig.IMPORT_CONTROLLER)
+public class ImportController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final GeoImportService geoImportService;
+
+    @Autowired
+    public ImportController(
+            GeoImportService geoImportService
+    ) {
+        this.geoImportService = geoImportService;
+    }
+
+    @Operation(summary = "Import NDJSON", description = "Импорт стран, регионов, городов и локаций из NDJSON, доступно для администратора")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200", description = "Импорт завершен, ошибки строк в теле ответа",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ImportResultDTO.class)
+                            )
+                    )
+            }
+    )
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Secured(value = "ROLE_ADMIN")
+    public ResponseEntity<ImportResultDTO> importNdjson(InputStream body) throws IOException {
+        return ResponseEntity.status(HttpStatus.OK).body(geoImportService.importNdjson(body));
+    }
+
+    @Operation(summary = "Import CSV", description = "Импорт стран, регионов, городов и локаций из CSV с заголовком type,name,country,region,city, доступно для администратора")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200", description = "Импорт завершен, ошибки строк в теле ответа",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ImportResultDTO.class)
+                            )
+                    )
+            }
+    )
+    @PostMapping(consumes = TEXT_CSV_VALUE)
+    @Secured(value = "ROLE_ADMIN")
+    public ResponseEntity<ImportResultDTO> importCsv(InputStream body) throws IOException {
+        return ResponseEntity.status(HttpStatus.OK).body(geoImportService.importCsv(body));
+    }
+}
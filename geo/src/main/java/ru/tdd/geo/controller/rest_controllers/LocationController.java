@@ -9,16 +9,21 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.tdd.core.controller.dto.ExceptionDTO;
+import ru.tdd.core.controller.http.ConditionalResponses;
 import ru.tdd.geo.application.models.dto.geo.location.CreateLocationDTO;
 import ru.tdd.geo.application.models.dto.geo.location.LocationDTO;
 import ru.tdd.geo.application.models.dto.geo.location.LocationsDTO;
 import ru.tdd.geo.application.models.dto.geo.location.UpdateLocationDTO;
+import ru.tdd.geo.application.services.GeoExportService;
+import ru.tdd.geo.application.services.GeoRevisionService;
 import ru.tdd.geo.application.services.LocationService;
 import ru.tdd.geo.controller.config.OpenApiConfig;
 
@@ -37,11 +42,23 @@ public class LocationController {
 
     private final LocationService locationService;
 
+    private final GeoExportService geoExportService;
+
+    private final GeoRevisionService geoRevisionService;
+
+    private final ConditionalResponses conditionalResponses;
+
     @Autowired
     public LocationController(
-            LocationService locationService
+            LocationService locationService,
+            GeoExportService geoExportService,
+            GeoRevisionService geoRevisionService,
+            ConditionalResponses conditionalResponses
     ) {
         this.locationService = locationService;
+        this.geoExportService = geoExportService;
+        this.geoRevisionService = geoRevisionService;
+        this.conditionalResponses = conditionalResponses;
     }
 
     @Operation(summary = "Create", description = "Создание локации, доступно только для администрации")
@@ -169,9 +186,11 @@ public class LocationController {
     )
     @GetMapping("/{id}")
     public ResponseEntity<LocationDTO> findById(
-            @PathVariable UUID id
+            @PathVariable UUID id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch
     ) {
-        return ResponseEntity.status(HttpStatus.OK).body(locationService.getById(id));
+        return conditionalResponses.of(locationService.getById(id, ifNoneMatch));
     }
 
     @Operation(summary = "Find All", description = "Получение списка локаций с фильтрацией")
@@ -192,11 +211,40 @@ public class LocationController {
             String name,
             @RequestParam(name = "city-name", required = false)
             String cityName,
+            @RequestParam(name = "after", required = false)
+            String after,
             @RequestParam(name = "page", defaultValue = "0")
             int page,
             @RequestParam(name = "per-page", defaultValue = "100")
-            int perPage
+            int perPage,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch
+    ) {
+        return conditionalResponses.of(
+                geoRevisionService.listTag("locations"),
+                ifNoneMatch,
+                () -> locationService.getAll(name, cityName, after, page, perPage)
+        );
+    }
+
+    @Operation(summary = "Autocomplete", description = "Локации города, название которых начинается с префикса, из индекса в памяти")
+    @GetMapping("/autocomplete")
+    public ResponseEntity<LocationsDTO> autocomplete(
+            @RequestParam(name = "prefix")
+            String prefix,
+            @RequestParam(name = "city-id")
+            UUID cityId,
+            @RequestParam(name = "limit", defaultValue = "10")
+            int limit
     ) {
-        return ResponseEntity.status(HttpStatus.OK).body(locationService.getAll(name, cityName, page, perPage));
+        return ResponseEntity.status(HttpStatus.OK).body(locationService.autocomplete(prefix, cityId, limit));
+    }
+
+    @Operation(summary = "Export", description = "Выгрузка всех локаций в формате NDJSON, строки отдаются по мере чтения из базы")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(geoExportService::exportLocations);
     }
 }
@@ -10,13 +10,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.*;
 import ru.tdd.core.controller.dto.ExceptionDTO;
+import ru.tdd.core.controller.http.ConditionalResponses;
 import ru.tdd.geo.application.models.dto.geo.region.*;
+import ru.tdd.geo.application.services.GeoRevisionService;
 import ru.tdd.geo.application.services.RegionService;
 import ru.tdd.geo.controller.config.OpenApiConfig;
 
@@ -35,11 +38,19 @@ public class RegionController {
 
     private final RegionService regionService;
 
+    private final GeoRevisionService geoRevisionService;
+
+    private final ConditionalResponses conditionalResponses;
+
     @Autowired
     public RegionController(
-            RegionService regionService
+            RegionService regionService,
+            GeoRevisionService geoRevisionService,
+            ConditionalResponses conditionalResponses
     ) {
         this.regionService = regionService;
+        this.geoRevisionService = geoRevisionService;
+        this.conditionalResponses = conditionalResponses;
     }
 
     @Operation(summary = "Create", description = "Создание региона, доступно только для администратора")
@@ -148,9 +159,11 @@ public class RegionController {
     public ResponseEntity<RegionDetailsDTO> findById(
             @NotNull
             @PathVariable
-            UUID id
+            UUID id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch
     ) {
-        return ResponseEntity.status(HttpStatus.OK).body(regionService.getById(id));
+        return conditionalResponses.of(regionService.getById(id, ifNoneMatch));
     }
 
     @Operation(summary = "Delete", description = "Удаление региона, доступно только для администратора")
@@ -196,11 +209,19 @@ public class RegionController {
             String name,
             @RequestParam(name = "country-name", required = false)
             String countryName,
+            @RequestParam(name = "after", required = false)
+            String after,
             @RequestParam(name = "page", required = false, defaultValue = "0")
             int page,
             @RequestParam(name = "per-page", required = false, defaultValue = "100")
-            int perPage
+            int perPage,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch
     ) {
-        return ResponseEntity.status(HttpStatus.OK).body(regionService.getAll(name, countryName, page, perPage));
+        return conditionalResponses.of(
+                geoRevisionService.listTag("regions"),
+                ifNoneMatch,
+                () -> regionService.getAll(name, countryName, after, page, perPage)
+        );
     }
 }
@@ -0,0 +1,24 @@
+package ru.tdd.geo.database.cache;
+
+import java.util.List;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Регионы кэша второго уровня hibernate для справочников стран, регионов и городов.
+ * Настройки регионов (размер, время жизни) лежат в hibernate-cache.conf
+ */
+public interface GeoCacheRegions {
+
+    String COUNTRY = "geo-country";
+
+    String REGION = "geo-region";
+
+    String CITY = "geo-city";
+
+    String COUNTRY_REGIONS = "geo-country-regions";
+
+    String REGION_CITIES = "geo-region-cities";
+
+    List<String> ALL = List.of(COUNTRY, REGION, CITY, COUNTRY_REGIONS, REGION_CITIES);
+}
@@ -0,0 +1,33 @@
+package ru.tdd.geo.database.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Кэш второго уровня справочников гео.
+ * Изменения, сделанные на этом экземпляре, hibernate отражает в кэше сам,
+ * а изменения с других экземпляров сбрасывают регионы справочников и кэш запросов целиком
+ */
+@Component
+public class GeoSecondLevelCache {
+
+    private final Cache cache;
+
+    @Autowired
+    public GeoSecondLevelCache(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /**
+     * Сброс регионов стран, регионов, городов, их коллекций и кэша запросов
+     */
+    public void evictAll() {
+        GeoCacheRegions.ALL.forEach(cache::evictRegion);
+        cache.evictDefaultQueryRegion();
+    }
+}
@@ -1,10 +1,16 @@
 package ru.tdd.geo.database.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.UpdateTimestamp;
 import ru.tdd.core.database.entities.BaseEntity;
+import ru.tdd.core.database.entities.VersionedEntity;
+import ru.tdd.geo.database.cache.GeoCacheRegions;
 
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -14,12 +20,30 @@ import java.util.Set;
  * Таблица города
  */
 @Entity
-@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"name", "region", "country"}))
-public class City extends BaseEntity implements BaseNameEntity {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = GeoCacheRegions.CITY)
+@Table(
+        uniqueConstraints = @UniqueConstraint(columnNames = {"name", "region", "country"}),
+        indexes = {
+                @Index(name = "city_name_id_idx", columnList = "name, id"),
+                @Index(name = "city_update_time_idx", columnList = "update_time")
+        }
+)
+public class City extends BaseEntity implements BaseNameEntity, VersionedEntity {
 
     @Column(name = "name", nullable = false)
     private String name;
 
+    /** Версия строки, увеличивается hibernate при каждом изменении, по ней строится ETag */
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
+    /** Время последнего изменения строки, вместе с числом строк по нему строится версия списков */
+    @UpdateTimestamp
+    @Column(name = "update_time")
+    private LocalDateTime updateTime;
+
     @ManyToOne
     @OnDelete(action = OnDeleteAction.CASCADE)
     @JoinColumn(name = "region")
@@ -43,6 +67,11 @@ public class City extends BaseEntity implements BaseNameEntity {
         this.country = country;
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String getName() {
         return name;
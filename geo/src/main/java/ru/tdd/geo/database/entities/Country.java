@@ -1,11 +1,21 @@
 package ru.tdd.geo.database.entities;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 import ru.tdd.core.database.entities.BaseEntity;
+import ru.tdd.core.database.entities.VersionedEntity;
+import ru.tdd.geo.database.cache.GeoCacheRegions;
 
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -15,12 +25,31 @@ import java.util.Set;
  * Таблица страны
  */
 @Entity
-public class Country extends BaseEntity implements BaseNameEntity {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = GeoCacheRegions.COUNTRY)
+@Table(
+        indexes = {
+                @Index(name = "country_name_id_idx", columnList = "name, id"),
+                @Index(name = "country_update_time_idx", columnList = "update_time")
+        }
+)
+public class Country extends BaseEntity implements BaseNameEntity, VersionedEntity {
 
     @Column(name = "name", unique = true, nullable = false)
     private String name;
 
+    /** Версия строки, увеличивается hibernate при каждом изменении, по ней строится ETag */
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
+    /** Время последнего изменения строки, вместе с числом строк по нему строится версия списков */
+    @UpdateTimestamp
+    @Column(name = "update_time")
+    private LocalDateTime updateTime;
+
     @OneToMany(cascade = CascadeType.ALL, mappedBy = "country")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = GeoCacheRegions.COUNTRY_REGIONS)
     private Set<Region> regions = new HashSet<>();
 
     @OneToMany(cascade = CascadeType.ALL, mappedBy = "country")
@@ -50,6 +79,11 @@ public class Country extends BaseEntity implements BaseNameEntity {
         regions.add(region);
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String getName() {
         return name;
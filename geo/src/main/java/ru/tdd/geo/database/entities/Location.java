@@ -1,7 +1,11 @@
 package ru.tdd.geo.database.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.UpdateTimestamp;
 import ru.tdd.core.database.entities.BaseEntity;
+import ru.tdd.core.database.entities.VersionedEntity;
+
+import java.time.LocalDateTime;
 
 /**
  * @author Tribushko Danil
@@ -9,12 +13,28 @@ import ru.tdd.core.database.entities.BaseEntity;
  * Таблица небольшой локации
  */
 @Entity
-@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"name", "city"}))
-public class Location extends BaseEntity implements BaseNameEntity {
+@Table(
+        uniqueConstraints = @UniqueConstraint(columnNames = {"name", "city"}),
+        indexes = {
+                @Index(name = "location_name_id_idx", columnList = "name, id"),
+                @Index(name = "location_update_time_idx", columnList = "update_time")
+        }
+)
+public class Location extends BaseEntity implements BaseNameEntity, VersionedEntity {
 
     @Column(name = "name", nullable = false)
     private String name;
 
+    /** Версия строки, увеличивается hibernate при каждом изменении, по ней строится ETag */
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
+    /** Время последнего изменения строки, вместе с числом строк по нему строится версия списков */
+    @UpdateTimestamp
+    @Column(name = "update_time")
+    private LocalDateTime updateTime;
+
     @ManyToOne
     @JoinColumn(name = "city", nullable = false)
     private City city;
@@ -26,6 +46,11 @@ public class Location extends BaseEntity implements BaseNameEntity {
         this.city = city;
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String getName() {
         return name;
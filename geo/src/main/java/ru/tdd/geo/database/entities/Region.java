@@ -1,10 +1,16 @@
 package ru.tdd.geo.database.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.UpdateTimestamp;
 import ru.tdd.core.database.entities.BaseEntity;
+import ru.tdd.core.database.entities.VersionedEntity;
+import ru.tdd.geo.database.cache.GeoCacheRegions;
 
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -14,18 +20,37 @@ import java.util.Set;
  * Таблица региона
  */
 @Entity
-@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"name", "country"}))
-public class Region extends BaseEntity implements BaseNameEntity {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = GeoCacheRegions.REGION)
+@Table(
+        uniqueConstraints = @UniqueConstraint(columnNames = {"name", "country"}),
+        indexes = {
+                @Index(name = "region_name_id_idx", columnList = "name, id"),
+                @Index(name = "region_update_time_idx", columnList = "update_time")
+        }
+)
+public class Region extends BaseEntity implements BaseNameEntity, VersionedEntity {
 
     @Column(nullable = false)
     private String name;
 
+    /** Версия строки, увеличивается hibernate при каждом изменении, по ней строится ETag */
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
+    /** Время последнего изменения строки, вместе с числом строк по нему строится версия списков */
+    @UpdateTimestamp
+    @Column(name = "update_time")
+    private LocalDateTime updateTime;
+
     @ManyToOne
     @JoinColumn(name = "country", nullable = false)
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Country country;
 
     @OneToMany(cascade = CascadeType.ALL, mappedBy = "region")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = GeoCacheRegions.REGION_CITIES)
     private Set<City> cities = new HashSet<>();
 
     public Region() {}
@@ -41,6 +66,11 @@ public class Region extends BaseEntity implements BaseNameEntity {
         this.country = country;
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String getName() {
         return name;
@@ -0,0 +1,43 @@
+package ru.tdd.geo.database.projections;
+
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import ru.tdd.geo.database.entities.City;
+import ru.tdd.geo.database.entities.Country;
+import ru.tdd.geo.database.entities.Region;
+
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Строка списка городов вместе с регионом и страной. У города без региона поля региона null
+ */
+public record CityRow(
+        UUID id,
+        String name,
+        UUID regionId,
+        String regionName,
+        UUID countryId,
+        String countryName
+) implements NameRow {
+
+    public static final RowSelection<City, CityRow> SELECTION = new RowSelection<>(
+            City.class,
+            CityRow.class,
+            (root, cb) -> {
+                Join<City, Region> region = root.join("region", JoinType.LEFT);
+                Join<City, Country> country = root.join("country");
+
+                return cb.construct(
+                        CityRow.class,
+                        root.get("id"),
+                        root.get("name"),
+                        region.get("id"),
+                        region.get("name"),
+                        country.get("id"),
+                        country.get("name")
+                );
+            }
+    );
+}
@@ -0,0 +1,19 @@
+package ru.tdd.geo.database.projections;
+
+import ru.tdd.geo.database.entities.Country;
+
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Строка списка стран
+ */
+public record CountryRow(UUID id, String name) implements NameRow {
+
+    public static final RowSelection<Country, CountryRow> SELECTION = new RowSelection<>(
+            Country.class,
+            CountryRow.class,
+            (root, cb) -> cb.construct(CountryRow.class, root.get("id"), root.get("name"))
+    );
+}
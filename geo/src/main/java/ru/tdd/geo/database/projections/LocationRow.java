@@ -0,0 +1,49 @@
+package ru.tdd.geo.database.projections;
+
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import ru.tdd.geo.database.entities.City;
+import ru.tdd.geo.database.entities.Country;
+import ru.tdd.geo.database.entities.Location;
+import ru.tdd.geo.database.entities.Region;
+
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Строка списка локаций вместе с городом, его регионом и страной
+ */
+public record LocationRow(
+        UUID id,
+        String name,
+        UUID cityId,
+        String cityName,
+        UUID regionId,
+        String regionName,
+        UUID countryId,
+        String countryName
+) implements NameRow {
+
+    public static final RowSelection<Location, LocationRow> SELECTION = new RowSelection<>(
+            Location.class,
+            LocationRow.class,
+            (root, cb) -> {
+                Join<Location, City> city = root.join("city");
+                Join<City, Region> region = city.join("region", JoinType.LEFT);
+                Join<City, Country> country = city.join("country");
+
+                return cb.construct(
+                        LocationRow.class,
+                        root.get("id"),
+                        root.get("name"),
+                        city.get("id"),
+                        city.get("name"),
+                        region.get("id"),
+                        region.get("name"),
+                        country.get("id"),
+                        country.get("name")
+                );
+            }
+    );
+}
@@ -0,0 +1,15 @@
+package ru.tdd.geo.database.projections;
+
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Строка проекции списка с полями, по которым строится курсор страницы
+ */
+public interface NameRow {
+
+    UUID id();
+
+    String name();
+}
@@ -0,0 +1,123 @@
+package ru.tdd.geo.database.projections;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ru.tdd.core.application.utils.KeysetPage;
+import ru.tdd.core.application.utils.PageCursor;
+import ru.tdd.geo.database.entities.BaseNameEntity;
+import ru.tdd.geo.database.specifications.NameSpecification;
+
+import java.util.List;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Запросы списков, выбирающие только столбцы проекции.
+ * Фильтры и порядок берутся из тех же спецификаций, что и для сущностей, но результат собирается
+ * конструктором строки: сущности не попадают в контекст персистентности, снимки для dirty checking не создаются,
+ * а контекст не сбрасывается перед запросом
+ */
+@Component
+@Transactional(readOnly = true)
+public class NameRowQueries {
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    public NameRowQueries(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Страница строк проекции по смещению, без запроса общего количества
+     */
+    public <T, R extends NameRow> List<R> findAll(
+            RowSelection<T, R> selection,
+            Specification<T> specification,
+            Pageable pageable
+    ) {
+        return find(selection, specification, Math.toIntExact(pageable.getOffset()), pageable.getPageSize());
+    }
+
+    /**
+     * Первые limit строк проекции, удовлетворяющих спецификации, в заданном ей порядке
+     */
+    public <T, R extends NameRow> List<R> findFirst(
+            RowSelection<T, R> selection,
+            Specification<T> specification,
+            int limit
+    ) {
+        return find(selection, specification, 0, limit);
+    }
+
+    /**
+     * Страница строк проекции в порядке (name, id) после курсора.
+     * Читается на одну строку больше размера страницы, чтобы узнать, есть ли следующая
+     */
+    public <T extends BaseNameEntity, R extends NameRow> KeysetPage<R> findPage(
+            RowSelection<T, R> selection,
+            Specification<T> specification,
+            String after,
+            int perPage
+    ) {
+        int limit = PageCursor.perPage(perPage);
+
+        List<R> rows = findFirst(
+                selection,
+                specification
+                        .and(NameSpecification.afterCursor(PageCursor.decode(after)))
+                        .and(NameSpecification.orderByNameAndId()),
+                limit + 1
+        );
+
+        return KeysetPage.of(rows, limit, row -> new PageCursor(row.name(), row.id()));
+    }
+
+    /**
+     * Все строки проекции, удовлетворяющие спецификации
+     */
+    public <T, R extends NameRow> List<R> findAll(RowSelection<T, R> selection, Specification<T> specification) {
+        return query(selection, specification).getResultList();
+    }
+
+    private <T, R extends NameRow> List<R> find(
+            RowSelection<T, R> selection,
+            Specification<T> specification,
+            int offset,
+            int limit
+    ) {
+        return query(selection, specification)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private <T, R extends NameRow> TypedQuery<R> query(RowSelection<T, R> selection, Specification<T> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = cb.createQuery(selection.rowClass());
+        Root<T> root = query.from(selection.entityClass());
+
+        query.select(selection.columns().apply(root, cb));
+
+        Predicate predicate = specification.toPredicate(root, query, cb);
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+    }
+}
@@ -0,0 +1,31 @@
+package ru.tdd.geo.database.projections;
+
+import jakarta.persistence.criteria.Join;
+import ru.tdd.geo.database.entities.Country;
+import ru.tdd.geo.database.entities.Region;
+
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Строка списка регионов вместе со страной
+ */
+public record RegionRow(UUID id, String name, UUID countryId, String countryName) implements NameRow {
+
+    public static final RowSelection<Region, RegionRow> SELECTION = new RowSelection<>(
+            Region.class,
+            RegionRow.class,
+            (root, cb) -> {
+                Join<Region, Country> country = root.join("country");
+
+                return cb.construct(
+                        RegionRow.class,
+                        root.get("id"),
+                        root.get("name"),
+                        country.get("id"),
+                        country.get("name")
+                );
+            }
+    );
+}
@@ -0,0 +1,22 @@
+package ru.tdd.geo.database.projections;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.function.BiFunction;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Описание проекции: из какой сущности и какие столбцы выбираются в строку
+ *
+ * @param entityClass класс сущности, по которой строится запрос и применяются спецификации
+ * @param rowClass    класс строки проекции
+ * @param columns     выражение выборки строки из корня запроса
+ */
+public record RowSelection<T, R extends NameRow>(
+        Class<T> entityClass,
+        Class<R> rowClass,
+        BiFunction<Root<T>, CriteriaBuilder, Selection<R>> columns
+) {}
@@ -1,11 +1,21 @@
 package ru.tdd.geo.database.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.tdd.geo.database.entities.City;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * @author Tribushko Danil
@@ -14,4 +24,29 @@ import java.util.UUID;
  */
 @Repository
 public interface CityRepository extends JpaSpecificationExecutor<City>, JpaRepository<City, UUID> {
+
+    /** Город со страной, регионом и локациями одним запросом для подробной информации */
+    @EntityGraph(attributePaths = {"country", "region", "locations"})
+    Optional<City> findDetailsById(UUID id);
+
+    /** Города стран по названиям в нижнем регистре. Найденные при импорте строки не кладутся в кэш второго уровня */
+    @Query("select c from City c left join fetch c.region where c.country.id in :countryIds and lower(c.name) in :names")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHE_MODE, value = "GET"))
+    List<City> findAllByCountryIdInAndLowerNameIn(
+            @Param("countryIds") Collection<UUID> countryIds,
+            @Param("names") Collection<String> names
+    );
+
+    /**
+     * Все города со странами и регионами для выгрузки.
+     * Строки читаются курсором порциями по fetch size, поэтому поток нужно закрыть внутри транзакции.
+     * Кэш второго уровня не используется: полная выгрузка вытеснила бы из него часто читаемые записи
+     */
+    @Query("select c from City c join fetch c.country left join fetch c.region")
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    Stream<City> streamAll();
 }
@@ -1,10 +1,19 @@
 package ru.tdd.geo.database.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.tdd.geo.database.entities.Country;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -14,4 +23,17 @@ import java.util.UUID;
  */
 @Repository
 public interface CountryRepository extends JpaSpecificationExecutor<Country>, JpaRepository<Country, UUID> {
+
+    /**
+     * Страна с регионами одним запросом для подробной информации.
+     * Результат запроса кэшируется, повторное чтение собирается из кэша второго уровня без обращения к бд
+     */
+    @EntityGraph(attributePaths = "regions")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    Optional<Country> findDetailsById(UUID id);
+
+    /** Страны по названиям в нижнем регистре. Найденные при импорте строки не кладутся в кэш второго уровня */
+    @Query("select c from Country c where lower(c.name) in :names")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHE_MODE, value = "GET"))
+    List<Country> findAllByLowerNameIn(@Param("names") Collection<String> names);
 }
@@ -1,10 +1,19 @@
 package ru.tdd.geo.database.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.tdd.geo.database.entities.Region;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -14,4 +23,21 @@ import java.util.UUID;
  */
 @Repository
 public interface RegionRepository extends JpaSpecificationExecutor<Region>, JpaRepository<Region, UUID> {
+
+    /**
+     * Регион со страной и городами одним запросом для подробной информации.
+     * Страна городов региона совпадает со страной региона и берется из того же запроса.
+     * Результат запроса кэшируется, повторное чтение собирается из кэша второго уровня без обращения к бд
+     */
+    @EntityGraph(attributePaths = {"country", "cities"})
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    Optional<Region> findDetailsById(UUID id);
+
+    /** Регионы стран по названиям в нижнем регистре. Найденные при импорте строки не кладутся в кэш второго уровня */
+    @Query("select r from Region r where r.country.id in :countryIds and lower(r.name) in :names")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHE_MODE, value = "GET"))
+    List<Region> findAllByCountryIdInAndLowerNameIn(
+            @Param("countryIds") Collection<UUID> countryIds,
+            @Param("names") Collection<String> names
+    );
 }
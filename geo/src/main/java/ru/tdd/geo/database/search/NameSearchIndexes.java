@@ -0,0 +1,60 @@
+package ru.tdd.geo.database.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Триграммные GIN индексы по выражению lower(name) для поиска по подстроке названия.
+ * Поиск в спецификациях строится как lower(name) LIKE '%x%', такой предикат использует эти индексы.
+ * Таблицы создает hibernate уже после миграций flyway, поэтому индексы создаются после старта приложения,
+ * расширение pg_trgm создается миграцией
+ */
+@Component
+public class NameSearchIndexes implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(NameSearchIndexes.class);
+
+    private static final List<String> TABLES = List.of("country", "region", "city", "location");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final boolean enabled;
+
+    @Autowired
+    public NameSearchIndexes(
+            JdbcTemplate jdbcTemplate,
+            @Value("${geo.search.trigram-indexes:true}") boolean enabled
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        for (String table : TABLES) {
+            try {
+                jdbcTemplate.execute(
+                        "CREATE INDEX IF NOT EXISTS " + table + "_name_trgm_idx ON " + table +
+                                " USING gin (lower(name) gin_trgm_ops)"
+                );
+            } catch (DataAccessException e) {
+                log.warn("Не удалось создать триграммный индекс для {}: {}", table, e.getMessage());
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.data.jpa.domain.Specification;
 import ru.tdd.core.application.utils.TextUtils;
 import ru.tdd.geo.database.entities.City;
 
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -48,4 +49,12 @@ public interface CitySpecification {
                                 )
                 );
     }
+
+    /** Города стран, без списка - все города */
+    static Specification<City> byCountryIdIn(Collection<UUID> countryIds) {
+        return (root, cr, cb) ->
+                countryIds == null ?
+                        cb.conjunction() :
+                        root.get("country").get("id").in(countryIds);
+    }
 }
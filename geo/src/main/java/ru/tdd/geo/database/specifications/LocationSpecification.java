@@ -4,6 +4,7 @@ import org.springframework.data.jpa.domain.Specification;
 import ru.tdd.core.application.utils.TextUtils;
 import ru.tdd.geo.database.entities.Location;
 
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -37,4 +38,12 @@ public interface LocationSpecification {
                                 )
                 );
     }
+
+    /** Локации городов стран, без списка - все локации */
+    static Specification<Location> byCityCountryIdIn(Collection<UUID> countryIds) {
+        return (root, cr, cb) ->
+                countryIds == null ?
+                        cb.conjunction() :
+                        root.get("city").get("country").get("id").in(countryIds);
+    }
 }
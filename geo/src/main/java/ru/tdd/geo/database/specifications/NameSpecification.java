@@ -1,9 +1,16 @@
 package ru.tdd.geo.database.specifications;
 
+import jakarta.persistence.criteria.Expression;
 import org.springframework.data.jpa.domain.Specification;
+import ru.tdd.core.application.utils.PageCursor;
 import ru.tdd.core.application.utils.TextUtils;
+import ru.tdd.core.database.specifications.KeysetSpecification;
 import ru.tdd.geo.database.entities.BaseNameEntity;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
 /**
  * @author Tribushko Danil
  * @since 02.01.2026
@@ -24,6 +31,49 @@ public interface NameSpecification {
                         );
     }
 
+    /**
+     * Упорядочивание по релевантности: сначала по похожести имени на поисковую строку (similarity из pg_trgm),
+     * затем по имени. Без поисковой строки только по имени. На запрос количества не влияет
+     */
+    static <T extends BaseNameEntity> Specification<T> orderByRelevance(String name) {
+        return (root, cr, cb) -> {
+            if (cr != null && !Long.class.equals(cr.getResultType())) {
+                Expression<String> lowerName = cb.lower(root.get("name"));
+
+                cr.orderBy(
+                        TextUtils.isEmpty(name) ?
+                                List.of(cb.asc(root.get("name"))) :
+                                List.of(
+                                        cb.desc(cb.function("similarity", Double.class, lowerName, cb.literal(name.toLowerCase()))),
+                                        cb.asc(root.get("name"))
+                                )
+                );
+            }
+
+            return null;
+        };
+    }
+
+    /**
+     * Упорядочивание по (name, id), в котором строятся страницы по курсору
+     */
+    static <T extends BaseNameEntity> Specification<T> orderByNameAndId() {
+        return (root, cr, cb) -> {
+            if (cr != null && !Long.class.equals(cr.getResultType())) {
+                cr.orderBy(cb.asc(root.get("name")), cb.asc(root.get("id")));
+            }
+
+            return null;
+        };
+    }
+
+    /**
+     * Строки после курсора в порядке (name, id)
+     */
+    static <T extends BaseNameEntity> Specification<T> afterCursor(PageCursor cursor) {
+        return KeysetSpecification.after("name", cursor == null ? null : cursor.key(), cursor == null ? null : cursor.id());
+    }
+
     /**
      * Проверка наличия объекта с указанным именем
      */
@@ -34,4 +84,14 @@ public interface NameSpecification {
                         name.toLowerCase()
                 );
     }
+
+    /**
+     * Объекты с указанными идентификаторами, без списка - все объекты
+     */
+    static <T extends BaseNameEntity> Specification<T> byIdIn(Collection<UUID> ids) {
+        return (root, cr, cb) ->
+                ids == null ?
+                        cb.conjunction() :
+                        root.get("id").in(ids);
+    }
 }
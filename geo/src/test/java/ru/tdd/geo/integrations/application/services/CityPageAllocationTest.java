@@ -0,0 +1,176 @@
+package ru.tdd.geo.integrations.application.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.tdd.geo.TestcontainersConfiguration;
+import ru.tdd.geo.application.mappers.CityMapper;
+import ru.tdd.geo.application.models.dto.geo.city.CityDTO;
+import ru.tdd.geo.application.services.CityService;
+import ru.tdd.geo.database.entities.City;
+import ru.tdd.geo.database.entities.Country;
+import ru.tdd.geo.database.entities.Region;
+import ru.tdd.geo.database.repositories.CityRepository;
+import ru.tdd.geo.database.repositories.CountryRepository;
+import ru.tdd.geo.database.repositories.RegionRepository;
+import ru.tdd.geo.database.specifications.CitySpecification;
+import ru.tdd.geo.database.specifications.NameSpecification;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Сравнение памяти, выделяемой на страницу из 100 городов: через загрузку сущностей и маппинг
+ * и через проекцию, выбирающую только столбцы CityDTO
+ */
+@SpringBootTest
+@Testcontainers
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Выделение памяти на страницу городов")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class CityPageAllocationTest {
+
+    private static final int COUNTRIES = 10;
+
+    private static final int REGIONS_PER_COUNTRY = 10;
+
+    private static final int CITIES_PER_REGION = 10;
+
+    private static final int PER_PAGE = 100;
+
+    private static final int WARMUP = 50;
+
+    private static final int RUNS = 200;
+
+    private final CityService cityService;
+
+    private final CityRepository cityRepository;
+
+    private final RegionRepository regionRepository;
+
+    private final CountryRepository countryRepository;
+
+    private final CityMapper cityMapper;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Autowired
+    CityPageAllocationTest(
+            CityService cityService,
+            CityRepository cityRepository,
+            RegionRepository regionRepository,
+            CountryRepository countryRepository,
+            CityMapper cityMapper,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.cityService = cityService;
+        this.cityRepository = cityRepository;
+        this.regionRepository = regionRepository;
+        this.countryRepository = countryRepository;
+        this.cityMapper = cityMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @BeforeEach
+    void fillDb() {
+        cleanDb();
+
+        List<Object[]> regions = new ArrayList<>();
+        List<Object[]> cities = new ArrayList<>();
+
+        for (int i = 0; i < COUNTRIES; i++) {
+            UUID countryId = countryRepository.save(new Country(String.format("Allocation Country %02d", i))).getId();
+
+            for (int j = 0; j < REGIONS_PER_COUNTRY; j++) {
+                UUID regionId = UUID.randomUUID();
+                regions.add(new Object[]{regionId, String.format("Allocation Region %02d-%02d", i, j), countryId});
+
+                for (int k = 0; k < CITIES_PER_REGION; k++) {
+                    cities.add(new Object[]{
+                            UUID.randomUUID(),
+                            String.format("Allocation City %02d-%02d-%02d", i, j, k),
+                            regionId,
+                            countryId
+                    });
+                }
+            }
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO region (id, name, country) VALUES (?, ?, ?)", regions);
+        jdbcTemplate.batchUpdate("INSERT INTO city (id, name, region, country) VALUES (?, ?, ?, ?)", cities);
+    }
+
+    @AfterEach
+    void cleanDb() {
+        cityRepository.deleteAll();
+        regionRepository.deleteAll();
+        countryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Проекция выделяет меньше памяти, чем загрузка сущностей")
+    void projectionAllocatesLessTest() {
+        Supplier<List<CityDTO>> entities = () -> readOnlyTransaction.execute(status ->
+                cityRepository.findAll(
+                                CitySpecification.byNameRegionCityFullTextSearch(null, null, null)
+                                        .and(NameSpecification.<City>orderByRelevance(null)),
+                                PageRequest.of(0, PER_PAGE)
+                        )
+                        .stream()
+                        .map(cityMapper::toDto)
+                        .toList()
+        );
+        Supplier<List<CityDTO>> projection = () -> cityService.getAll(null, null, null, null, 0, PER_PAGE).getData();
+
+        long entityBytes = allocatedPerPage(entities);
+        long projectionBytes = allocatedPerPage(projection);
+
+        System.out.printf(
+                "Страница из %d городов: сущности %d КБ, проекция %d КБ%n",
+                PER_PAGE, entityBytes / 1024, projectionBytes / 1024
+        );
+
+        Assertions.assertTrue(
+                projectionBytes < entityBytes,
+                "Проекция выделяет не меньше памяти, чем загрузка сущностей"
+        );
+    }
+
+    private long allocatedPerPage(Supplier<List<CityDTO>> page) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        for (int i = 0; i < WARMUP; i++) {
+            Assertions.assertEquals(PER_PAGE, page.get().size());
+        }
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+
+        for (int i = 0; i < RUNS; i++) {
+            Assertions.assertEquals(PER_PAGE, page.get().size());
+        }
+
+        return (threads.getThreadAllocatedBytes(threadId) - before) / RUNS;
+    }
+}
@@ -0,0 +1,128 @@
+package ru.tdd.geo.integrations.application.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.tdd.core.application.utils.PageCursor;
+import ru.tdd.geo.TestcontainersConfiguration;
+import ru.tdd.geo.application.models.dto.geo.city.CitiesDTO;
+import ru.tdd.geo.application.services.CityService;
+import ru.tdd.geo.database.entities.Country;
+import ru.tdd.geo.database.repositories.CityRepository;
+import ru.tdd.geo.database.repositories.CountryRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Сравнение времени получения глубокой страницы городов по курсору и по смещению.
+ * Страница по курсору читается через индекс (name, id) и не должна дорожать с глубиной
+ */
+@SpringBootTest
+@Testcontainers
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Задержка глубоких страниц городов")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class CityPaginationLatencyTest {
+
+    private static final int CITIES = 50_000;
+
+    private static final int PER_PAGE = 50;
+
+    private static final int DEEP_PAGE = CITIES / PER_PAGE - 1;
+
+    private static final int RUNS = 11;
+
+    private final CityService cityService;
+
+    private final CityRepository cityRepository;
+
+    private final CountryRepository countryRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    CityPaginationLatencyTest(
+            CityService cityService,
+            CityRepository cityRepository,
+            CountryRepository countryRepository,
+            JdbcTemplate jdbcTemplate
+    ) {
+        this.cityService = cityService;
+        this.cityRepository = cityRepository;
+        this.countryRepository = countryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @BeforeEach
+    void fillDb() {
+        cityRepository.deleteAll();
+        countryRepository.deleteAll();
+
+        UUID countryId = countryRepository.save(new Country("Latency Country")).getId();
+        List<Object[]> rows = new ArrayList<>(CITIES);
+
+        for (int i = 0; i < CITIES; i++) {
+            rows.add(new Object[]{UUID.randomUUID(), String.format("City %06d", i), countryId});
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO city (id, name, country) VALUES (?, ?, ?)", rows);
+        jdbcTemplate.execute("ANALYZE city");
+    }
+
+    @AfterEach
+    void cleanDb() {
+        cityRepository.deleteAll();
+        countryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Глубокая страница по курсору не дороже первой страницы")
+    void deepPageByCursorTest() {
+        String deepCursor = jdbcTemplate.queryForObject(
+                "SELECT name, id FROM city ORDER BY name, id OFFSET ? LIMIT 1",
+                (rs, i) -> new PageCursor(rs.getString("name"), rs.getObject("id", UUID.class)).encode(),
+                DEEP_PAGE * PER_PAGE - 1
+        );
+
+        long firstPage = median(() -> cityService.getAll(null, null, null, "", 0, PER_PAGE));
+        long deepPage = median(() -> cityService.getAll(null, null, null, deepCursor, 0, PER_PAGE));
+        long offsetPage = median(() -> cityService.getAll(null, null, null, null, DEEP_PAGE, PER_PAGE));
+
+        System.out.printf(
+                "Первая страница: %d мкс, глубокая страница по курсору: %d мкс, по смещению: %d мкс%n",
+                firstPage / 1000, deepPage / 1000, offsetPage / 1000
+        );
+
+        Assertions.assertTrue(
+                deepPage < firstPage * 3 + 5_000_000,
+                "Глубокая страница по курсору заметно дороже первой"
+        );
+    }
+
+    private long median(Supplier<CitiesDTO> page) {
+        long[] times = new long[RUNS];
+
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            Assertions.assertEquals(PER_PAGE, page.get().getData().size());
+            times[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(times);
+        return times[RUNS / 2];
+    }
+}
@@ -18,6 +18,7 @@ import ru.tdd.geo.application.services.CountryService;
 import ru.tdd.geo.database.entities.Country;
 import ru.tdd.geo.database.repositories.CountryRepository;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -185,11 +186,11 @@ public class CountryServiceTest {
         countryRepository.save(country4);
         countryRepository.save(country5);
 
-        CountriesDTO countries1 = countryService.getAll("Us", 1, 2);
-        CountriesDTO countries2 = countryService.getAll("cHIn", 1, 1);
-        CountriesDTO countries3 = countryService.getAll("u", 1, 2);
-        CountriesDTO countries4 = countryService.getAll(null, 0, 100);
-        CountriesDTO countries5 = countryService.getAll("", 0, 100);
+        CountriesDTO countries1 = countryService.getAll("Us", null, 1, 2);
+        CountriesDTO countries2 = countryService.getAll("cHIn", null, 1, 1);
+        CountriesDTO countries3 = countryService.getAll("u", null, 1, 2);
+        CountriesDTO countries4 = countryService.getAll(null, null, 0, 100);
+        CountriesDTO countries5 = countryService.getAll("", null, 0, 100);
 
         Assertions.assertEquals(1, countries1.getData().size());
         Assertions.assertEquals(0, countries2.getData().size());
@@ -197,4 +198,28 @@ public class CountryServiceTest {
         Assertions.assertEquals(5, countries4.getData().size());
         Assertions.assertEquals(5, countries5.getData().size());
     }
+
+    @Test
+    @DisplayName("Постраничный вывод по курсору")
+    void findAllByCursorTest() {
+        countryRepository.saveAll(List.of(
+                new Country("Russia"),
+                new Country("USA"),
+                new Country("China"),
+                new Country("Rus"),
+                new Country("UK")
+        ));
+
+        CountriesDTO page1 = countryService.getAll(null, "", 0, 2);
+        CountriesDTO page2 = countryService.getAll(null, page1.getNext(), 0, 2);
+        CountriesDTO page3 = countryService.getAll(null, page2.getNext(), 0, 2);
+        CountriesDTO filtered = countryService.getAll("rus", "", 0, 10);
+
+        Assertions.assertEquals(List.of("China", "Rus"), page1.getData().stream().map(CountryDTO::getName).toList());
+        Assertions.assertEquals(List.of("Russia", "UK"), page2.getData().stream().map(CountryDTO::getName).toList());
+        Assertions.assertEquals(List.of("USA"), page3.getData().stream().map(CountryDTO::getName).toList());
+        Assertions.assertNull(page3.getNext());
+        Assertions.assertEquals(List.of("Rus", "Russia"), filtered.getData().stream().map(CountryDTO::getName).toList());
+        Assertions.assertNull(filtered.getNext());
+    }
 }
@@ -0,0 +1,144 @@
+package ru.tdd.geo.integrations.application.services;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.tdd.geo.TestcontainersConfiguration;
+import ru.tdd.geo.application.models.dto.geo.city.CityDetailsDTO;
+import ru.tdd.geo.application.models.dto.geo.country.CountryDetailsDTO;
+import ru.tdd.geo.application.models.dto.geo.location.LocationDTO;
+import ru.tdd.geo.application.models.dto.geo.region.RegionDetailsDTO;
+import ru.tdd.geo.application.services.CityService;
+import ru.tdd.geo.application.services.CountryService;
+import ru.tdd.geo.application.services.LocationService;
+import ru.tdd.geo.application.services.RegionService;
+import ru.tdd.geo.database.entities.City;
+import ru.tdd.geo.database.entities.Country;
+import ru.tdd.geo.database.entities.Location;
+import ru.tdd.geo.database.entities.Region;
+import ru.tdd.geo.database.repositories.CityRepository;
+import ru.tdd.geo.database.repositories.CountryRepository;
+import ru.tdd.geo.database.repositories.LocationRepository;
+import ru.tdd.geo.database.repositories.RegionRepository;
+import ru.tdd.geo.integrations.utils.QueryCounter;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Проверка количества запросов при получении подробной информации.
+ * Каждый объект читается одним запросом независимо от количества дочерних объектов
+ */
+@SpringBootTest
+@Testcontainers
+@Import(value = TestcontainersConfiguration.class)
+@DisplayName("Количество запросов подробной информации")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class GeoDetailsQueryCountTest {
+
+    private static final int FAN_OUT = 5;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private RegionRepository regionRepository;
+
+    @Autowired
+    private CityRepository cityRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private CountryService countryService;
+
+    @Autowired
+    private RegionService regionService;
+
+    @Autowired
+    private CityService cityService;
+
+    @Autowired
+    private LocationService locationService;
+
+    private Country country;
+
+    private Region region;
+
+    private City city;
+
+    private Location location;
+
+    @BeforeEach
+    void fillDb() {
+        locationRepository.deleteAll();
+        cityRepository.deleteAll();
+        regionRepository.deleteAll();
+        countryRepository.deleteAll();
+
+        country = countryRepository.save(new Country("Query Count Country"));
+
+        for (int i = 0; i < FAN_OUT; i++) {
+            Region current = regionRepository.save(new Region("Query Count Region " + i, country));
+
+            for (int j = 0; j < FAN_OUT; j++) {
+                City currentCity = cityRepository.save(new City("Query Count City " + i + " " + j, current, country));
+
+                for (int k = 0; k < FAN_OUT; k++) {
+                    location = locationRepository.save(new Location("Query Count Location " + k, currentCity));
+                }
+
+                city = currentCity;
+            }
+
+            region = current;
+        }
+
+        QueryCounter.reset();
+    }
+
+    @Test
+    @DisplayName("Страна с регионами - один запрос")
+    void countryDetailsTest() {
+        CountryDetailsDTO actual = countryService.getById(country.getId());
+
+        QueryCounter.assertCount(1);
+        Assertions.assertEquals(FAN_OUT, actual.getRegions().size());
+    }
+
+    @Test
+    @DisplayName("Регион со страной и городами - один запрос")
+    void regionDetailsTest() {
+        RegionDetailsDTO actual = regionService.getById(region.getId());
+
+        QueryCounter.assertCount(1);
+        Assertions.assertEquals(country.getId(), actual.getCountryDTO().getId());
+        Assertions.assertEquals(FAN_OUT, actual.getCities().size());
+    }
+
+    @Test
+    @DisplayName("Город со страной, регионом и локациями - один запрос")
+    void cityDetailsTest() {
+        CityDetailsDTO actual = cityService.getById(city.getId());
+
+        QueryCounter.assertCount(1);
+        Assertions.assertEquals(region.getId(), actual.getRegion().getId());
+        Assertions.assertEquals(FAN_OUT, actual.getLocations().size());
+    }
+
+    @Test
+    @DisplayName("Локация с городом - один запрос")
+    void locationDetailsTest() {
+        LocationDTO actual = locationService.getById(location.getId());
+
+        QueryCounter.assertCount(1);
+        Assertions.assertEquals(city.getId(), actual.getCity().getId());
+        Assertions.assertEquals(country.getId(), actual.getCity().getCountry().getId());
+    }
+}
@@ -0,0 +1,130 @@
+package ru.tdd.geo.integrations.application.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.tdd.geo.TestcontainersConfiguration;
+import ru.tdd.geo.application.models.dto.geo.city.CityDTO;
+import ru.tdd.geo.application.models.dto.geo.location.LocationDTO;
+import ru.tdd.geo.application.services.GeoExportService;
+import ru.tdd.geo.database.entities.City;
+import ru.tdd.geo.database.entities.Country;
+import ru.tdd.geo.database.entities.Region;
+import ru.tdd.geo.database.repositories.CityRepository;
+import ru.tdd.geo.database.repositories.CountryRepository;
+import ru.tdd.geo.database.repositories.LocationRepository;
+import ru.tdd.geo.database.repositories.RegionRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Набор интеграционных тестов выгрузки справочников
+ */
+@SpringBootTest
+@Testcontainers
+@Import(value = TestcontainersConfiguration.class)
+@DisplayName("Интеграционный тест выгрузки справочников")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class GeoExportServiceTest {
+
+    private static final int LOCATIONS = 2500;
+
+    @Autowired
+    private GeoExportService geoExportService;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private CityRepository cityRepository;
+
+    @Autowired
+    private RegionRepository regionRepository;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private City city;
+
+    @BeforeEach
+    void fillDb() {
+        locationRepository.deleteAll();
+        cityRepository.deleteAll();
+        regionRepository.deleteAll();
+        countryRepository.deleteAll();
+
+        Country country = countryRepository.save(new Country("Export Country"));
+        Region region = regionRepository.save(new Region("Export Region", country));
+        city = cityRepository.save(new City("Export City", region, country));
+        cityRepository.save(new City("Export City Without Region", null, country));
+
+        List<Object[]> rows = new ArrayList<>(LOCATIONS);
+
+        for (int i = 0; i < LOCATIONS; i++) {
+            rows.add(new Object[]{UUID.randomUUID(), "Location " + i, city.getId()});
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO location (id, name, city) VALUES (?, ?, ?)", rows);
+    }
+
+    @Test
+    @DisplayName("Выгрузка городов - одна строка на город")
+    void exportCitiesTest() throws Exception {
+        List<CityDTO> actual = new ArrayList<>();
+
+        for (String line : export(geoExportService::exportCities)) {
+            actual.add(objectMapper.readValue(line, CityDTO.class));
+        }
+
+        Assertions.assertEquals(2, actual.size());
+        Assertions.assertTrue(actual.stream().allMatch(c -> "Export Country".equals(c.getCountry().getName())));
+        Assertions.assertEquals(
+                1,
+                actual.stream().filter(c -> c.getRegion() != null && "Export Region".equals(c.getRegion().getName())).count()
+        );
+    }
+
+    @Test
+    @DisplayName("Выгрузка локаций - строки через границы порций выгрузки")
+    void exportLocationsTest() throws Exception {
+        List<String> lines = export(geoExportService::exportLocations);
+        LocationDTO last = objectMapper.readValue(lines.getLast(), LocationDTO.class);
+
+        Assertions.assertEquals(LOCATIONS, lines.size());
+        Assertions.assertEquals(city.getId(), last.getCity().getId());
+        Assertions.assertEquals("Export Region", last.getCity().getRegion().getName());
+    }
+
+    private List<String> export(Consumer<OutputStream> exporter) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.accept(out);
+
+        String body = out.toString(StandardCharsets.UTF_8);
+
+        Assertions.assertTrue(body.endsWith("\n"));
+
+        return body.lines().toList();
+    }
+}
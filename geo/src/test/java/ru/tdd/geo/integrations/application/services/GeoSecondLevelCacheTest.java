@@ -0,0 +1,136 @@
+package ru.tdd.geo.integrations.application.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.tdd.geo.TestcontainersConfiguration;
+import ru.tdd.geo.application.models.dto.geo.country.UpdateCountryDTO;
+import ru.tdd.geo.application.models.dto.geo.region.RegionDetailsDTO;
+import ru.tdd.geo.application.services.CountryService;
+import ru.tdd.geo.application.services.RegionService;
+import ru.tdd.geo.controller.kafka.GeoCacheInvalidationListener;
+import ru.tdd.geo.database.cache.GeoCacheRegions;
+import ru.tdd.geo.database.entities.City;
+import ru.tdd.geo.database.entities.Country;
+import ru.tdd.geo.database.entities.Region;
+import ru.tdd.geo.database.repositories.CityRepository;
+import ru.tdd.geo.database.repositories.CountryRepository;
+import ru.tdd.geo.database.repositories.LocationRepository;
+import ru.tdd.geo.database.repositories.RegionRepository;
+import ru.tdd.geo.integrations.utils.QueryCounter;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Проверка кэша второго уровня справочников: повторное чтение без обращения к бд,
+ * сброс при изменении на этом экземпляре и по сообщению с другого экземпляра
+ */
+@SpringBootTest
+@Testcontainers
+@Import(value = TestcontainersConfiguration.class)
+@DisplayName("Кэш второго уровня справочников гео")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class GeoSecondLevelCacheTest {
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private RegionRepository regionRepository;
+
+    @Autowired
+    private CityRepository cityRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private CountryService countryService;
+
+    @Autowired
+    private RegionService regionService;
+
+    @Autowired
+    private GeoCacheInvalidationListener geoCacheInvalidationListener;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Country country;
+
+    private Region region;
+
+    @BeforeEach
+    void fillDb() {
+        locationRepository.deleteAll();
+        cityRepository.deleteAll();
+        regionRepository.deleteAll();
+        countryRepository.deleteAll();
+
+        country = countryRepository.save(new Country("Cache Country"));
+        region = regionRepository.save(new Region("Cache Region", country));
+
+        for (int i = 0; i < 3; i++) {
+            cityRepository.save(new City("Cache City " + i, region, country));
+        }
+    }
+
+    @Test
+    @DisplayName("Повторное чтение региона не обращается к бд")
+    void repeatedReadFromCacheTest() {
+        regionService.getById(region.getId());
+
+        QueryCounter.reset();
+        RegionDetailsDTO actual = regionService.getById(region.getId());
+
+        QueryCounter.assertCount(0);
+        Assertions.assertEquals(3, actual.getCities().size());
+        Assertions.assertTrue(
+                meterRegistry.get("hibernate.second.level.cache.requests")
+                        .tag("region", GeoCacheRegions.REGION)
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count() > 0
+        );
+    }
+
+    @Test
+    @DisplayName("Изменение страны сбрасывает закэшированные данные")
+    void updateInvalidatesCacheTest() {
+        regionService.getById(region.getId());
+
+        countryService.update(country.getId(), new UpdateCountryDTO("Cache Country Updated"));
+
+        RegionDetailsDTO actual = regionService.getById(region.getId());
+
+        Assertions.assertEquals("Cache Country Updated", actual.getCountryDTO().getName());
+    }
+
+    @Test
+    @DisplayName("Сообщение с другого экземпляра сбрасывает кэш, собственное сообщение игнорируется")
+    void remoteInvalidationTest() {
+        regionService.getById(region.getId());
+
+        geoCacheInvalidationListener.listenInvalidations(
+                "{\"node\":\"" + geoCacheInvalidationListener.getNodeId() + "\",\"countryIds\":[]}"
+        );
+
+        Assertions.assertTrue(entityManagerFactory.getCache().contains(Region.class, region.getId()));
+
+        geoCacheInvalidationListener.listenInvalidations("{\"node\":\"other-node\",\"countryIds\":[]}");
+
+        Assertions.assertFalse(entityManagerFactory.getCache().contains(Region.class, region.getId()));
+        Assertions.assertFalse(entityManagerFactory.getCache().contains(Country.class, country.getId()));
+    }
+}
@@ -254,10 +254,10 @@ class RegionServiceTest {
 
         regionRepository.saveAll(List.of(region1, region2, region3, region4, region5));
 
-        RegionsDTO actual1 = regionService.getAll(null, null, 0, 100);
-        RegionsDTO actual2 = regionService.getAll(null, "eSt", 0, 100);
-        RegionsDTO actual3 = regionService.getAll("ОбЛаСтЬ", null, 0, 100);
-        RegionsDTO actual4 = regionService.getAll(null, null, 1, 4);
+        RegionsDTO actual1 = regionService.getAll(null, null, null, 0, 100);
+        RegionsDTO actual2 = regionService.getAll(null, "eSt", null, 0, 100);
+        RegionsDTO actual3 = regionService.getAll("ОбЛаСтЬ", null, null, 0, 100);
+        RegionsDTO actual4 = regionService.getAll(null, null, null, 1, 4);
 
         Assertions.assertEquals(5, actual1.getData().size());
         Assertions.assertEquals(4, actual2.getData().size());
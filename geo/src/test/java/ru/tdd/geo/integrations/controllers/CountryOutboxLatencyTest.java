@@ -0,0 +1,145 @@
+package ru.tdd.geo.integrations.controllers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.kafka.KafkaContainer;
+import ru.tdd.core.controller.dto.OutboxEventDTO;
+import ru.tdd.geo.TestcontainersConfiguration;
+import ru.tdd.geo.application.models.dto.geo.country.CountryDTO;
+import ru.tdd.geo.application.models.dto.geo.country.CreateCountryDTO;
+import ru.tdd.geo.application.models.dto.geo.country.UpdateCountryDTO;
+import ru.tdd.geo.application.services.CountryService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Замер задержки от коммита изменения страны до появления события в топике.
+ * Интервал опроса outbox растянут до POLL_DELAY, а граница медианы на порядок меньше его:
+ * уложиться в нее можно только за счет пробуждения отправителя после коммита, а не очередного опроса
+ */
+@SpringBootTest(properties = {
+        "apache-kafka.outbox.min-delay=" + CountryOutboxLatencyTest.POLL_DELAY,
+        "apache-kafka.outbox.max-delay=" + CountryOutboxLatencyTest.POLL_DELAY
+})
+@Testcontainers
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Задержка доставки событий стран")
+@ActiveProfiles("test-containers")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class CountryOutboxLatencyTest {
+
+    private static final int UPDATES = 11;
+
+    static final long POLL_DELAY = 5000L;
+
+    private static final long MAX_MEDIAN_LATENCY = POLL_DELAY / 10;
+
+    @Value("${apache-kafka.topics.country}")
+    private String countryTopic;
+
+    private final CountryService countryService;
+
+    private final ObjectMapper objectMapper;
+
+    private final KafkaContainer kafkaContainer;
+
+    @Autowired
+    CountryOutboxLatencyTest(
+            CountryService countryService,
+            ObjectMapper objectMapper,
+            KafkaContainer kafkaContainer
+    ) {
+        this.countryService = countryService;
+        this.objectMapper = objectMapper;
+        this.kafkaContainer = kafkaContainer;
+    }
+
+    private Consumer<String, String> createConsumer() {
+        Map<String, Object> props = new HashMap<>();
+
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaContainer.getBootstrapServers());
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, UUID.randomUUID().toString());
+
+        Consumer<String, String> consumer = new KafkaConsumer<>(
+                props,
+                new StringDeserializer(),
+                new StringDeserializer()
+        );
+
+        consumer.subscribe(List.of(countryTopic));
+
+        return consumer;
+    }
+
+    private long awaitCountryName(Consumer<String, String> consumer, String name, long startTime)
+            throws JsonProcessingException {
+        long deadline = startTime + Duration.ofSeconds(30).toNanos();
+
+        while (System.nanoTime() < deadline) {
+            for (ConsumerRecord<String, String> record : consumer.poll(Duration.ofMillis(10))) {
+                OutboxEventDTO event = objectMapper.readValue(record.value(), OutboxEventDTO.class);
+                CountryDTO country = objectMapper.readValue(event.getPayload(), CountryDTO.class);
+
+                if (name.equals(country.getName())) {
+                    return Duration.ofNanos(System.nanoTime() - startTime).toMillis();
+                }
+            }
+        }
+
+        return Assertions.fail("Событие со страной " + name + " не получено");
+    }
+
+    @Test
+    @DisplayName("Медианная задержка от update до топика измеряется миллисекундами")
+    void updateLatencyTest() throws JsonProcessingException {
+        try (Consumer<String, String> consumer = createConsumer()) {
+            String name = "Latency Country " + UUID.randomUUID();
+            CountryDTO country = countryService.create(new CreateCountryDTO(name));
+
+            awaitCountryName(consumer, name, System.nanoTime());
+
+            List<Long> latencies = new ArrayList<>(UPDATES);
+
+            for (int i = 0; i < UPDATES; i++) {
+                String newName = "Latency Country " + UUID.randomUUID();
+                long startTime = System.nanoTime();
+
+                countryService.update(country.getId(), new UpdateCountryDTO(newName));
+
+                latencies.add(awaitCountryName(consumer, newName, startTime));
+            }
+
+            Collections.sort(latencies);
+            long median = latencies.get(UPDATES / 2);
+
+            Assertions.assertTrue(
+                    median < MAX_MEDIAN_LATENCY,
+                    "Медианная задержка " + median + " мс, замеры: " + latencies
+            );
+        }
+    }
+}
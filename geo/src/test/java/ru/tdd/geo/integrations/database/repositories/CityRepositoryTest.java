@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import ru.tdd.geo.TestcontainersConfiguration;
 import ru.tdd.geo.database.entities.City;
@@ -168,6 +169,34 @@ public class CityRepositoryTest {
         Assertions.assertEquals(0, cities4.size());
     }
 
+    @Test
+    @DisplayName("Поиск по названию с упорядочиванием по релевантности")
+    void findByNameOrderByRelevanceTest() {
+        Country country = new Country("Test Country Relevance");
+
+        countryRepository.save(country);
+
+        City city1 = new City("Greater Moscow", null, country);
+        City city2 = new City("Moscow", null, country);
+        City city3 = new City("Kazan", null, country);
+
+        cityRepository.saveAll(List.of(city1, city2, city3));
+
+        List<City> cities1 = cityRepository.findAll(
+                NameSpecification.<City>byNameWithFullTextSearch("mosCOW")
+                        .and(NameSpecification.orderByRelevance("mosCOW")),
+                PageRequest.of(0, 10)
+        ).getContent();
+        List<City> cities2 = cityRepository.findAll(
+                NameSpecification.<City>byNameWithFullTextSearch(null)
+                        .and(NameSpecification.orderByRelevance(null)),
+                PageRequest.of(0, 10)
+        ).getContent();
+
+        Assertions.assertEquals(List.of("Moscow", "Greater Moscow"), cities1.stream().map(City::getName).toList());
+        Assertions.assertEquals(List.of("Greater Moscow", "Kazan", "Moscow"), cities2.stream().map(City::getName).toList());
+    }
+
     @Test
     @DisplayName("Наличие с указанным названием")
     void existsByNameAndRegionAndCityTest() {
@@ -0,0 +1,44 @@
+package ru.tdd.geo.integrations.utils;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Счетчик SQL запросов Hibernate для интеграционных тестов.
+ * Подключается через hibernate.session_factory.statement_inspector и считает запросы текущего потока,
+ * поэтому фоновые задачи приложения не влияют на результат
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    public static void reset() {
+        STATEMENTS.get().clear();
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+
+    /** Проверка количества запросов с момента последнего сброса, в сообщении выводятся сами запросы */
+    public static void assertCount(int expected) {
+        List<String> statements = statements();
+
+        Assertions.assertEquals(
+                expected,
+                statements.size(),
+                () -> "Выполнено запросов: " + statements.size() + "\n" + String.join("\n", statements)
+        );
+    }
+}
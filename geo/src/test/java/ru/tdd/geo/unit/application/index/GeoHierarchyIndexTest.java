@@ -0,0 +1,222 @@
+package ru.tdd.geo.unit.application.index;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import ru.tdd.geo.application.index.GeoHierarchyIndex;
+import ru.tdd.geo.application.index.GeoIndex;
+import ru.tdd.geo.application.models.events.GeoHierarchyChanged;
+import ru.tdd.geo.database.projections.CityRow;
+import ru.tdd.geo.database.projections.CountryRow;
+import ru.tdd.geo.database.projections.LocationRow;
+import ru.tdd.geo.database.projections.NameRowQueries;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Набор тестов индекса иерархии стран в памяти
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit-тест индекса иерархии стран")
+class GeoHierarchyIndexTest {
+
+    @Mock
+    private NameRowQueries nameRowQueries;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private GeoHierarchyIndex geoHierarchyIndex;
+
+    private CountryRow russia;
+
+    private CountryRow france;
+
+    private CityRow moscow;
+
+    @BeforeEach
+    void setUp() {
+        geoHierarchyIndex = new GeoHierarchyIndex(nameRowQueries, transactionManager, taskScheduler);
+
+        russia = new CountryRow(UUID.randomUUID(), "Russia");
+        france = new CountryRow(UUID.randomUUID(), "France");
+
+        UUID moscowRegionId = UUID.randomUUID();
+
+        moscow = city("Moscow", moscowRegionId, "Московская область", russia);
+        CityRow mozhaysk = city("Mozhaysk", moscowRegionId, "Московская область", russia);
+        CityRow kazan = city("Kazan", null, null, russia);
+        CityRow montpellier = city("Montpellier", null, null, france);
+
+        LocationRow redSquare = location("Red Square", moscow);
+
+        stub(List.of(russia, france), List.of(moscow, mozhaysk, kazan, montpellier), List.of(redSquare));
+
+        geoHierarchyIndex.reload();
+    }
+
+    @Test
+    @DisplayName("Поиск городов по префиксу в стране и по всем странам")
+    void findCitiesTest() {
+        GeoIndex index = geoHierarchyIndex.get();
+
+        List<String> actual1 = names(index.findCities("mO", russia.id(), 10));
+        List<String> actual2 = names(index.findCities("mo", null, 10));
+        List<String> actual3 = names(index.findCities("mo", null, 2));
+        List<String> actual4 = names(index.findCities("", france.id(), 10));
+        List<String> actual5 = names(index.findCities("x", russia.id(), 10));
+
+        Assertions.assertEquals(List.of("Moscow", "Mozhaysk"), actual1);
+        Assertions.assertEquals(List.of("Montpellier", "Moscow", "Mozhaysk"), actual2);
+        Assertions.assertEquals(List.of("Montpellier", "Moscow"), actual3);
+        Assertions.assertEquals(List.of("Montpellier"), actual4);
+        Assertions.assertEquals(List.of(), actual5);
+
+        GeoIndex.CityEntry city = index.findCities("moscow", russia.id(), 1).getFirst();
+
+        Assertions.assertEquals("Московская область", city.region().name());
+        Assertions.assertEquals("Russia", city.country().name());
+        Assertions.assertEquals("Red Square", index.findLocations("red", moscow.id(), 10).getFirst().name());
+    }
+
+    @Test
+    @DisplayName("Поиск с неположительным лимитом возвращает пустой список")
+    void findWithNonPositiveLimitTest() {
+        GeoIndex index = geoHierarchyIndex.get();
+
+        Assertions.assertEquals(List.of(), index.findCities("mo", null, 0));
+        Assertions.assertEquals(List.of(), index.findCities("mo", russia.id(), -1));
+        Assertions.assertEquals(List.of(), index.findLocations("red", moscow.id(), -1));
+    }
+
+    @Test
+    @DisplayName("Перечитывание только измененной страны")
+    void refreshCountryTest() {
+        CityRow lyon = city("Lyon", null, null, france);
+
+        stub(List.of(france), List.of(lyon), List.of());
+
+        GeoIndex before = geoHierarchyIndex.get();
+
+        geoHierarchyIndex.onGeoHierarchyChanged(new GeoHierarchyChanged(france.id()));
+
+        Assertions.assertSame(before, geoHierarchyIndex.get());
+
+        scheduledRefresh().run();
+
+        GeoIndex after = geoHierarchyIndex.get();
+
+        Assertions.assertNotSame(before, after);
+        Assertions.assertEquals(List.of("Montpellier"), names(before.findCities("", france.id(), 10)));
+        Assertions.assertEquals(List.of("Lyon"), names(after.findCities("", france.id(), 10)));
+        Assertions.assertEquals(List.of("Moscow", "Mozhaysk"), names(after.findCities("mo", russia.id(), 10)));
+        Assertions.assertEquals(1, after.findLocations("", moscow.id(), 10).size());
+    }
+
+    @Test
+    @DisplayName("Изменения до начала обновления перечитываются одним обновлением")
+    void coalesceRefreshTest() {
+        stub(List.of(russia, france), List.of(moscow), List.of());
+
+        geoHierarchyIndex.scheduleRefresh(Set.of(russia.id()));
+        geoHierarchyIndex.scheduleRefresh(Set.of(france.id()));
+
+        scheduledRefresh().run();
+
+        Mockito.verify(taskScheduler, Mockito.times(1)).schedule(Mockito.any(Runnable.class), Mockito.any(Instant.class));
+        Mockito.verify(nameRowQueries, Mockito.times(2)).findAll(eq(CountryRow.SELECTION), any());
+        Assertions.assertEquals(List.of(), geoHierarchyIndex.get().findCities("", france.id(), 10));
+
+        geoHierarchyIndex.scheduleRefresh(Set.of(france.id()));
+
+        Mockito.verify(taskScheduler, Mockito.times(2)).schedule(Mockito.any(Runnable.class), Mockito.any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Общий индекс городов после слияния остается упорядоченным по названию")
+    void mergeKeepsOrderTest() {
+        stub(
+                List.of(russia),
+                List.of(
+                        city("Astrakhan", null, null, russia),
+                        city("Zelenograd", null, null, russia),
+                        city("Moscow", null, null, russia)
+                ),
+                List.of()
+        );
+
+        geoHierarchyIndex.refresh(Set.of(russia.id()));
+
+        Assertions.assertEquals(
+                List.of("Astrakhan", "Montpellier", "Moscow", "Zelenograd"),
+                names(geoHierarchyIndex.get().findCities("", null, 10))
+        );
+    }
+
+    @Test
+    @DisplayName("Удаление страны из индекса")
+    void refreshDeletedCountryTest() {
+        stub(List.of(), List.of(), List.of());
+
+        geoHierarchyIndex.refresh(Set.of(russia.id()));
+
+        GeoIndex index = geoHierarchyIndex.get();
+
+        Assertions.assertEquals(1, index.countriesCount());
+        Assertions.assertEquals(List.of("Montpellier"), names(index.findCities("mo", null, 10)));
+        Assertions.assertEquals(List.of(), index.findLocations("", moscow.id(), 10));
+    }
+
+    private Runnable scheduledRefresh() {
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.verify(taskScheduler, Mockito.atLeastOnce()).schedule(captor.capture(), Mockito.any(Instant.class));
+
+        return captor.getValue();
+    }
+
+    private void stub(List<CountryRow> countries, List<CityRow> cities, List<LocationRow> locations) {
+        Mockito.when(nameRowQueries.findAll(eq(CountryRow.SELECTION), any())).thenReturn(countries);
+        Mockito.when(nameRowQueries.findAll(eq(CityRow.SELECTION), any())).thenReturn(cities);
+        Mockito.when(nameRowQueries.findAll(eq(LocationRow.SELECTION), any())).thenReturn(locations);
+    }
+
+    private static CityRow city(String name, UUID regionId, String regionName, CountryRow country) {
+        return new CityRow(UUID.randomUUID(), name, regionId, regionName, country.id(), country.name());
+    }
+
+    private static LocationRow location(String name, CityRow city) {
+        return new LocationRow(
+                UUID.randomUUID(),
+                name,
+                city.id(),
+                city.name(),
+                city.regionId(),
+                city.regionName(),
+                city.countryId(),
+                city.countryName()
+        );
+    }
+
+    private static List<String> names(List<GeoIndex.CityEntry> cities) {
+        return cities.stream().map(GeoIndex.CityEntry::name).toList();
+    }
+}
@@ -8,8 +8,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.tdd.geo.application.index.GeoHierarchyIndex;
+import ru.tdd.geo.application.index.GeoIndex;
 import ru.tdd.geo.application.mappers.CityMapper;
 import ru.tdd.geo.application.mappers.LocationMapper;
 import ru.tdd.geo.application.models.dto.geo.city.CityDTO;
@@ -30,6 +34,7 @@ import ru.tdd.geo.database.repositories.CityRepository;
 import ru.tdd.geo.database.repositories.CountryRepository;
 import ru.tdd.geo.database.repositories.RegionRepository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -59,6 +64,12 @@ class CityServiceTest {
     @Mock
     private LocationMapper locationMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private GeoHierarchyIndex geoHierarchyIndex;
+
     @InjectMocks
     private CityServiceImp cityService;
 
@@ -328,7 +339,7 @@ class CityServiceTest {
         City city = new City("Test City", null, country);
         city.setId(cityId);
 
-        Mockito.when(cityRepository.findById(city.getId())).thenReturn(Optional.of(city));
+        Mockito.when(cityRepository.findDetailsById(city.getId())).thenReturn(Optional.of(city));
         Mockito.when(cityMapper.toDetailsDto(city)).thenReturn(
                 new CityDetailsDTO(
                         cityId,
@@ -350,7 +361,7 @@ class CityServiceTest {
     void getByIdNotFoundFailTest() {
         UUID id = UUID.randomUUID();
 
-        Mockito.when(cityRepository.findById(id)).thenReturn(Optional.empty());
+        Mockito.when(cityRepository.findDetailsById(id)).thenReturn(Optional.empty());
 
         CityByIdNotFoundException actual = Assertions.assertThrows(
                 CityByIdNotFoundException.class,
@@ -364,7 +375,7 @@ class CityServiceTest {
     @Test
     @DisplayName("Удачное удаление")
     void deleteSuccessTest() {
-        City city = new City("City For Delete", null, null);
+        City city = new City("City For Delete", null, new Country("Test Country"));
         city.setId(UUID.randomUUID());
 
         Mockito.when(cityRepository.findById(city.getId())).thenReturn(Optional.of(city));
@@ -390,4 +401,20 @@ class CityServiceTest {
         Assertions.assertEquals(HttpStatus.NOT_FOUND, actual.getStatusCode());
         Assertions.assertEquals("Город с указанным идентификатором не найден", actual.getMessage());
     }
+
+    @Test
+    @DisplayName("Autocomplete - лимит ограничивается снизу единицей и сверху максимумом")
+    void autocompleteLimitClampTest() {
+        GeoIndex index = Mockito.mock(GeoIndex.class);
+        ReflectionTestUtils.setField(cityService, "maxAutocompleteLimit", 50);
+
+        Mockito.when(geoHierarchyIndex.get()).thenReturn(index);
+        Mockito.when(index.findCities(Mockito.eq("mo"), Mockito.isNull(), Mockito.anyInt())).thenReturn(List.of());
+
+        cityService.autocomplete("mo", null, -1);
+        cityService.autocomplete("mo", null, 500);
+
+        Mockito.verify(index).findCities("mo", null, 1);
+        Mockito.verify(index).findCities("mo", null, 50);
+    }
 }
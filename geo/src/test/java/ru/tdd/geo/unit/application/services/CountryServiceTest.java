@@ -8,17 +8,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import ru.tdd.core.application.exceptions.AlreadyExistsException;
 import ru.tdd.core.application.exceptions.NotFoundException;
+import ru.tdd.core.controller.dto.ConditionalDTO;
 import ru.tdd.geo.application.mappers.CountryMapper;
 import ru.tdd.geo.application.models.dto.geo.country.*;
 import ru.tdd.geo.application.services.imp.CountryServiceImp;
 import ru.tdd.geo.application.services.imp.kafka.CountryKafkaService;
 import ru.tdd.geo.database.entities.Country;
+import ru.tdd.geo.database.projections.CountryRow;
+import ru.tdd.geo.database.projections.NameRowQueries;
 import ru.tdd.geo.database.repositories.CountryRepository;
 
 import java.util.List;
@@ -39,12 +42,18 @@ class CountryServiceTest {
     @Mock
     private CountryRepository countryRepository;
 
+    @Mock
+    private NameRowQueries nameRowQueries;
+
     @Mock
     private CountryMapper countryMapper;
 
     @Mock
     private CountryKafkaService countryKafkaService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CountryServiceImp countryServiceImp;
 
@@ -183,57 +192,78 @@ class CountryServiceTest {
         Country country = new Country("Find By Id Country");
         country.setId(id);
 
-        Mockito.when(countryRepository.findById(id)).thenReturn(Optional.of(country));
+        Mockito.when(countryRepository.findDetailsById(id)).thenReturn(Optional.of(country));
         Mockito.when(countryMapper.toDetailsDto(country)).thenReturn(
                 new CountryDetailsDTO(id, "Find By Id Country", null)
         );
 
         CountryDetailsDTO actual = countryServiceImp.getById(id);
 
-        Mockito.verify(countryRepository).findById(id);
+        Mockito.verify(countryRepository).findDetailsById(id);
         Assertions.assertEquals(id, actual.getId());
         Assertions.assertEquals("Find By Id Country", actual.getName());
     }
 
+    @Test
+    @DisplayName("Поиск по идентификатору с актуальной версией клиента не выполняет маппинг")
+    void findByIdNotModifiedTest() {
+        UUID id = UUID.randomUUID();
+
+        Country country = new Country("Find By Id Country");
+        country.setId(id);
+
+        Mockito.when(countryRepository.findDetailsById(id)).thenReturn(Optional.of(country));
+
+        String etag = countryServiceImp.getById(id, null).etag();
+        ConditionalDTO<CountryDetailsDTO> actual = countryServiceImp.getById(id, etag);
+
+        Assertions.assertTrue(actual.isNotModified());
+        Assertions.assertEquals(etag, actual.etag());
+        Mockito.verify(countryMapper, Mockito.times(1)).toDetailsDto(country);
+    }
+
     @Test
     @DisplayName("Неудачный поиск по идентификатору - страна не найдена")
     void findByIdNotFoundFailTest() {
         UUID id = UUID.randomUUID();
 
-        Mockito.when(countryRepository.findById(id)).thenReturn(Optional.empty());
+        Mockito.when(countryRepository.findDetailsById(id)).thenReturn(Optional.empty());
 
         NotFoundException actual = Assertions.assertThrows(
                 NotFoundException.class,
                 () -> countryServiceImp.getById(id)
         );
 
-        Mockito.verify(countryRepository).findById(id);
+        Mockito.verify(countryRepository).findDetailsById(id);
         Assertions.assertEquals(HttpStatus.NOT_FOUND, actual.getStatusCode());
     }
 
     @Test
     @DisplayName("Полнотекстовый поиск по названию")
     void findAllTest() {
-        PageImpl<Country> countries = new PageImpl<>(
-                List.of(
-                        new Country("Find All Country 1"),
-                        new Country("Find All Country 2")
-                ),
-                PageRequest.of(0, 2),
-                2
+        List<CountryRow> countries = List.of(
+                new CountryRow(UUID.randomUUID(), "Find All Country 1"),
+                new CountryRow(UUID.randomUUID(), "Find All Country 2")
         );
 
         Mockito.when(
-                        countryRepository.findAll(
+                        nameRowQueries.findAll(
+                                Mockito.eq(CountryRow.SELECTION),
                                 any(Specification.class),
-                                any(PageRequest.class)
+                                Mockito.eq(PageRequest.of(0, 2))
                         )
                 )
                 .thenReturn(countries);
+        Mockito.when(countryMapper.toDto(any(CountryRow.class)))
+                .thenAnswer(invocation -> {
+                    CountryRow row = invocation.getArgument(0);
+                    return new CountryDTO(row.id(), row.name());
+                });
 
-        CountriesDTO actual = countryServiceImp.getAll("test", 0, 2);
+        CountriesDTO actual = countryServiceImp.getAll("test", null, 0, 2);
 
-        Mockito.verify(countryRepository).findAll(any(Specification.class), any(PageRequest.class));
+        Mockito.verify(countryRepository, Mockito.never()).findAll(any(Specification.class), any(PageRequest.class));
         Assertions.assertEquals(2, actual.getData().size());
+        Assertions.assertEquals("Find All Country 1", actual.getData().get(0).getName());
     }
 }
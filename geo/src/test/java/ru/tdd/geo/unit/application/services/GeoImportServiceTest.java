@@ -0,0 +1,186 @@
+package ru.tdd.geo.unit.application.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import ru.tdd.core.database.entities.BaseEntity;
+import ru.tdd.geo.application.models.dto.geo.bulk.ImportErrorDTO;
+import ru.tdd.geo.application.models.dto.geo.bulk.ImportResultDTO;
+import ru.tdd.geo.application.models.enums.event.CountryOutboxEvent;
+import ru.tdd.geo.application.models.events.GeoHierarchyChanged;
+import ru.tdd.geo.application.services.imp.GeoImportServiceImp;
+import ru.tdd.geo.application.services.imp.kafka.CountryKafkaService;
+import ru.tdd.geo.database.entities.Country;
+import ru.tdd.geo.database.repositories.CityRepository;
+import ru.tdd.geo.database.repositories.CountryRepository;
+import ru.tdd.geo.database.repositories.LocationRepository;
+import ru.tdd.geo.database.repositories.RegionRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Набор модульных тестов массового импорта справочников
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit-тест сервиса импорта справочников")
+class GeoImportServiceTest {
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    @Mock
+    private RegionRepository regionRepository;
+
+    @Mock
+    private CityRepository cityRepository;
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    @Mock
+    private CountryKafkaService countryKafkaService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private GeoImportServiceImp geoImportService;
+
+    @BeforeEach
+    void setUp() {
+        geoImportService = new GeoImportServiceImp(
+                countryRepository,
+                regionRepository,
+                cityRepository,
+                locationRepository,
+                countryKafkaService,
+                eventPublisher,
+                entityManager,
+                transactionManager,
+                new ObjectMapper()
+        );
+        ReflectionTestUtils.setField(geoImportService, "chunkSize", 100);
+        ReflectionTestUtils.setField(geoImportService, "maxErrors", 100);
+
+        Mockito.lenient().when(countryRepository.saveAll(anyList())).thenAnswer(assignIds());
+        Mockito.lenient().when(regionRepository.saveAll(anyList())).thenAnswer(assignIds());
+        Mockito.lenient().when(cityRepository.saveAll(anyList())).thenAnswer(assignIds());
+        Mockito.lenient().when(locationRepository.saveAll(anyList())).thenAnswer(assignIds());
+    }
+
+    @Test
+    @DisplayName("Импорт NDJSON - иерархия создается по уровням, ошибки строк возвращаются")
+    void importNdjsonTest() throws Exception {
+        ImportResultDTO actual = geoImportService.importNdjson(stream("""
+                {"type":"country","name":"Россия"}
+                {"type":"region","name":"Татарстан","country":"Россия"}
+                {"type":"city","name":"Казань","country":"Россия","region":"Татарстан"}
+                {"type":"location","name":"Кремль","country":"россия","region":"Татарстан","city":"казань"}
+
+                {"type":"city","name":"Москва","country":"Россия"}
+                {"type":"city","name":"КАЗАНЬ","country":"Россия","region":"Татарстан"}
+                {"type":"city","name":"Берлин","country":"Германия"}
+                not a json
+                {"type":"planet","name":"Марс"}
+                {"type":"location","name":"Арбат","country":"Россия","city":"Москва"}
+                {"type":"location","name":"Вокзал","country":"Россия","region":"Подмосковье","city":"Москва"}
+                """));
+
+        Assertions.assertEquals(6, actual.getCreated());
+        Assertions.assertEquals(1, actual.getSkipped());
+        Assertions.assertEquals(4, actual.getFailed());
+        Assertions.assertEquals(
+                List.of(8L, 9L, 10L, 12L),
+                actual.getErrors().stream().map(ImportErrorDTO::getLine).toList()
+        );
+        Assertions.assertEquals("Страна Германия не найдена", actual.getErrors().getFirst().getMessage());
+        Assertions.assertEquals("Регион Подмосковье не найден", actual.getErrors().getLast().getMessage());
+
+        Mockito.verify(countryRepository, Mockito.times(1)).findAllByLowerNameIn(any());
+        Mockito.verify(regionRepository, Mockito.times(1)).findAllByCountryIdInAndLowerNameIn(any(), any());
+        Mockito.verify(cityRepository, Mockito.times(1)).findAllByCountryIdInAndLowerNameIn(any(), any());
+        Mockito.verify(locationRepository, Mockito.times(1)).findAllByCityIdInAndLowerNameIn(any(), any());
+        Mockito.verify(countryKafkaService).send(Mockito.eq(CountryOutboxEvent.CREATE), any(Country.class));
+        Mockito.verify(eventPublisher).publishEvent(any(GeoHierarchyChanged.class));
+    }
+
+    @Test
+    @DisplayName("Импорт CSV - существующие объекты пропускаются")
+    void importCsvTest() throws Exception {
+        Country russia = new Country("Россия");
+        russia.setId(UUID.randomUUID());
+
+        Mockito.when(countryRepository.findAllByLowerNameIn(any())).thenReturn(List.of(russia));
+
+        ImportResultDTO actual = geoImportService.importCsv(stream("""
+                type,name,country,region,city
+                country,Россия,,,
+                city,Москва,Россия,,
+                location,,Россия,,Москва
+                """));
+
+        Assertions.assertEquals(1, actual.getCreated());
+        Assertions.assertEquals(1, actual.getSkipped());
+        Assertions.assertEquals(List.of(4L), actual.getErrors().stream().map(ImportErrorDTO::getLine).toList());
+        Mockito.verify(countryKafkaService, Mockito.never()).send(any(), any());
+    }
+
+    @Test
+    @DisplayName("Импорт порциями - ошибка сохранения порции не отменяет остальные")
+    void importChunkFailTest() throws Exception {
+        ReflectionTestUtils.setField(geoImportService, "chunkSize", 2);
+
+        Mockito.when(countryRepository.saveAll(anyList()))
+                .thenAnswer(assignIds())
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        ImportResultDTO actual = geoImportService.importNdjson(stream("""
+                {"type":"country","name":"Россия"}
+                {"type":"country","name":"Беларусь"}
+                {"type":"country","name":"Казахстан"}
+                {"type":"country","name":"Армения"}
+                """));
+
+        Assertions.assertEquals(2, actual.getCreated());
+        Assertions.assertEquals(2, actual.getFailed());
+        Assertions.assertEquals(List.of(3L, 4L), actual.getErrors().stream().map(ImportErrorDTO::getLine).toList());
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Answer<List<? extends BaseEntity>> assignIds() {
+        return invocation -> {
+            List<? extends BaseEntity> entities = invocation.getArgument(0);
+            entities.forEach(entity -> entity.setId(UUID.randomUUID()));
+            return entities;
+        };
+    }
+}
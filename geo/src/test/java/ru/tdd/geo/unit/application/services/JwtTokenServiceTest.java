@@ -0,0 +1,72 @@
+package ru.tdd.geo.unit.application.services;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import ru.tdd.core.application.exceptions.ApiException;
+import ru.tdd.geo.application.models.dto.UserDTO;
+import ru.tdd.geo.application.models.enums.Role;
+import ru.tdd.geo.application.services.imp.JwtTokenServiceImp;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Набор тестов сервиса по работе с jwt токенами
+ */
+@DisplayName("Unit-тест сервиса jwt токенов")
+class JwtTokenServiceTest {
+
+    private static final String SECRET = "feuytbcewceut8Efq6c78tacrcFrRQQxafsddfcxasfdacffac";
+
+    private final JwtTokenServiceImp jwtTokenService = new JwtTokenServiceImp(SECRET);
+
+    private String token(UUID id, Date expiration) {
+        return Jwts.builder()
+                .claims(Map.of("id", id.toString(), "roles", List.of("ADMIN"), "chatId", 1L))
+                .subject("admin")
+                .issuedAt(new Date())
+                .expiration(expiration)
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .compact();
+    }
+
+    @Test
+    @DisplayName("Удачная проверка токена")
+    void verifySuccessTest() {
+        UUID id = UUID.randomUUID();
+
+        UserDTO actual = jwtTokenService.verify(token(id, new Date(System.currentTimeMillis() + 60_000)));
+
+        Assertions.assertEquals(id, actual.getId());
+        Assertions.assertEquals("admin", actual.getUsername());
+        Assertions.assertEquals(List.of(Role.ADMIN), actual.getRoles());
+        Assertions.assertEquals("ROLE_ADMIN", actual.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    @DisplayName("Не удачная проверка токена - истек срок действия")
+    void verifyExpiredFailTest() {
+        String token = token(UUID.randomUUID(), new Date(System.currentTimeMillis() - 60_000));
+
+        ApiException actual = Assertions.assertThrows(ApiException.class, () -> jwtTokenService.verify(token));
+
+        Assertions.assertEquals(HttpStatus.UNAUTHORIZED, actual.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Не удачная проверка токена - подпись изменена")
+    void verifyTamperedFailTest() {
+        String token = token(UUID.randomUUID(), new Date(System.currentTimeMillis() + 60_000));
+
+        Assertions.assertThrows(ApiException.class, () -> jwtTokenService.verify(token + "x"));
+    }
+}
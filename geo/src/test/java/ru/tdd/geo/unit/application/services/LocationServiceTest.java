@@ -8,8 +8,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
+import ru.tdd.geo.application.index.GeoHierarchyIndex;
 import ru.tdd.geo.application.mappers.LocationMapper;
 import ru.tdd.geo.application.models.dto.geo.city.CityDTO;
 import ru.tdd.geo.application.models.dto.geo.location.CreateLocationDTO;
@@ -48,6 +50,12 @@ class LocationServiceTest {
     @Mock
     private LocationMapper locationMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private GeoHierarchyIndex geoHierarchyIndex;
+
     @InjectMocks
     private LocationServiceImp locationService;
 
@@ -216,7 +224,7 @@ class LocationServiceTest {
         UUID locationId = UUID.randomUUID();
         Location location = new Location(
                 "Test Location",
-                null
+                new City("Test City", null, new Country("Test Country"))
         );
 
         Mockito.when(locationRepository.findById(locationId)).thenReturn(Optional.of(location));
@@ -260,7 +268,7 @@ class LocationServiceTest {
         );
         location.setId(locationId);
 
-        Mockito.when(locationRepository.findById(locationId)).thenReturn(Optional.of(location));
+        Mockito.when(locationRepository.findDetailsById(locationId)).thenReturn(Optional.of(location));
         Mockito.when(locationMapper.toDto(location))
                 .thenReturn(
                         new LocationDTO(
@@ -281,7 +289,7 @@ class LocationServiceTest {
     void getByIdLocationNotFoundFailTest() {
         UUID locationId = UUID.randomUUID();
 
-        Mockito.when(locationRepository.findById(locationId)).thenReturn(Optional.empty());
+        Mockito.when(locationRepository.findDetailsById(locationId)).thenReturn(Optional.empty());
 
         LocationByIdNotFoundException actual = Assertions.assertThrows(
                 LocationByIdNotFoundException.class,
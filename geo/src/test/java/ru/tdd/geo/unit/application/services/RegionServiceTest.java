@@ -8,6 +8,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import ru.tdd.geo.application.mappers.RegionMapper;
@@ -48,6 +49,9 @@ class RegionServiceTest {
     @Mock
     private RegionMapper regionMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private RegionServiceImp regionServiceImp;
 
@@ -293,7 +297,7 @@ class RegionServiceTest {
         Region region = new Region("Test Region", new Country());
         region.setId(regionId);
 
-        Mockito.when(regionRepository.findById(regionId)).thenReturn(Optional.of(region));
+        Mockito.when(regionRepository.findDetailsById(regionId)).thenReturn(Optional.of(region));
         Mockito.when(regionMapper.toDetailsDto(region))
                 .thenReturn(
                         new RegionDetailsDTO(
@@ -315,7 +319,7 @@ class RegionServiceTest {
     void findByIdNotFoundTest() {
         UUID regionId = UUID.randomUUID();
 
-        Mockito.when(regionRepository.findById(regionId)).thenReturn(Optional.empty());
+        Mockito.when(regionRepository.findDetailsById(regionId)).thenReturn(Optional.empty());
 
         RegionByIdNotFoundException actual = Assertions.assertThrows(
                 RegionByIdNotFoundException.class,
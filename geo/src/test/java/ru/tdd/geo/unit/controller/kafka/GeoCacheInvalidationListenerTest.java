@@ -0,0 +1,103 @@
+package ru.tdd.geo.unit.controller.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.tdd.geo.application.index.GeoHierarchyIndex;
+import ru.tdd.geo.application.models.dto.kafka.GeoCacheInvalidationDTO;
+import ru.tdd.geo.application.models.events.GeoHierarchyChanged;
+import ru.tdd.geo.controller.kafka.GeoCacheInvalidationListener;
+import ru.tdd.geo.database.cache.GeoSecondLevelCache;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.eq;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Набор тестов рассылки сброса кэша второго уровня
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit-тест рассылки сброса кэша гео")
+class GeoCacheInvalidationListenerTest {
+
+    @Mock
+    private KafkaTemplate<String, GeoCacheInvalidationDTO> kafkaTemplate;
+
+    @Mock
+    private GeoSecondLevelCache geoSecondLevelCache;
+
+    @Mock
+    private GeoHierarchyIndex geoHierarchyIndex;
+
+    private GeoCacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new GeoCacheInvalidationListener(
+                kafkaTemplate,
+                geoSecondLevelCache,
+                geoHierarchyIndex,
+                new ObjectMapper()
+        );
+
+        ReflectionTestUtils.setField(listener, "geoCacheTopic", "bc.geo.cache");
+    }
+
+    @Test
+    @DisplayName("Изменение справочников публикует сообщение с идентификатором экземпляра")
+    void publishAfterChangeTest() {
+        UUID countryId = UUID.randomUUID();
+        Mockito.when(kafkaTemplate.send(eq("bc.geo.cache"), eq(listener.getNodeId()), Mockito.any()))
+                .thenReturn(new CompletableFuture<>());
+
+        listener.onGeoHierarchyChanged(new GeoHierarchyChanged(countryId));
+
+        ArgumentCaptor<GeoCacheInvalidationDTO> captor = ArgumentCaptor.forClass(GeoCacheInvalidationDTO.class);
+        Mockito.verify(kafkaTemplate).send(eq("bc.geo.cache"), eq(listener.getNodeId()), captor.capture());
+
+        Assertions.assertEquals(listener.getNodeId(), captor.getValue().node());
+        Assertions.assertEquals(Set.of(countryId), captor.getValue().countryIds());
+    }
+
+    @Test
+    @DisplayName("Сообщение другого экземпляра сбрасывает кэш и перечитывает измененные страны в индексе")
+    void evictOnRemoteChangeTest() {
+        UUID countryId = UUID.randomUUID();
+
+        listener.listenInvalidations("{\"node\":\"other-node\",\"countryIds\":[\"" + countryId + "\"]}");
+
+        Mockito.verify(geoSecondLevelCache).evictAll();
+        Mockito.verify(geoHierarchyIndex).scheduleRefresh(Set.of(countryId));
+    }
+
+    @Test
+    @DisplayName("Собственное сообщение кэш не сбрасывает")
+    void ignoreOwnChangeTest() {
+        listener.listenInvalidations("{\"node\":\"" + listener.getNodeId() + "\",\"countryIds\":[]}");
+
+        Mockito.verify(geoSecondLevelCache, Mockito.never()).evictAll();
+        Mockito.verifyNoInteractions(geoHierarchyIndex);
+    }
+
+    @Test
+    @DisplayName("Неразобранное сообщение сбрасывает кэш целиком")
+    void evictOnMalformedMessageTest() {
+        listener.listenInvalidations("not a json");
+
+        Mockito.verify(geoSecondLevelCache).evictAll();
+        Mockito.verify(geoHierarchyIndex).reload();
+    }
+}
@@ -0,0 +1,148 @@
+package ru.tdd.geo.unit.controller.kafka;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import ru.tdd.core.controller.dto.OutboxEventDTO;
+import ru.tdd.core.controller.dto.OutboxEventMapper;
+import ru.tdd.core.database.entities.kafka.OutboxEvent;
+import ru.tdd.core.database.repositories.OutboxEventRepository;
+import ru.tdd.geo.application.models.events.OutboxEventCreated;
+import ru.tdd.geo.controller.kafka.OutboxEventSender;
+import ru.tdd.geo.database.entities.Country;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Набор тестов отправителя событий outbox
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit-тест отправителя событий outbox")
+class OutboxEventSenderTest {
+
+    @Mock
+    private OutboxEventMapper outboxEventMapper;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private KafkaTemplate<String, OutboxEventDTO> kafkaTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private OutboxEventSender outboxEventSender;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventSender = new OutboxEventSender(
+                outboxEventMapper,
+                outboxEventRepository,
+                kafkaTemplate,
+                transactionManager,
+                taskScheduler
+        );
+
+        ReflectionTestUtils.setField(outboxEventSender, "countryTopic", "bc.country");
+        ReflectionTestUtils.setField(outboxEventSender, "batchSize", 2);
+        ReflectionTestUtils.setField(outboxEventSender, "sendTimeout", 1000L);
+        ReflectionTestUtils.setField(outboxEventSender, "minDelay", 100L);
+        ReflectionTestUtils.setField(outboxEventSender, "maxDelay", 5000L);
+    }
+
+    private OutboxEvent event() {
+        OutboxEvent event = new OutboxEvent(Country.class.getName(), "CREATE", "{}", LocalDateTime.now());
+        event.setId(UUID.randomUUID());
+        return event;
+    }
+
+    @Test
+    @DisplayName("Удаляются только подтвержденные брокером события")
+    void deleteOnlyAcknowledgedTest() {
+        OutboxEvent sent = event();
+        OutboxEvent failed = event();
+
+        Mockito.when(outboxEventRepository.claimBatchByEntityName(Country.class.getName(), 2))
+                .thenReturn(List.of(sent, failed));
+        Mockito.when(outboxEventMapper.toDto(any(OutboxEvent.class))).thenReturn(new OutboxEventDTO());
+        Mockito.when(kafkaTemplate.send(eq("bc.country"), any(OutboxEventDTO.class)))
+                .thenReturn(CompletableFuture.completedFuture(Mockito.mock(SendResult.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker unavailable")));
+
+        int actual = outboxEventSender.sendCountryEvents();
+
+        ArgumentCaptor<List<UUID>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(outboxEventRepository).deleteAllByIdInBatch(captor.capture());
+        Mockito.verify(kafkaTemplate).flush();
+
+        Assertions.assertEquals(1, actual);
+        Assertions.assertEquals(List.of(sent.getId()), captor.getValue());
+    }
+
+    @Test
+    @DisplayName("Полные пачки разбираются до опустошения таблицы")
+    void drainFullBatchesTest() {
+        Mockito.when(outboxEventRepository.claimBatchByEntityName(Country.class.getName(), 2))
+                .thenReturn(List.of(event(), event()))
+                .thenReturn(List.of(event()));
+        Mockito.when(outboxEventMapper.toDto(any(OutboxEvent.class))).thenReturn(new OutboxEventDTO());
+        Mockito.when(kafkaTemplate.send(eq("bc.country"), any(OutboxEventDTO.class)))
+                .thenReturn(CompletableFuture.completedFuture(Mockito.mock(SendResult.class)));
+
+        int actual = outboxEventSender.sendCountryEvents();
+
+        Assertions.assertEquals(3, actual);
+        Mockito.verify(outboxEventRepository, Mockito.times(2)).deleteAllByIdInBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("Пустая таблица увеличивает интервал опроса")
+    void backoffOnEmptyTableTest() {
+        Mockito.when(outboxEventRepository.claimBatchByEntityName(any(String.class), anyInt()))
+                .thenReturn(List.of());
+
+        outboxEventSender.poll();
+        outboxEventSender.poll();
+
+        Mockito.verify(outboxEventRepository, Mockito.times(1)).claimBatchByEntityName(any(String.class), anyInt());
+        Mockito.verify(outboxEventRepository, Mockito.never()).deleteAllByIdInBatch(anyList());
+        Assertions.assertEquals(100L, ReflectionTestUtils.getField(outboxEventSender, "idleDelay"));
+    }
+
+    @Test
+    @DisplayName("Пробуждение после коммита ставит один внеочередной опрос")
+    void wakeUpAfterCommitTest() {
+        OutboxEventCreated event = new OutboxEventCreated(Country.class.getName());
+
+        outboxEventSender.onOutboxEventCreated(event);
+        outboxEventSender.onOutboxEventCreated(event);
+
+        Mockito.verify(taskScheduler, Mockito.times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+}
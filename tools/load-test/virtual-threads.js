@@ -0,0 +1,46 @@
+// Нагрузочный тест режима виртуальных потоков geo и author.
+// Сервисы запускаются с профилем load-test дважды: VIRTUAL_THREADS_ENABLED=true и false,
+// сравниваются http_reqs (пропускная способность) и p(95)/p(99) http_req_duration из итоговой сводки.
+// Пример: TOKEN=... VUS=2000 k6 run tools/load-test/virtual-threads.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const GEO_URL = __ENV.GEO_URL || 'http://localhost:8002/api/v1';
+const AUTHOR_URL = __ENV.AUTHOR_URL || 'http://localhost:8003/api/v1';
+const VUS = parseInt(__ENV.VUS || '2000');
+const DURATION = __ENV.DURATION || '2m';
+
+const params = {
+    headers: { Authorization: `Bearer ${__ENV.TOKEN}` },
+};
+
+export const options = {
+    discardResponseBodies: true,
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+    scenarios: {
+        geo: {
+            executor: 'constant-vus',
+            exec: 'geo',
+            vus: VUS,
+            duration: DURATION,
+        },
+        authors: {
+            executor: 'constant-vus',
+            exec: 'authors',
+            vus: VUS,
+            duration: DURATION,
+        },
+    },
+};
+
+export function geo() {
+    const response = http.get(`${GEO_URL}/geo/countries?per_page=50`, params);
+
+    check(response, { 'geo 200': r => r.status === 200 });
+}
+
+export function authors() {
+    const response = http.get(`${AUTHOR_URL}/authors?per_page=50`, params);
+
+    check(response, { 'authors 200': r => r.status === 200 });
+}
@@ -11,12 +11,19 @@ public class UserListDTO {
 
     private List<UserDetailsDTO> data;
 
+    private String next;
+
     public UserListDTO() {}
 
     public UserListDTO(List<UserDetailsDTO> data) {
         this.data = data;
     }
 
+    public UserListDTO(List<UserDetailsDTO> data, String next) {
+        this.data = data;
+        this.next = next;
+    }
+
     public List<UserDetailsDTO> getData() {
         return data;
     }
@@ -24,4 +31,12 @@ public class UserListDTO {
     public void setData(List<UserDetailsDTO> data) {
         this.data = data;
     }
+
+    public String getNext() {
+        return next;
+    }
+
+    public void setNext(String next) {
+        this.next = next;
+    }
 }
@@ -0,0 +1,22 @@
+package ru.tdd.user.application.models.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Исключение при переполнении пула хэширования паролей, клиенту отдается 503 с заголовком Retry-After
+ */
+public class PasswordHashingOverloadedException extends ApiException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingOverloadedException(long retryAfterSeconds) {
+        super(HttpStatus.SERVICE_UNAVAILABLE.value(), "Сервис перегружен, повторите запрос позже");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
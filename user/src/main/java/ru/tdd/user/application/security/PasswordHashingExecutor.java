@@ -0,0 +1,145 @@
+package ru.tdd.user.application.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.tdd.user.application.models.exceptions.PasswordHashingOverloadedException;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Отдельный ограниченный пул для хэширования паролей.
+ * Хэширование намеренно медленное и нагружает процессор, поэтому выполняется на фиксированном числе
+ * платформенных потоков, а не на потоках запросов. Очередь ограничена: при полной очереди или
+ * слишком долгом ожидании в ней задача отклоняется сразу и клиент получает 503 с Retry-After,
+ * остальные эндпоинты сервиса при всплеске входов продолжают работать
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    private final Duration maxQueueWait;
+
+    private final long retryAfterSeconds;
+
+    private final Timer queueWait;
+
+    private final Timer encodeDuration;
+
+    private final Timer matchesDuration;
+
+    private final Counter rejected;
+
+    @Autowired
+    public PasswordHashingExecutor(
+            @Value("${password.hashing.threads:0}") int threads,
+            @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${password.hashing.max-queue-wait:2s}") Duration maxQueueWait,
+            @Value("${password.hashing.retry-after:1s}") Duration retryAfter,
+            MeterRegistry meterRegistry
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hashing-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.maxQueueWait = maxQueueWait;
+        this.retryAfterSeconds = Math.max(retryAfter.toSeconds(), 1);
+        this.queueWait = Timer.builder("password.hashing.queue.wait")
+                .description("Время ожидания задачи хэширования в очереди")
+                .register(meterRegistry);
+        this.encodeDuration = duration("encode", meterRegistry);
+        this.matchesDuration = duration("matches", meterRegistry);
+        this.rejected = Counter.builder("password.hashing.rejected")
+                .description("Задачи хэширования, отклоненные из-за перегрузки")
+                .register(meterRegistry);
+
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    /** Хэширование пароля в пуле с ожиданием результата на вызывающем потоке */
+    public <T> T encode(Supplier<T> task) {
+        return execute(encodeDuration, task);
+    }
+
+    /** Проверка пароля в пуле с ожиданием результата на вызывающем потоке */
+    public <T> T matches(Supplier<T> task) {
+        return execute(matchesDuration, task);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Timer duration, Supplier<T> task) {
+        long submitted = System.nanoTime();
+
+        Future<T> future;
+
+        try {
+            future = executor.submit(() -> {
+                long waited = System.nanoTime() - submitted;
+                queueWait.record(waited, TimeUnit.NANOSECONDS);
+
+                if (waited > maxQueueWait.toNanos()) {
+                    throw overloaded();
+                }
+
+                return duration.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            throw overloaded();
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw overloaded();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private PasswordHashingOverloadedException overloaded() {
+        rejected.increment();
+        return new PasswordHashingOverloadedException(retryAfterSeconds);
+    }
+
+    private static Timer duration(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("password.hashing.duration")
+                .description("Время хэширования или проверки пароля")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,37 @@
+package ru.tdd.user.application.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Кодировщик паролей, выполняющий хэширование и проверку в пуле {@link PasswordHashingExecutor}.
+ * Используется и при регистрации, и провайдером аутентификации при входе
+ */
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+
+    private final PasswordHashingExecutor executor;
+
+    public PooledPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.encode(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.matches(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /** Сравнение параметров хэша с текущими не требует хэширования и выполняется на вызывающем потоке */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
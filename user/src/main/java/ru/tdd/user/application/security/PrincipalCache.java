@@ -0,0 +1,45 @@
+package ru.tdd.user.application.security;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.tdd.core.application.utils.CacheLoading;
+import ru.tdd.user.database.entities.user.SystemUser;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Кэш пользователей по имени для аутентификации.
+ * Вход загружает пользователя дважды (сервис авторизации и провайдер аутентификации), поэтому
+ * запись живет несколько секунд и сбрасывается при изменении или удалении пользователя на этом экземпляре.
+ * Отсутствующие пользователи не кэшируются
+ */
+@Component
+public class PrincipalCache {
+
+    private final AsyncCache<String, SystemUser> cache;
+
+    @Autowired
+    public PrincipalCache(
+            @Value("${jwt.principal-cache.max-size:10000}") long maxSize,
+            @Value("${jwt.principal-cache.ttl:5s}") Duration ttl
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .buildAsync();
+    }
+
+    public SystemUser get(String username, Function<String, SystemUser> loader) {
+        return CacheLoading.get(cache, username, loader);
+    }
+
+    public void invalidate(String username) {
+        cache.synchronous().invalidate(username);
+    }
+}
@@ -0,0 +1,98 @@
+package ru.tdd.user.application.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import ru.tdd.core.controller.security.GatewayPrincipal;
+import ru.tdd.user.application.models.enums.Role;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Неизменяемый пользователь, собранный из утверждений проверенного токена без обращения к бд
+ */
+public final class TokenUser implements UserDetails {
+
+    private final UUID id;
+
+    private final String username;
+
+    private final Long chatId;
+
+    private final List<Role> roles;
+
+    private final Instant issuedAt;
+
+    private final List<GrantedAuthority> authorities;
+
+    public TokenUser(UUID id, String username, Long chatId, List<Role> roles, Instant issuedAt) {
+        this.id = id;
+        this.username = username;
+        this.chatId = chatId;
+        this.roles = List.copyOf(roles);
+        this.issuedAt = issuedAt;
+        this.authorities = this.roles.stream()
+                .map(r -> (GrantedAuthority) new SimpleGrantedAuthority(r.name()))
+                .toList();
+    }
+
+    public static TokenUser fromClaims(Claims claims) {
+        List<?> roles = claims.get("roles", List.class);
+
+        return new TokenUser(
+                UUID.fromString(claims.get("id", String.class)),
+                claims.getSubject(),
+                claims.get("chatId", Long.class),
+                roles.stream().map(role -> Role.valueOf(role.toString())).toList(),
+                claims.getIssuedAt().toInstant()
+        );
+    }
+
+    public static TokenUser fromPrincipal(GatewayPrincipal<Role> principal) {
+        return new TokenUser(
+                principal.id(),
+                principal.username(),
+                principal.chatId(),
+                principal.roles(),
+                principal.issuedAt()
+        );
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public Long getChatId() {
+        return chatId;
+    }
+
+    public List<Role> getRoles() {
+        return roles;
+    }
+
+    /** Момент выпуска токена, по нему проверяется отзыв */
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return "";
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+}
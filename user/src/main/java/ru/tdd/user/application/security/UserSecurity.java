@@ -20,7 +20,13 @@ public class UserSecurity {
     public static void isCurrentUserOwner(UUID id) {
         Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
 
-        if (principal instanceof SystemUser user && !Objects.equals(user.getId(), id)) {
+        UUID principalId = switch (principal) {
+            case SystemUser user -> user.getId();
+            case TokenUser user -> user.getId();
+            case null, default -> id;
+        };
+
+        if (!Objects.equals(principalId, id)) {
             throw new AuthenticationException("Пользователь пытается изменить другого пользователя");
         }
     }
@@ -0,0 +1,63 @@
+package ru.tdd.user.application.security;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.tdd.core.application.utils.CacheLoading;
+import ru.tdd.user.database.repositories.SystemUserRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Кэш версий пользователей для проверки отзыва токенов.
+ * Версия - время последней смены логина или пароля (credentialsUpdateTime): токен, выпущенный раньше,
+ * или токен удаленного пользователя считается отозванным. Изменение остальных полей профиля токены не отзывает.
+ * Роли задаются только при создании пользователя, код, который начнет их менять, должен обновлять и credentialsUpdateTime.
+ * Из бд читается только одна колонка, запись живет недолго и сбрасывается при изменении или удалении
+ * пользователя на этом экземпляре
+ */
+@Component
+public class UserVersionCache {
+
+    private final AsyncCache<UUID, Optional<LocalDateTime>> cache;
+
+    private final SystemUserRepository systemUserRepository;
+
+    @Autowired
+    public UserVersionCache(
+            @Value("${jwt.user-version-cache.max-size:100000}") long maxSize,
+            @Value("${jwt.user-version-cache.ttl:30s}") Duration ttl,
+            SystemUserRepository systemUserRepository
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .buildAsync();
+        this.systemUserRepository = systemUserRepository;
+    }
+
+    /** Проверка, что токен пользователя выпущен раньше последней смены его учетных данных */
+    public boolean isRevoked(UUID userId, Instant issuedAt) {
+        return CacheLoading.get(cache, userId, systemUserRepository::findCredentialsUpdateTimeById)
+                .map(credentialsUpdateTime -> credentialsUpdateTime.atZone(ZoneId.systemDefault())
+                        .toInstant()
+                        .truncatedTo(ChronoUnit.SECONDS)
+                        .isAfter(issuedAt)
+                )
+                .orElse(true);
+    }
+
+    public void invalidate(UUID userId) {
+        cache.synchronous().invalidate(userId);
+    }
+}
@@ -12,7 +12,8 @@ public interface JwtTokenService {
 
     JwtTokenDTO generate(SystemUser user);
 
-    Claims parse(String token);
-
-    boolean validate(String toke);
+    /**
+     * Проверка подписи и срока действия токена за один разбор
+     */
+    Claims verify(String token);
 }
@@ -24,6 +24,7 @@ public interface UserService {
     @Transactional
     UserListDTO getAll(
            GetUserListParametersDTO dto,
+           String after,
            int page,
            int perPage
     );
@@ -1,13 +1,18 @@
 package ru.tdd.user.application.services.imp;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import ru.tdd.user.application.models.dto.JwtTokenDTO;
 import ru.tdd.user.application.models.enums.Role;
+import ru.tdd.user.application.models.exceptions.ApiException;
 import ru.tdd.user.application.services.JwtTokenService;
 import ru.tdd.user.application.utils.DateUtils;
 import ru.tdd.user.database.entities.user.AppUser;
@@ -25,8 +30,17 @@ import java.util.Map;
 @Service
 public class JwtTokenServiceImp implements JwtTokenService {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final SecretKey secretKey;
+
+    private final JwtParser parser;
+
+    @Autowired
+    public JwtTokenServiceImp(@Value("${jwt.secret}") String secret) {
+        this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+    }
 
     @Override
     public JwtTokenDTO generate(SystemUser user) {
@@ -49,7 +63,7 @@ public class JwtTokenServiceImp implements JwtTokenService {
                 .subject(user.getUsername())
                 .issuedAt(issueAt)
                 .expiration(expiration)
-                .signWith(getSecret())
+                .signWith(secretKey)
                 .compact();
 
         return new JwtTokenDTO(
@@ -59,21 +73,18 @@ public class JwtTokenServiceImp implements JwtTokenService {
     }
 
     @Override
-    public Claims parse(String token) {
-        return Jwts.parser()
-                .verifyWith(getSecret())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
+    public Claims verify(String token) {
+        Claims claims;
 
-    @Override
-    public boolean validate(String toke) {
-        Claims claims = parse(toke);
-        return DateUtils.isFuture(claims.getExpiration());
-    }
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new ApiException(HttpStatus.UNAUTHORIZED.value(), "Токен не валдный");
+        }
+
+        if (!DateUtils.isFuture(claims.getExpiration()))
+            throw new ApiException(HttpStatus.UNAUTHORIZED.value(), "Токен не валдный");
 
-    public SecretKey getSecret() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        return claims;
     }
 }
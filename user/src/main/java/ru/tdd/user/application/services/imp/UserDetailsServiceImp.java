@@ -2,10 +2,13 @@ package ru.tdd.user.application.services.imp;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import ru.tdd.user.database.repositories.AppUserRepository;
+import org.springframework.transaction.annotation.Transactional;
+import ru.tdd.user.application.security.PrincipalCache;
+import ru.tdd.user.database.entities.user.SystemUser;
 import ru.tdd.user.database.repositories.SystemUserRepository;
 
 /**
@@ -13,29 +16,46 @@ import ru.tdd.user.database.repositories.SystemUserRepository;
  * @since 01.02.2026
  */
 @Service
-public class UserDetailsServiceImp implements UserDetailsService {
+public class UserDetailsServiceImp implements UserDetailsService, UserDetailsPasswordService {
 
     private final SystemUserRepository systemUserRepository;
 
-    private final AppUserRepository appUserRepository;
+    private final PrincipalCache principalCache;
 
     @Autowired
     public UserDetailsServiceImp(
             SystemUserRepository systemUserRepository,
-            AppUserRepository appUserRepository
+            PrincipalCache principalCache
     ) {
         this.systemUserRepository = systemUserRepository;
-        this.appUserRepository = appUserRepository;
+        this.principalCache = principalCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return appUserRepository.findByUsername(username)
-                .map(UserDetails.class::cast)
-                .orElseGet(() ->
-                        systemUserRepository.findByUsername(username)
-                                .map(UserDetails.class::cast)
-                                .orElseThrow(() -> new UsernameNotFoundException("Пользователь " + username + " не найден"))
-                );
+        SystemUser user = principalCache.get(
+                username,
+                key -> systemUserRepository.findByUsername(key).orElse(null)
+        );
+
+        if (user == null)
+            throw new UsernameNotFoundException("Пользователь " + username + " не найден");
+
+        return user;
+    }
+
+    /**
+     * Сохранение пароля, перехэшированного при входе с новой стоимостью хэширования
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        systemUserRepository.updatePasswordByUsername(user.getUsername(), newPassword);
+        principalCache.invalidate(user.getUsername());
+
+        if (user instanceof SystemUser systemUser)
+            systemUser.setPassword(newPassword);
+
+        return user;
     }
 }
@@ -2,12 +2,17 @@ package ru.tdd.user.application.services.imp;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import ru.tdd.core.application.utils.KeysetPage;
+import ru.tdd.core.application.utils.PageCursor;
 import ru.tdd.user.application.models.dto.*;
 import ru.tdd.user.application.models.exceptions.user.UserByEmailAlreadyExistsException;
 import ru.tdd.user.application.models.exceptions.user.UserByIdNotFoundException;
 import ru.tdd.user.application.models.exceptions.user.UserByUsernameAlreadyExistsException;
+import ru.tdd.user.application.security.PrincipalCache;
 import ru.tdd.user.application.security.UserSecurity;
+import ru.tdd.user.application.security.UserVersionCache;
 import ru.tdd.user.application.services.UserService;
 import ru.tdd.user.application.utils.TextUtils;
 import ru.tdd.user.database.entities.user.AppUser;
@@ -31,13 +36,21 @@ public class UserServiceImp implements UserService {
 
     private final SystemUserRepository systemUserRepository;
 
+    private final UserVersionCache userVersionCache;
+
+    private final PrincipalCache principalCache;
+
     @Autowired
     public UserServiceImp(
             AppUserRepository appUserRepository,
-            SystemUserRepository systemUserRepository
+            SystemUserRepository systemUserRepository,
+            UserVersionCache userVersionCache,
+            PrincipalCache principalCache
     ) {
         this.appUserRepository = appUserRepository;
         this.systemUserRepository = systemUserRepository;
+        this.userVersionCache = userVersionCache;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -49,6 +62,7 @@ public class UserServiceImp implements UserService {
         String email = dto.getEmail();
         String username = dto.getUsername();
         String password = dto.getPassword();
+        String oldUsername = user.getUsername();
 
         if (Objects.requireNonNull(user) instanceof AppUser appUser) {
             if (!TextUtils.isEmpty(email))
@@ -58,18 +72,30 @@ public class UserServiceImp implements UserService {
                     appUser.setEmail(email);
         }
 
+        boolean credentialsChanged = false;
+
         if (!TextUtils.isEmpty(username))
             if (systemUserRepository.existsByUsername(username))
                 throw new UserByUsernameAlreadyExistsException();
-            else
+            else {
                 user.setUsername(username);
+                credentialsChanged = true;
+            }
 
-        if (!TextUtils.isEmpty(password))
+        if (!TextUtils.isEmpty(password)) {
             user.setPassword(password);
+            credentialsChanged = true;
+        }
 
-        user.setUpdateTime(LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        user.setUpdateTime(now);
+
+        if (credentialsChanged)
+            user.setCredentialsUpdateTime(now);
 
         systemUserRepository.save(user);
+        userVersionCache.invalidate(id);
+        principalCache.invalidate(oldUsername);
 
         return UserDTO.mapFromEntity(user);
     }
@@ -85,29 +111,50 @@ public class UserServiceImp implements UserService {
 
         SystemUser user = systemUserRepository.findById(id).orElseThrow(UserByIdNotFoundException::new);
         systemUserRepository.delete(user);
+        userVersionCache.invalidate(id);
+        principalCache.invalidate(user.getUsername());
     }
 
     @Override
     public UserListDTO getAll(
             GetUserListParametersDTO dto,
+            String after,
             int page,
             int perPage
     ) {
+        Specification<SystemUser> specification = AppUserSpecification.byParameters(
+                dto.getUsername(),
+                dto.getEmail(),
+                dto.getRoles(),
+                dto.getCreationTimeStart(),
+                dto.getCreationTimeEnd(),
+                dto.getUpdateTimeStart(),
+                dto.getUpdateTimeEnd(),
+                dto.getLastDateOnlineStart(),
+                dto.getLastDateOnlineEnd()
+        );
+
+        if (after != null) {
+            KeysetPage<SystemUser> keysetPage = KeysetPage.byCreationTime(
+                    systemUserRepository,
+                    specification,
+                    after,
+                    perPage
+            );
+
+            return new UserListDTO(
+                    keysetPage.content().stream()
+                            .map(UserDetailsDTO::mapFromEntity)
+                            .toList(),
+                    keysetPage.next()
+            );
+        }
+
         return
                 new UserListDTO(
                         systemUserRepository.findAll(
-                                        AppUserSpecification.byParameters(
-                                                dto.getUsername(),
-                                                dto.getEmail(),
-                                                dto.getRoles(),
-                                                dto.getCreationTimeStart(),
-                                                dto.getCreationTimeEnd(),
-                                                dto.getUpdateTimeStart(),
-                                                dto.getUpdateTimeEnd(),
-                                                dto.getLastDateOnlineStart(),
-                                                dto.getLastDateOnlineEnd()
-                                        ),
-                                        PageRequest.of(page, perPage)
+                                        specification,
+                                        PageRequest.of(page, PageCursor.perPage(perPage))
                                 ).stream()
                                 .map(UserDetailsDTO::mapFromEntity)
                                 .toList()
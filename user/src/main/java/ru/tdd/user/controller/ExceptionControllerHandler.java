@@ -1,6 +1,7 @@
 package ru.tdd.user.controller;
 
 import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -8,6 +9,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import ru.tdd.user.application.models.dto.ExceptionDTO;
 import ru.tdd.user.application.models.exceptions.ApiException;
+import ru.tdd.user.application.models.exceptions.PasswordHashingOverloadedException;
 
 import java.time.LocalDateTime;
 
@@ -31,6 +33,33 @@ public class ExceptionControllerHandler {
         );
     }
 
+    /** Исключения общих классов из core */
+    @ExceptionHandler(value = ru.tdd.core.application.exceptions.ApiException.class)
+    public ResponseEntity<ExceptionDTO> handleCoreApiException(ru.tdd.core.application.exceptions.ApiException exception) {
+        return ResponseEntity.status(exception.getStatusCode()).body(
+                new ExceptionDTO(
+                        exception.getStatusCode().value(),
+                        exception.getMessage(),
+                        exception.getTimestamp()
+                )
+        );
+    }
+
+    @ExceptionHandler(value = PasswordHashingOverloadedException.class)
+    public ResponseEntity<ExceptionDTO> handlePasswordHashingOverloadedException(
+            PasswordHashingOverloadedException exception
+    ) {
+        return ResponseEntity.status(exception.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+                .body(
+                        new ExceptionDTO(
+                                exception.getStatusCode(),
+                                exception.getMessage(),
+                                exception.getTimestamp()
+                        )
+                );
+    }
+
     @ExceptionHandler(value = UsernameNotFoundException.class)
     public ResponseEntity<ExceptionDTO> handleUsernameNotFoundException(UsernameNotFoundException exception) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -0,0 +1,23 @@
+package ru.tdd.user.controller.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.tdd.core.controller.security.GatewayPrincipalVerifier;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Конфигурация проверки заголовка с пользователем от шлюза
+ */
+@Configuration
+public class GatewayPrincipalConfig {
+
+    @Bean
+    public GatewayPrincipalVerifier gatewayPrincipalVerifier(
+            @Value("${jwt.gateway-principal.enabled:true}") boolean enabled,
+            @Value("${jwt.gateway-principal.secret:}") String secret
+    ) {
+        return new GatewayPrincipalVerifier(enabled, secret);
+    }
+}
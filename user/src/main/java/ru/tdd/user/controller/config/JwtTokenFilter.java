@@ -4,6 +4,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
@@ -12,7 +13,11 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import ru.tdd.core.controller.security.GatewayPrincipalVerifier;
+import ru.tdd.user.application.models.enums.Role;
 import ru.tdd.user.application.models.exceptions.ApiException;
+import ru.tdd.user.application.security.TokenUser;
+import ru.tdd.user.application.security.UserVersionCache;
 import ru.tdd.user.application.services.JwtTokenService;
 import ru.tdd.user.application.utils.TextUtils;
 
@@ -21,6 +26,7 @@ import java.io.IOException;
 /**
  * @author Tribushko Danil
  * @since 29.01.2026
+ * Если шлюз передал подписанный заголовок с пользователем, токен повторно не разбирается
  */
 @Component
 public class JwtTokenFilter extends OncePerRequestFilter {
@@ -33,12 +39,24 @@ public class JwtTokenFilter extends OncePerRequestFilter {
 
     private final UserDetailsService userDetailsService;
 
+    private final UserVersionCache userVersionCache;
+
+    private final GatewayPrincipalVerifier gatewayPrincipalVerifier;
+
+    private final boolean statelessPrincipal;
+
     public JwtTokenFilter(
             JwtTokenService jwtTokenService,
-            UserDetailsService userDetailsService
+            UserDetailsService userDetailsService,
+            UserVersionCache userVersionCache,
+            GatewayPrincipalVerifier gatewayPrincipalVerifier,
+            @Value("${jwt.stateless-principal:true}") boolean statelessPrincipal
     ) {
         this.jwtTokenService = jwtTokenService;
         this.userDetailsService = userDetailsService;
+        this.userVersionCache = userVersionCache;
+        this.gatewayPrincipalVerifier = gatewayPrincipalVerifier;
+        this.statelessPrincipal = statelessPrincipal;
     }
 
     @Override
@@ -51,25 +69,38 @@ public class JwtTokenFilter extends OncePerRequestFilter {
 
         if (!TextUtils.isEmpty(authorizationHeader) && authorizationHeader.startsWith(BEARER_PREFIX)) {
             String token = authorizationHeader.substring(BEARER_PREFIX.length() + 1);
+            // без времени выпуска отзыв токена не проверить, такой заголовок не принимается
+            TokenUser tokenUser = gatewayPrincipalVerifier.verify(request.getHeader(GatewayPrincipalVerifier.HEADER), Role.class)
+                    .filter(principal -> principal.issuedAt() != null)
+                    .map(TokenUser::fromPrincipal)
+                    .orElseGet(() -> TokenUser.fromClaims(jwtTokenService.verify(token)));
+
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                UserDetails user = statelessPrincipal
+                        ? checkRevoked(tokenUser)
+                        : userDetailsService.loadUserByUsername(tokenUser.getUsername());
+                UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                        user,
+                        null,
+                        user.getAuthorities()
+                );
+
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(auth);
+                SecurityContextHolder.setContext(context);
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Пользователь из утверждений токена с проверкой отзыва по кэшу версий вместо загрузки сущности
+     */
+    private TokenUser checkRevoked(TokenUser user) {
+        if (userVersionCache.isRevoked(user.getId(), user.getIssuedAt()))
+            throw new ApiException(HttpStatus.UNAUTHORIZED.value(), "Токен отозван");
 
-            if (jwtTokenService.validate(token)) {
-                String username = jwtTokenService.parse(token).getSubject();
-                UserDetails user = userDetailsService.loadUserByUsername(username);
-
-                if (SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
-                            user,
-                            null,
-                            user.getAuthorities()
-                    );
-
-                    SecurityContext context = SecurityContextHolder.createEmptyContext();
-                    context.setAuthentication(auth);
-                    SecurityContextHolder.setContext(context);
-                }
-            } else
-                throw new ApiException(HttpStatus.UNAUTHORIZED.value(), "Токен не валдный");
-        } else
-            filterChain.doFilter(request, response);
+        return user;
     }
 }
@@ -1,6 +1,7 @@
 package ru.tdd.user.controller.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,6 +11,7 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -18,6 +20,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import ru.tdd.user.application.security.PasswordHashingExecutor;
+import ru.tdd.user.application.security.PooledPasswordEncoder;
 
 /**
  * @author Tribushko Danil
@@ -26,17 +30,28 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @Configuration
 public class SecurityConfig {
 
+    @Value("${password.hashing.strength:10}")
+    private int passwordStrength;
+
     private final UserDetailsService userDetailsService;
 
+    private final UserDetailsPasswordService userDetailsPasswordService;
+
     private final JwtTokenFilter jwtTokenFilter;
 
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
     @Autowired
     public SecurityConfig(
             UserDetailsService userDetailsService,
-            JwtTokenFilter jwtTokenFilter
+            UserDetailsPasswordService userDetailsPasswordService,
+            JwtTokenFilter jwtTokenFilter,
+            PasswordHashingExecutor passwordHashingExecutor
     ) {
         this.userDetailsService = userDetailsService;
+        this.userDetailsPasswordService = userDetailsPasswordService;
         this.jwtTokenFilter = jwtTokenFilter;
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
     @Bean
@@ -79,15 +94,20 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    /**
+     * Провайдер аутентификации. Если хэш пароля создан с меньшей стоимостью, чем текущая
+     * password.hashing.strength, после успешного входа пароль перехэшируется и сохраняется
+     */
     @Bean
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
         provider.setPasswordEncoder(passwordEncoder());
+        provider.setUserDetailsPasswordService(userDetailsPasswordService);
         return provider;
     }
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new PooledPasswordEncoder(new BCryptPasswordEncoder(passwordStrength), passwordHashingExecutor);
     }
 }
@@ -155,6 +155,8 @@ public class UserController {
     @Secured("ROLE_ADMIN")
     public ResponseEntity<UserListDTO> getAll(
             @RequestBody GetUserListParametersDTO dto,
+            @RequestParam(name = "after", required = false)
+            String after,
             @RequestParam(name = "page", required = false, defaultValue = "0")
             int page,
             @RequestParam(name = "per_page", required = false, defaultValue = "100")
@@ -163,6 +165,7 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.OK).body(
                 userService.getAll(
                         dto,
+                        after,
                         page,
                         perPage
                 )
@@ -2,6 +2,7 @@ package ru.tdd.user.database.entities;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.MappedSuperclass;
+import ru.tdd.core.database.entities.CreatedEntity;
 
 import java.time.LocalDateTime;
 
@@ -11,7 +12,7 @@ import java.time.LocalDateTime;
  * Класс с отслеживанием времени создания и обновления
  */
 @MappedSuperclass
-public abstract class EntityVersion extends BaseEntity {
+public abstract class EntityVersion extends BaseEntity implements CreatedEntity {
 
     @Column(name = "creation_time", nullable = false)
     protected LocalDateTime creationTime = LocalDateTime.now();
@@ -19,6 +20,7 @@ public abstract class EntityVersion extends BaseEntity {
     @Column(name = "update_time", nullable = false)
     protected LocalDateTime updateTime = LocalDateTime.now();
 
+    @Override
     public LocalDateTime getCreationTime() {
         return creationTime;
     }
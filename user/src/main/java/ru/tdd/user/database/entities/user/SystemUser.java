@@ -19,7 +19,7 @@ import java.util.UUID;
  * Системный пользователь системы
  */
 @Entity
-@Table(name = "app_system_user")
+@Table(name = "app_system_user", indexes = @Index(name = "app_system_user_creation_time_id_idx", columnList = "creation_time, id"))
 @Inheritance(strategy = InheritanceType.JOINED)
 public class SystemUser extends EntityVersion implements UserDetails {
 
@@ -36,6 +36,13 @@ public class SystemUser extends EntityVersion implements UserDetails {
     @Convert(converter = RoleConverter.class)
     protected List<Role> roles;
 
+    /**
+     * Время последней смены логина, пароля или ролей. Токены, выпущенные раньше, считаются отозванными.
+     * Колонка допускает null для пользователей, созданных до ее появления, для них используется время создания
+     */
+    @Column(name = "credentials_update_time")
+    protected LocalDateTime credentialsUpdateTime = LocalDateTime.now();
+
     public static Builder builder() {
         return new Builder();
     }
@@ -150,6 +157,14 @@ public class SystemUser extends EntityVersion implements UserDetails {
         this.roles = roles;
     }
 
+    public LocalDateTime getCredentialsUpdateTime() {
+        return credentialsUpdateTime;
+    }
+
+    public void setCredentialsUpdateTime(LocalDateTime credentialsUpdateTime) {
+        this.credentialsUpdateTime = credentialsUpdateTime;
+    }
+
     public void setUsername(String username) {
         this.username = username;
     }
@@ -2,9 +2,13 @@ package ru.tdd.user.database.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.tdd.user.database.entities.user.SystemUser;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,5 +23,22 @@ public interface SystemUserRepository extends JpaRepository<SystemUser, UUID>,
 
     boolean existsByUsername(String username);
 
+    /**
+     * Поиск пользователя любого типа по имени одним запросом.
+     * Наследование JOINED, поэтому таблица подтипа присоединяется левым соединением и
+     * возвращается сущность нужного подтипа. Поиск идет по уникальному индексу username
+     */
     Optional<SystemUser> findByUsername(String username);
+
+    /** Время последней смены учетных данных пользователя без загрузки сущности */
+    @Query("select coalesce(u.credentialsUpdateTime, u.creationTime) from SystemUser u where u.id = :id")
+    Optional<LocalDateTime> findCredentialsUpdateTimeById(@Param("id") UUID id);
+
+    /**
+     * Замена хэша пароля без изменения времени смены учетных данных,
+     * чтобы перехэширование при входе не отзывало выпущенные токены
+     */
+    @Modifying
+    @Query("update SystemUser u set u.password = :password where u.username = :username")
+    int updatePasswordByUsername(@Param("username") String username, @Param("password") String password);
 }
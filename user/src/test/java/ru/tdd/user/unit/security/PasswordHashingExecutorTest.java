@@ -0,0 +1,117 @@
+package ru.tdd.user.unit.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import ru.tdd.user.application.models.exceptions.PasswordHashingOverloadedException;
+import ru.tdd.user.application.security.PasswordHashingExecutor;
+import ru.tdd.user.application.security.PooledPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Набор unit тестов пула хэширования паролей
+ */
+class PasswordHashingExecutorTest {
+
+    private MeterRegistry meterRegistry;
+
+    private PasswordHashingExecutor hashingExecutor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hashingExecutor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5), Duration.ofSeconds(3), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashingExecutor.shutdown();
+    }
+
+    @Test
+    void encodeAndMatchesInPoolTest() {
+        PooledPasswordEncoder encoder = new PooledPasswordEncoder(new BCryptPasswordEncoder(4), hashingExecutor);
+
+        String encoded = encoder.encode("password");
+
+        Assertions.assertTrue(encoder.matches("password", encoded));
+        Assertions.assertFalse(encoder.matches("other", encoded));
+        Assertions.assertEquals(
+                1,
+                meterRegistry.get("password.hashing.duration").tag("operation", "encode").timer().count()
+        );
+        Assertions.assertEquals(
+                2,
+                meterRegistry.get("password.hashing.duration").tag("operation", "matches").timer().count()
+        );
+        Assertions.assertEquals(3, meterRegistry.get("password.hashing.queue.wait").timer().count());
+    }
+
+    @Test
+    void rejectWhenQueueIsFullTest() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> running = callers.submit(() -> hashingExecutor.encode(() -> {
+                started.countDown();
+                await(release);
+                return "running";
+            }));
+
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            Future<String> queued = callers.submit(() -> hashingExecutor.encode(() -> "queued"));
+
+            while (meterRegistry.get("password.hashing.queue.size").gauge().value() < 1) {
+                Thread.onSpinWait();
+            }
+
+            PasswordHashingOverloadedException actual = Assertions.assertThrows(
+                    PasswordHashingOverloadedException.class,
+                    () -> hashingExecutor.encode(() -> "rejected")
+            );
+
+            release.countDown();
+
+            Assertions.assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), actual.getStatusCode());
+            Assertions.assertEquals(3, actual.getRetryAfterSeconds());
+            Assertions.assertEquals("running", running.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(1, meterRegistry.get("password.hashing.rejected").counter().count());
+        }
+    }
+
+    @Test
+    void upgradeEncodingWhenStrengthIncreasedTest() {
+        String encoded = new BCryptPasswordEncoder(4).encode("password");
+
+        Assertions.assertTrue(
+                new PooledPasswordEncoder(new BCryptPasswordEncoder(5), hashingExecutor).upgradeEncoding(encoded)
+        );
+        Assertions.assertFalse(
+                new PooledPasswordEncoder(new BCryptPasswordEncoder(4), hashingExecutor).upgradeEncoding(encoded)
+        );
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
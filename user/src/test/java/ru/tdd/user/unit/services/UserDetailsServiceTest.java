@@ -0,0 +1,116 @@
+package ru.tdd.user.unit.services;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import ru.tdd.user.application.models.enums.Role;
+import ru.tdd.user.application.security.PrincipalCache;
+import ru.tdd.user.application.services.imp.UserDetailsServiceImp;
+import ru.tdd.user.database.entities.user.AppUser;
+import ru.tdd.user.database.repositories.SystemUserRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * @author Tribushko Danil
+ * @since 17.10.2026
+ * Набор unit тестов для загрузки пользователей при аутентификации
+ */
+@ExtendWith(MockitoExtension.class)
+class UserDetailsServiceTest {
+
+    @Mock
+    private SystemUserRepository systemUserRepository;
+
+    private PrincipalCache principalCache;
+
+    private UserDetailsServiceImp userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(100, Duration.ofMinutes(1));
+        userDetailsService = new UserDetailsServiceImp(systemUserRepository, principalCache);
+    }
+
+    @Test
+    void loadUserByUsernameOneQueryTest() {
+        AppUser user = AppUser.appUserBuilder()
+                .id(UUID.randomUUID())
+                .username("user")
+                .password("password")
+                .roles(List.of(Role.USER))
+                .build();
+
+        Mockito.when(systemUserRepository.findByUsername("user")).thenReturn(Optional.of(user));
+
+        UserDetails first = userDetailsService.loadUserByUsername("user");
+        UserDetails second = userDetailsService.loadUserByUsername("user");
+
+        Assertions.assertInstanceOf(AppUser.class, first);
+        Assertions.assertSame(first, second);
+        Mockito.verify(systemUserRepository, Mockito.times(1)).findByUsername("user");
+    }
+
+    @Test
+    void loadUserByUsernameAfterInvalidateTest() {
+        AppUser user = AppUser.appUserBuilder()
+                .id(UUID.randomUUID())
+                .username("user")
+                .password("password")
+                .roles(List.of(Role.USER))
+                .build();
+
+        Mockito.when(systemUserRepository.findByUsername("user")).thenReturn(Optional.of(user));
+
+        userDetailsService.loadUserByUsername("user");
+        principalCache.invalidate("user");
+        userDetailsService.loadUserByUsername("user");
+
+        Mockito.verify(systemUserRepository, Mockito.times(2)).findByUsername("user");
+    }
+
+    @Test
+    void loadUserByUsernameNotFoundTest() {
+        Mockito.when(systemUserRepository.findByUsername("user")).thenReturn(Optional.empty());
+
+        UsernameNotFoundException actual = Assertions.assertThrows(
+                UsernameNotFoundException.class,
+                () -> userDetailsService.loadUserByUsername("user")
+        );
+
+        Assertions.assertEquals("Пользователь user не найден", actual.getMessage());
+
+        Assertions.assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("user"));
+        Mockito.verify(systemUserRepository, Mockito.times(2)).findByUsername("user");
+    }
+
+    @Test
+    void updatePasswordKeepsUpdateTimeAndInvalidatesCacheTest() {
+        AppUser user = AppUser.appUserBuilder()
+                .id(UUID.randomUUID())
+                .username("user")
+                .password("old_hash")
+                .roles(List.of(Role.USER))
+                .build();
+
+        Mockito.when(systemUserRepository.findByUsername("user")).thenReturn(Optional.of(user));
+
+        userDetailsService.loadUserByUsername("user");
+        UserDetails actual = userDetailsService.updatePassword(user, "new_hash");
+        userDetailsService.loadUserByUsername("user");
+
+        Assertions.assertEquals("new_hash", actual.getPassword());
+        Mockito.verify(systemUserRepository).updatePasswordByUsername("user", "new_hash");
+        Mockito.verify(systemUserRepository, Mockito.never()).save(Mockito.any());
+        Mockito.verify(systemUserRepository, Mockito.times(2)).findByUsername("user");
+    }
+}
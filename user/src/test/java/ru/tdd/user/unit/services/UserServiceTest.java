@@ -8,27 +8,41 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import ru.tdd.core.application.exceptions.BadRequestException;
+import ru.tdd.core.application.utils.PageCursor;
+import ru.tdd.user.application.models.dto.GetUserListParametersDTO;
 import ru.tdd.user.application.models.dto.UpdateUserDTO;
 import ru.tdd.user.application.models.dto.UserDTO;
 import ru.tdd.user.application.models.dto.UserDetailsDTO;
+import ru.tdd.user.application.models.dto.UserListDTO;
 import ru.tdd.user.application.models.enums.Role;
 import ru.tdd.user.application.models.exceptions.AuthenticationException;
 import ru.tdd.user.application.models.exceptions.user.UserByEmailAlreadyExistsException;
 import ru.tdd.user.application.models.exceptions.user.UserByIdNotFoundException;
 import ru.tdd.user.application.models.exceptions.user.UserByUsernameAlreadyExistsException;
+import ru.tdd.user.application.security.PrincipalCache;
+import ru.tdd.user.application.security.UserVersionCache;
 import ru.tdd.user.application.services.imp.UserServiceImp;
 import ru.tdd.user.database.entities.user.AppUser;
 import ru.tdd.user.database.entities.user.SystemUser;
 import ru.tdd.user.database.repositories.AppUserRepository;
 import ru.tdd.user.database.repositories.SystemUserRepository;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+
+import static org.mockito.ArgumentMatchers.any;
 
 /**
  * @author Tribushko Danil
@@ -49,6 +63,12 @@ class UserServiceTest {
     @Mock
     private Authentication authentication;
 
+    @Mock
+    private UserVersionCache userVersionCache;
+
+    @Mock
+    private PrincipalCache principalCache;
+
     @InjectMocks
     private UserServiceImp userService;
 
@@ -86,6 +106,68 @@ class UserServiceTest {
         }
     }
 
+    @Test
+    void updateEmailKeepsTokenValidTest() {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime credentialsUpdateTime = LocalDateTime.now().minusMinutes(1);
+        Instant tokenIssuedAt = Instant.now().minusSeconds(30).truncatedTo(ChronoUnit.SECONDS);
+        SystemUser user = AppUser.appUserBuilder()
+                .id(userId)
+                .username("admin")
+                .password("123")
+                .roles(List.of(Role.ADMIN))
+                .build();
+        user.setCredentialsUpdateTime(credentialsUpdateTime);
+
+        try (MockedStatic<SecurityContextHolder> holder = Mockito.mockStatic(SecurityContextHolder.class)) {
+            holder.when(SecurityContextHolder::getContext).thenReturn(securityContext);
+
+            Mockito.when(securityContext.getAuthentication()).thenReturn(authentication);
+            Mockito.when(authentication.getPrincipal()).thenReturn(user);
+            Mockito.when(systemUserRepository.findById(userId)).thenReturn(Optional.of(user));
+            Mockito.when(appUserRepository.existsByEmail("new_email")).thenReturn(false);
+
+            userService.update(userId, new UpdateUserDTO(null, "new_email", null));
+        }
+
+        Mockito.when(systemUserRepository.findCredentialsUpdateTimeById(userId))
+                .thenReturn(Optional.of(user.getCredentialsUpdateTime()));
+        UserVersionCache versionCache = new UserVersionCache(100, Duration.ofSeconds(30), systemUserRepository);
+
+        Assertions.assertEquals(credentialsUpdateTime, user.getCredentialsUpdateTime());
+        Assertions.assertTrue(user.getUpdateTime().isAfter(credentialsUpdateTime));
+        Assertions.assertFalse(versionCache.isRevoked(userId, tokenIssuedAt));
+    }
+
+    @Test
+    void updatePasswordRevokesTokenTest() {
+        UUID userId = UUID.randomUUID();
+        Instant tokenIssuedAt = Instant.now().minusSeconds(30).truncatedTo(ChronoUnit.SECONDS);
+        SystemUser user = AppUser.appUserBuilder()
+                .id(userId)
+                .username("admin")
+                .password("123")
+                .roles(List.of(Role.ADMIN))
+                .build();
+        user.setCredentialsUpdateTime(LocalDateTime.now().minusMinutes(1));
+
+        try (MockedStatic<SecurityContextHolder> holder = Mockito.mockStatic(SecurityContextHolder.class)) {
+            holder.when(SecurityContextHolder::getContext).thenReturn(securityContext);
+
+            Mockito.when(securityContext.getAuthentication()).thenReturn(authentication);
+            Mockito.when(authentication.getPrincipal()).thenReturn(user);
+            Mockito.when(systemUserRepository.findById(userId)).thenReturn(Optional.of(user));
+
+            userService.update(userId, new UpdateUserDTO(null, null, "new_password"));
+        }
+
+        Mockito.when(systemUserRepository.findCredentialsUpdateTimeById(userId))
+                .thenReturn(Optional.of(user.getCredentialsUpdateTime()));
+        UserVersionCache versionCache = new UserVersionCache(100, Duration.ofSeconds(30), systemUserRepository);
+
+        Assertions.assertTrue(versionCache.isRevoked(userId, tokenIssuedAt));
+    }
+
     @Test
     void updateIsNotCurrentUserOwnerFailTest() {
         UUID userId = UUID.randomUUID();
@@ -308,4 +390,38 @@ class UserServiceTest {
         Assertions.assertEquals(HttpStatus.NOT_FOUND.value(), actual.getStatusCode());
         Assertions.assertEquals("Пользователь по указанному идентификатору не найден", actual.getMessage());
     }
+
+    @Test
+    void getAllByCursorSuccessTest() {
+        List<SystemUser> users = List.of(
+                AppUser.appUserBuilder().id(UUID.randomUUID()).username("first").roles(List.of(Role.USER)).build(),
+                AppUser.appUserBuilder().id(UUID.randomUUID()).username("second").roles(List.of(Role.USER)).build(),
+                AppUser.appUserBuilder().id(UUID.randomUUID()).username("third").roles(List.of(Role.USER)).build()
+        );
+
+        Mockito.when(systemUserRepository.findBy(any(Specification.class), any(Function.class)))
+                .thenReturn(users);
+
+        UserListDTO actual = userService.getAll(new GetUserListParametersDTO(), "", 0, 2);
+
+        Assertions.assertEquals(
+                List.of("first", "second"),
+                actual.getData().stream().map(UserDetailsDTO::getUsername).toList()
+        );
+        Assertions.assertEquals(
+                PageCursor.of(users.get(1).getCreationTime(), users.get(1).getId()),
+                PageCursor.decode(actual.getNext())
+        );
+    }
+
+    @Test
+    void getAllByCursorFailTest() {
+        BadRequestException actual = Assertions.assertThrows(
+                BadRequestException.class,
+                () -> userService.getAll(new GetUserListParametersDTO(), "not a cursor", 0, 2)
+        );
+
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST, actual.getStatusCode());
+        Assertions.assertEquals("Некорректный курсор страницы", actual.getMessage());
+    }
 }